@@ -0,0 +1,123 @@
+package capi.funding.api.infra.datasource;
+
+import capi.funding.api.infra.cache.LockingLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.*;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Time to serve {@code concurrency} simultaneous requests that miss a cache and load the entry with a query,
+ * through Hikari and the connection limit, on the default Tomcat-sized platform pool against one virtual thread
+ * per request. "caffeine" loads inside the cache's compute, like {@code Caffeine.build(loader)}, "locking"
+ * loads through {@link LockingLoadingCache}.
+ * Runs against the database configured for the application (CAPIFUNDING_DATABASE,
+ * CAPIFUNDING_DATABASE_USERNAME and CAPIFUNDING_DATABASE_PASSWORD). The virtual executor needs Java 21,
+ * on older runtimes its setup fails.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class VirtualThreadsBenchmark {
+
+    private static final int TOMCAT_MAX_THREADS = 200;
+    private static final int POOL_SIZE = 20;
+    private static final int CACHE_SIZE = 10_000;
+    private static final String QUERY = "SELECT CAST(? AS int8), pg_sleep(0.001)";
+
+    @Param({"1000", "5000"})
+    public int concurrency;
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    @Param({"caffeine", "locking"})
+    public String loading;
+
+    private final AtomicLong keys = new AtomicLong();
+
+    private ExecutorService executor;
+    private HikariDataSource hikariDataSource;
+    private DataSource dataSource;
+    private Function<Long, Long> cache;
+
+    @Setup
+    public void setUp() throws ReflectiveOperationException {
+        executor = threads.equals("virtual")
+                ? (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null)
+                : Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+
+        final HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:postgresql://" + System.getenv("CAPIFUNDING_DATABASE"));
+        config.setUsername(System.getenv("CAPIFUNDING_DATABASE_USERNAME"));
+        config.setPassword(System.getenv("CAPIFUNDING_DATABASE_PASSWORD"));
+        config.setMaximumPoolSize(POOL_SIZE);
+        config.setConnectionTimeout(10_000);
+
+        hikariDataSource = new HikariDataSource(config);
+        dataSource = new ConcurrencyLimitedDataSource(hikariDataSource, POOL_SIZE, Duration.ofSeconds(5));
+
+        if (loading.equals("caffeine")) {
+            final LoadingCache<Long, Long> loadingCache = Caffeine.newBuilder()
+                    .maximumSize(CACHE_SIZE)
+                    .build(this::query);
+            cache = loadingCache::get;
+        } else {
+            final LockingLoadingCache<Long, Long> lockingCache = new LockingLoadingCache<>(
+                    Caffeine.newBuilder().maximumSize(CACHE_SIZE).build(),
+                    this::query
+            );
+            cache = lockingCache::get;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+        hikariDataSource.close();
+    }
+
+    @Benchmark
+    public void requests() throws Exception {
+        final List<Future<Long>> futures = new ArrayList<>(concurrency);
+
+        for (int i = 0; i < concurrency; i++) {
+            final long key = keys.incrementAndGet();
+            futures.add(executor.submit(() -> cache.apply(key)));
+        }
+
+        for (Future<Long> future : futures) {
+            future.get();
+        }
+    }
+
+    private Long query(Long key) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(QUERY)) {
+            statement.setLong(1, key);
+
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        } catch (SQLException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package capi.funding.api.infra.search;
+
+import capi.funding.api.dto.ProjectSearchDocument;
+import capi.funding.api.repository.ProjectRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Project listing filters answered by the in-memory index over a synthetic catalog.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectSearchIndexBenchmark {
+
+    private static final String[] WORDS = {
+            "horta", "comunitária", "biblioteca", "escola", "música", "esporte", "tecnologia", "saúde",
+            "reciclagem", "cinema", "teatro", "robótica", "jardim", "bairro", "oficina", "cozinha"
+    };
+    private static final String[] NAMES = {"João", "Maria", "Ana", "Pedro", "Lucas", "Júlia", "Silva", "Souza"};
+
+    @Param({"10000"})
+    public int projects;
+
+    private ProjectSearchIndex index;
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+        final List<ProjectSearchDocument> documents = new ArrayList<>(projects);
+
+        for (int i = 1; i <= projects; i++) {
+            documents.add(document(
+                    i,
+                    WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)],
+                    1 + random.nextInt(8),
+                    1 + random.nextInt(7),
+                    NAMES[random.nextInt(NAMES.length)] + " " + NAMES[random.nextInt(NAMES.length)],
+                    BigDecimal.valueOf(random.nextInt(100_000))
+            ));
+        }
+
+        final ProjectRepository projectRepository = mock(ProjectRepository.class);
+        when(projectRepository.findAllSearchDocuments()).thenReturn(documents);
+
+        index = new ProjectSearchIndex(projectRepository, true);
+        index.refresh();
+    }
+
+    @Benchmark
+    public int[] noFilters() {
+        return index.search("", List.of(), List.of(), "");
+    }
+
+    @Benchmark
+    public int[] titlePrefix() {
+        return index.search("comun", List.of(), List.of(), "");
+    }
+
+    @Benchmark
+    public int[] allFilters() {
+        return index.search("horta bairro", List.of(1, 2, 3), List.of(2, 3), "silva");
+    }
+
+    @Benchmark
+    public ProjectSearchPage firstPage() {
+        return index.searchPage("", List.of(), List.of(), "", 0, 10);
+    }
+
+    @Benchmark
+    public ProjectSearchPage deepPage() {
+        return index.searchPage("", List.of(), List.of(), "", 500, 10);
+    }
+
+    @Benchmark
+    public void indexUpdate() {
+        index.updateTotalRaised(1 + ThreadLocalRandom.current().nextInt(projects),
+                BigDecimal.valueOf(ThreadLocalRandom.current().nextInt(100_000)));
+    }
+
+    private static ProjectSearchDocument document(
+            long id, String title, int categoryId, int statusId, String creatorName, BigDecimal totalRaised
+    ) {
+        return new ProjectSearchDocument() {
+            @Override
+            public long getProjectId() {
+                return id;
+            }
+
+            @Override
+            public String getTitle() {
+                return title;
+            }
+
+            @Override
+            public int getCategoryId() {
+                return categoryId;
+            }
+
+            @Override
+            public int getStatusId() {
+                return statusId;
+            }
+
+            @Override
+            public String getCreatorName() {
+                return creatorName;
+            }
+
+            @Override
+            public BigDecimal getTotalRaised() {
+                return totalRaised;
+            }
+        };
+    }
+}
@@ -0,0 +1,77 @@
+package capi.funding.api.security;
+
+import capi.funding.api.entity.User;
+import capi.funding.api.repository.UserRepository;
+import capi.funding.api.services.JwtService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Token recovery, token validation and principal lookup for an authenticated request, with a warm cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SecurityFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    private SecurityFilter securityFilter;
+
+    private MockHttpServletRequest authenticatedRequest;
+    private MockHttpServletRequest anonymousRequest;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        final User user = new User(
+                1L, "benchmark@gmail.com", "password", "benchmark", true, LocalDateTime.now(), null
+        );
+
+        final UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+
+        final TokenService tokenService = new TokenService(
+                new JwtService(), "capi.funding.benchmark-secret", 10_000, Duration.ofMinutes(5)
+        );
+        final UserPrincipalCache usersCache = new UserPrincipalCache(
+                userRepository, new SimpleMeterRegistry(), 1024 * 1024, Duration.ofMinutes(30), Duration.ofMinutes(10)
+        );
+
+        securityFilter = new SecurityFilter(tokenService, usersCache);
+
+        authenticatedRequest = new MockHttpServletRequest("GET", "/project");
+        authenticatedRequest.addHeader("Authorization", "Bearer " + tokenService.generateToken(user));
+        anonymousRequest = new MockHttpServletRequest("GET", "/auth/login");
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public void authenticatedRequest() throws ServletException, IOException {
+        securityFilter.doFilterInternal(authenticatedRequest, response, NO_OP_CHAIN);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void anonymousRequest() throws ServletException, IOException {
+        securityFilter.doFilterInternal(anonymousRequest, response, NO_OP_CHAIN);
+    }
+}
@@ -0,0 +1,60 @@
+package capi.funding.api.security;
+
+import capi.funding.api.entity.User;
+import capi.funding.api.services.JwtService;
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tokens per second for the previous per-request verification (new Algorithm and verifier on every call)
+ * against the shared verifier and the verified-token cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenServiceBenchmark {
+
+    private static final String SECRET = "capi.funding.benchmark-secret";
+
+    private TokenService tokenService;
+    private TokenService uncachedTokenService;
+
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenService = new TokenService(new JwtService(), SECRET, 10_000, Duration.ofMinutes(5));
+        uncachedTokenService = new TokenService(new JwtService(), SECRET, 0, Duration.ofMinutes(5));
+
+        token = tokenService.generateToken(new User(
+                1L, "benchmark@gmail.com", "password", "benchmark", true, LocalDateTime.now(), null
+        ));
+    }
+
+    @Benchmark
+    public String perRequestVerifier() {
+        return JWT.require(Algorithm.HMAC256(SECRET))
+                .withIssuer("capifunding-api")
+                .build()
+                .verify(token)
+                .getSubject();
+    }
+
+    @Benchmark
+    public String sharedVerifier() {
+        return uncachedTokenService.validateToken(token);
+    }
+
+    @Benchmark
+    public String sharedVerifierWithCache() {
+        return tokenService.validateToken(token);
+    }
+}
@@ -0,0 +1,88 @@
+package capi.funding.api.utils;
+
+import capi.funding.api.dto.ProjectsListFiltersDTO;
+import capi.funding.api.entity.User;
+import capi.funding.api.infra.searchlog.ProjectSearchLogQueue;
+import capi.funding.api.infra.trending.SearchTrendTracker;
+import capi.funding.api.repository.ProjectSearchLogBatchRepository;
+import capi.funding.api.repository.SearchTrendCheckpointRepository;
+import capi.funding.api.services.ProjectSearchLogService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Filter normalisation and search logging done by every project listing request.
+ * The search log queue is drained by its flusher into a no-op repository.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectUtilsBenchmark {
+
+    private ProjectUtils projectUtils;
+    private ProjectSearchLogQueue searchLogQueue;
+
+    @Setup
+    public void setUp() {
+        final User user = new User(
+                1L, "benchmark@gmail.com", "password", "benchmark", true, LocalDateTime.now(), null
+        );
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities())
+        );
+
+        searchLogQueue = new ProjectSearchLogQueue(
+                mock(ProjectSearchLogBatchRepository.class), new SimpleMeterRegistry(), 10_000, 500, 100
+        );
+        searchLogQueue.start();
+
+        projectUtils = new ProjectUtils(
+                new Utils(null),
+                null,
+                new ProjectSearchLogService(searchLogQueue, null, 30),
+                new SearchTrendTracker(mock(SearchTrendCheckpointRepository.class), true, 100)
+        );
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        searchLogQueue.shutdown();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public ProjectsListFiltersDTO buildFilters() {
+        final ProjectsListFiltersDTO filters = newFilters();
+
+        projectUtils.buildFilters(filters);
+
+        return filters;
+    }
+
+    @Benchmark
+    public ProjectsListFiltersDTO buildFiltersAndLogSearch() {
+        final ProjectsListFiltersDTO filters = newFilters();
+
+        projectUtils.buildFilters(filters);
+        projectUtils.logProjectSearch(filters);
+
+        return filters;
+    }
+
+    private static ProjectsListFiltersDTO newFilters() {
+        return new ProjectsListFiltersDTO(
+                "  Sustainable Farming ", List.of(1, 3), List.of(2), "Gabriel", 3L, 10L
+        );
+    }
+}
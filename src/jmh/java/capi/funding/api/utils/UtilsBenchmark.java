@@ -0,0 +1,70 @@
+package capi.funding.api.utils;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Image upload validation and compression for each accepted extension.
+ * png and webp are stored as uploaded, the other extensions go through Thumbnailator.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UtilsBenchmark {
+
+    @Benchmark
+    public byte[] checkImageValidityAndCompress(ImageState state) {
+        return state.utils.checkImageValidityAndCompress(state.file);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public int getCompressedSize(FileSizeState state) {
+        return state.utils.getCompressedSize(state.file);
+    }
+
+    @State(Scope.Benchmark)
+    public static class ImageState {
+
+        @Param({"jpg", "jpeg", "jfif", "png", "webp"})
+        public String extension;
+
+        private Utils utils;
+        private MockMultipartFile file;
+
+        @Setup
+        public void setUp() throws IOException {
+            utils = new Utils(null);
+
+            try (InputStream image = Objects.requireNonNull(
+                    getClass().getClassLoader().getResourceAsStream("test-normal-image.jpeg")
+            )) {
+                file = new MockMultipartFile("file", "image." + extension, "image/" + extension, image);
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class FileSizeState {
+
+        @Param({"10000", "300000", "2900000"})
+        public int fileSize;
+
+        private Utils utils;
+        private byte[] file;
+
+        @Setup
+        public void setUp() {
+            utils = new Utils(null);
+            file = new byte[fileSize];
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package capi.funding.api.controllers;
 
+import capi.funding.api.dto.ContributionBatchResult;
 import capi.funding.api.dto.CreateContributionDTO;
 import capi.funding.api.entity.Contribution;
 import capi.funding.api.services.ContributionService;
@@ -42,4 +43,11 @@ public class ContributionController {
                 contribution
         );
     }
+
+    @PostMapping("/batch")
+    public ResponseEntity<List<ContributionBatchResult>> createBatch(@RequestBody List<CreateContributionDTO> dtos) {
+        return ResponseEntity.ok(
+                contributionService.createBatch(dtos)
+        );
+    }
 }
@@ -0,0 +1,27 @@
+package capi.funding.api.controllers;
+
+import capi.funding.api.dto.ImageJobDTO;
+import capi.funding.api.services.ImageProcessingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.UUID;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/image-job")
+public class ImageJobController {
+
+    private final ImageProcessingService imageProcessingService;
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ImageJobDTO> findById(@PathVariable UUID id) {
+        return ResponseEntity.ok(
+                imageProcessingService.findJob(id)
+        );
+    }
+}
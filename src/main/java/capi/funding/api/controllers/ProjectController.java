@@ -2,15 +2,20 @@ package capi.funding.api.controllers;
 
 import capi.funding.api.dto.CreateProjectDTO;
 import capi.funding.api.dto.EditProjectDTO;
+import capi.funding.api.dto.ImageJobDTO;
 import capi.funding.api.dto.ProjectsListDTO;
 import capi.funding.api.dto.ProjectsListFiltersDTO;
 import capi.funding.api.entity.Project;
+import capi.funding.api.enums.ImageVariantType;
+import capi.funding.api.enums.ProjectsListCountMode;
 import capi.funding.api.services.ProjectService;
+import capi.funding.api.utils.Utils;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.net.URI;
@@ -21,6 +26,7 @@ import java.util.List;
 @RequestMapping("/project")
 public class ProjectController {
 
+    private final Utils utils;
     private final ProjectService projectService;
 
     @GetMapping
@@ -29,7 +35,10 @@ public class ProjectController {
             @RequestParam(required = false) List<Integer> projectCategory,
             @RequestParam(required = false) List<Integer> projectStatus,
             @RequestParam(required = false, defaultValue = "") String creatorName,
-            @RequestParam(required = false, defaultValue = "1") @Positive Long pageNumber
+            @RequestParam(required = false, defaultValue = "1") @Positive Long pageNumber,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "false") boolean orderByRelevance,
+            @RequestParam(required = false, defaultValue = "exact") String countMode
     ) {
         final ProjectsListFiltersDTO filtersDTO = new ProjectsListFiltersDTO(
                 projectTitle,
@@ -40,8 +49,20 @@ public class ProjectController {
                 10L
         );
 
+        if (orderByRelevance) {
+            return ResponseEntity.ok(
+                    projectService.getProjectsListByRelevance(filtersDTO, cursor)
+            );
+        }
+
+        if (cursor != null) {
+            return ResponseEntity.ok(
+                    projectService.getProjectsListByCursor(filtersDTO, cursor)
+            );
+        }
+
         return ResponseEntity.ok(
-                projectService.getProjectsList(filtersDTO)
+                projectService.getProjectsList(filtersDTO, ProjectsListCountMode.fromValue(countMode))
         );
     }
 
@@ -52,6 +73,17 @@ public class ProjectController {
         );
     }
 
+    @GetMapping("/{id}/cover-image")
+    public ResponseEntity<byte[]> getCoverImage(@PathVariable long id, @RequestParam(required = false) String variant, WebRequest request) {
+        final ImageVariantType variantType = ImageVariantType.fromValue(variant);
+
+        return utils.buildImageResponse(
+                request,
+                projectService.getCoverImageMetadata(id, variantType),
+                () -> projectService.getCoverImage(id, variantType)
+        );
+    }
+
     @PostMapping
     public ResponseEntity<Project> createNew(@RequestBody @Valid CreateProjectDTO createProjectDTO) {
         final Project savedProject = projectService.createNew(createProjectDTO);
@@ -77,6 +109,17 @@ public class ProjectController {
         );
     }
 
+    @PatchMapping("/{id}/add-cover-image/async")
+    public ResponseEntity<ImageJobDTO> addCoverImageAsync(@PathVariable long id, @RequestParam MultipartFile file) {
+        final ImageJobDTO job = projectService.addCoverImageAsync(id, file);
+
+        final URI uri = URI.create(
+                "/image-job/" + job.id()
+        );
+
+        return ResponseEntity.accepted().location(uri).body(job);
+    }
+
     @PatchMapping("/{id}/remove-cover-image")
     public ResponseEntity<Project> removeCoverImage(@PathVariable long id) {
         return ResponseEntity.ok(
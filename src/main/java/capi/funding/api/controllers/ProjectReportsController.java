@@ -6,12 +6,14 @@ import capi.funding.api.dto.ProjectsListDTO;
 import capi.funding.api.services.ProjectReportsService;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -30,19 +32,25 @@ public class ProjectReportsController {
 
     @GetMapping("/most-searched")
     public ResponseEntity<ProjectsListDTO> getMostSearchedProjects(
-            @RequestParam(defaultValue = "1") @Positive int pageNumber
+            @RequestParam(defaultValue = "1") @Positive int pageNumber,
+            @RequestParam(required = false) String window,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
     ) {
         return ResponseEntity.ok(
-                service.getMostSearchedProjects(pageNumber)
+                service.getMostSearchedProjects(pageNumber, window, from, to)
         );
     }
 
     @GetMapping("/top-donated")
     public ResponseEntity<ProjectsListDTO> getTopDonatedProjects(
-            @RequestParam(defaultValue = "1") @Positive int pageNumber
+            @RequestParam(defaultValue = "1") @Positive int pageNumber,
+            @RequestParam(required = false) String window,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
     ) {
         return ResponseEntity.ok(
-                service.getTopDonatedProjects(pageNumber)
+                service.getTopDonatedProjects(pageNumber, window, from, to)
         );
     }
 
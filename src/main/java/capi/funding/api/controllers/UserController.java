@@ -1,20 +1,27 @@
 package capi.funding.api.controllers;
 
 import capi.funding.api.dto.EditUserDTO;
+import capi.funding.api.dto.ImageJobDTO;
 import capi.funding.api.dto.NewPasswordDTO;
 import capi.funding.api.entity.User;
+import capi.funding.api.enums.ImageVariantType;
 import capi.funding.api.services.UserService;
+import capi.funding.api.utils.Utils;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.net.URI;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/user")
 public class UserController {
 
+    private final Utils utils;
     private final UserService service;
 
     @GetMapping("/get-token-user")
@@ -24,6 +31,17 @@ public class UserController {
         );
     }
 
+    @GetMapping("/{id}/profile-image")
+    public ResponseEntity<byte[]> getProfileImage(@PathVariable long id, @RequestParam(required = false) String variant, WebRequest request) {
+        final ImageVariantType variantType = ImageVariantType.fromValue(variant);
+
+        return utils.buildImageResponse(
+                request,
+                service.getProfileImageMetadata(id, variantType),
+                () -> service.getProfileImage(id, variantType)
+        );
+    }
+
     @PutMapping("/change-password")
     public ResponseEntity<User> changePassword(@RequestParam @Valid NewPasswordDTO newPassword) {
         return ResponseEntity.ok(
@@ -45,6 +63,17 @@ public class UserController {
         );
     }
 
+    @PatchMapping("/change-image/async")
+    public ResponseEntity<ImageJobDTO> changeProfileImageAsync(@RequestParam MultipartFile file) {
+        final ImageJobDTO job = service.changeProfileImageAsync(file);
+
+        final URI uri = URI.create(
+                "/image-job/" + job.id()
+        );
+
+        return ResponseEntity.accepted().location(uri).body(job);
+    }
+
     @PatchMapping("/remove-image")
     public ResponseEntity<User> removeProfileImage() {
         return ResponseEntity.ok(
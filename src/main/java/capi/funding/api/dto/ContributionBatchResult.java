@@ -0,0 +1,19 @@
+package capi.funding.api.dto;
+
+/**
+ * Outcome of one item of a contribution batch, {@code index} is its position in the request.
+ * Either {@code id} or {@code error} is set.
+ */
+public record ContributionBatchResult(
+        int index,
+        Long id,
+        String error
+) {
+    public static ContributionBatchResult created(int index, long id) {
+        return new ContributionBatchResult(index, id, null);
+    }
+
+    public static ContributionBatchResult rejected(int index, String error) {
+        return new ContributionBatchResult(index, null, error);
+    }
+}
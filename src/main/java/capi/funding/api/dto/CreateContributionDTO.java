@@ -9,11 +9,12 @@ import java.math.BigDecimal;
 
 public record CreateContributionDTO(
         @NotNull
-        @Positive
+        @Positive(message = "project id must be valid")
         long project_id,
 
+        @NotNull(message = "the value is required")
         @Positive
-        @Digits(integer = 15, fraction = 2)
+        @Digits(integer = 13, fraction = 2, message = "the value must have at most 13 integer digits and 2 decimals")
         BigDecimal value
 ) {
     public Contribution toContribution() {
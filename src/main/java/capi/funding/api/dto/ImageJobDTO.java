@@ -0,0 +1,14 @@
+package capi.funding.api.dto;
+
+import capi.funding.api.enums.ImageJobStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.UUID;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ImageJobDTO(
+        UUID id,
+        ImageJobStatus status,
+        String error
+) {
+}
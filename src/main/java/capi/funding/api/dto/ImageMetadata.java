@@ -0,0 +1,9 @@
+package capi.funding.api.dto;
+
+import java.time.LocalDateTime;
+
+public interface ImageMetadata {
+    String getHash();
+
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,8 @@
+package capi.funding.api.dto;
+
+public record OutboxEmail(
+        long id,
+        EmailDTO email,
+        int attempts
+) {
+}
@@ -0,0 +1,11 @@
+package capi.funding.api.dto;
+
+import capi.funding.api.enums.ImageVariantType;
+
+import java.util.Map;
+
+public record ProcessedImageDTO(
+        byte[] image,
+        Map<ImageVariantType, byte[]> variants
+) {
+}
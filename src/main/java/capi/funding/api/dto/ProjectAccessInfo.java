@@ -0,0 +1,15 @@
+package capi.funding.api.dto;
+
+import java.time.LocalDate;
+
+/**
+ * The columns of a project read by the permission and editability checks.
+ */
+public record ProjectAccessInfo(
+        long id,
+        long creatorId,
+        long statusId,
+        boolean needToFollowOrder,
+        LocalDate finalDate
+) {
+}
@@ -0,0 +1,17 @@
+package capi.funding.api.dto;
+
+import java.math.BigDecimal;
+
+public interface ProjectSearchDocument {
+    long getProjectId();
+
+    String getTitle();
+
+    int getCategoryId();
+
+    int getStatusId();
+
+    String getCreatorName();
+
+    BigDecimal getTotalRaised();
+}
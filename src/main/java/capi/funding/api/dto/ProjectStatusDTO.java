@@ -0,0 +1,7 @@
+package capi.funding.api.dto;
+
+public interface ProjectStatusDTO {
+    long getId();
+
+    long getStatusId();
+}
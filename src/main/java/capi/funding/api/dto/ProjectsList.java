@@ -1,16 +1,31 @@
 package capi.funding.api.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.math.BigDecimal;
+
 @SuppressWarnings("unused")
 public interface ProjectsList {
     long getProjectId();
 
     String getProjectTitle();
 
-    byte[] getCoverImage();
+    @JsonIgnore
+    String getCoverImageHash();
+
+    @JsonIgnore
+    String getCoverImageVariant();
+
+    @JsonIgnore
+    Long getCreatorId();
 
     String getCreatorName();
 
-    byte[] getCreatorProfileImage();
+    @JsonIgnore
+    String getCreatorProfileImageHash();
+
+    @JsonIgnore
+    String getCreatorProfileImageVariant();
 
     int getRemainingDays();
 
@@ -19,4 +34,28 @@ public interface ProjectsList {
     String getCategory();
 
     String getStatus();
+
+    @JsonIgnore
+    BigDecimal getTotalRaised();
+
+    /**
+     * Window count of the whole result, only selected by the queries that return the page and its total together
+     */
+    @JsonIgnore
+    Long getTotalRegisters();
+
+    default String getCoverImageUrl() {
+        if (getCoverImageHash() == null) return null;
+        return "/project/" + getProjectId() + "/cover-image?" + variantParam(getCoverImageVariant()) + "v=" + getCoverImageHash();
+    }
+
+    default String getCreatorProfileImageUrl() {
+        if (getCreatorProfileImageHash() == null) return null;
+        return "/user/" + getCreatorId() + "/profile-image?" + variantParam(getCreatorProfileImageVariant()) + "v=" + getCreatorProfileImageHash();
+    }
+
+    // falls back to the full image while the variants of a new upload are not generated yet
+    private static String variantParam(String variant) {
+        return variant == null ? "" : "variant=" + variant + "&";
+    }
 }
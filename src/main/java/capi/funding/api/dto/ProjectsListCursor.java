@@ -0,0 +1,9 @@
+package capi.funding.api.dto;
+
+import java.math.BigDecimal;
+
+public record ProjectsListCursor(
+        BigDecimal totalRaised,
+        long projectId
+) {
+}
@@ -1,9 +1,21 @@
 package capi.funding.api.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import java.util.List;
 
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record ProjectsListDTO(
         Long totalRegisters,
-        List<ProjectsList> projectsLists
+        List<ProjectsList> projectsLists,
+        String nextCursor,
+        Boolean hasMore
 ) {
+    public ProjectsListDTO(Long totalRegisters, List<ProjectsList> projectsLists) {
+        this(totalRegisters, projectsLists, null, null);
+    }
+
+    public ProjectsListDTO(Long totalRegisters, List<ProjectsList> projectsLists, String nextCursor) {
+        this(totalRegisters, projectsLists, nextCursor, null);
+    }
 }
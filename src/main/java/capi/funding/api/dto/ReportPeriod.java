@@ -0,0 +1,14 @@
+package capi.funding.api.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Half-open range {@code [start, end)} of a windowed report. Hourly periods read the hourly rollups,
+ * the others read the daily rollups and must start and end at midnight.
+ */
+public record ReportPeriod(
+        LocalDateTime start,
+        LocalDateTime end,
+        boolean hourly
+) {
+}
@@ -0,0 +1,44 @@
+package capi.funding.api.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "image_variant")
+public class ImageVariant {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 10)
+    private String owner_type;
+
+    @Column(nullable = false)
+    private long owner_id;
+
+    @Column(nullable = false, length = 10)
+    private String variant;
+
+    @Column(nullable = false)
+    private byte[] content;
+
+    @Column(nullable = false, length = 64)
+    private String hash;
+
+    // hash of the full image this variant was generated from, a variant is only served while it matches
+    @Column(nullable = false, length = 64)
+    private String source_hash;
+
+    @Column(nullable = false)
+    private LocalDateTime updated_at;
+}
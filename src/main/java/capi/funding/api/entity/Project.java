@@ -2,6 +2,8 @@ package capi.funding.api.entity;
 
 import capi.funding.api.dto.CreateProjectDTO;
 import capi.funding.api.dto.EditProjectDTO;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.PastOrPresent;
@@ -10,6 +12,8 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -19,6 +23,8 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "project")
 @Table(name = "project")
 public class Project {
 
@@ -59,7 +65,9 @@ public class Project {
     @Column(nullable = false)
     private LocalDate final_date;
 
-    private byte[] cover_image;
+    @JsonIgnore
+    @Column(length = 64, insertable = false, updatable = false)
+    private String cover_image_hash;
 
     public Project(CreateProjectDTO dto) {
         this.title = dto.title();
@@ -73,6 +81,11 @@ public class Project {
         this.initial_date = dto.initial_date();
     }
 
+    @JsonProperty("cover_image_url")
+    public String getCoverImageUrl() {
+        return cover_image_hash == null ? null : "/project/" + id + "/cover-image";
+    }
+
     public void updateValues(EditProjectDTO dto) {
         if (dto.title() != null && !dto.title().isBlank()) {
             this.title = dto.title();
@@ -0,0 +1,36 @@
+package capi.funding.api.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "project_funding_summary")
+public class ProjectFundingSummary {
+
+    @Id
+    private Long project_id;
+
+    @Column(nullable = false, precision = 20, scale = 2)
+    private BigDecimal total_raised;
+
+    @Column(nullable = false)
+    private long total_contributions;
+
+    @Column(nullable = false, precision = 20, scale = 2)
+    private BigDecimal contribution_goal;
+
+    @Column(insertable = false, updatable = false)
+    private BigDecimal percentage_raised;
+}
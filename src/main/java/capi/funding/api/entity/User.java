@@ -2,6 +2,8 @@ package capi.funding.api.entity;
 
 import capi.funding.api.dto.CreateUserDTO;
 import capi.funding.api.dto.EditUserDTO;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.AllArgsConstructor;
@@ -51,7 +53,9 @@ public class User implements UserDetails {
     @Column(nullable = false, updatable = false)
     private LocalDateTime creation_date;
 
-    private byte[] profile_image;
+    @JsonIgnore
+    @Column(length = 64, insertable = false, updatable = false)
+    private String profile_image_hash;
 
     public User(CreateUserDTO dto) {
         this.email = dto.email();
@@ -65,6 +69,11 @@ public class User implements UserDetails {
         this.name = dto.name();
     }
 
+    @JsonProperty("profile_image_url")
+    public String getProfileImageUrl() {
+        return profile_image_hash == null ? null : "/user/" + id + "/profile-image";
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return List.of();
@@ -0,0 +1,8 @@
+package capi.funding.api.enums;
+
+public enum ImageJobStatus {
+    PENDING,
+    PROCESSING,
+    DONE,
+    FAILED
+}
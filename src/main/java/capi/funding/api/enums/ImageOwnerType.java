@@ -0,0 +1,15 @@
+package capi.funding.api.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum ImageOwnerType {
+    PROJECT("project"),
+    USER("user");
+
+    private final String value;
+
+    ImageOwnerType(String value) {
+        this.value = value;
+    }
+}
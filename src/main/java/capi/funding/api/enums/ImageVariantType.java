@@ -0,0 +1,35 @@
+package capi.funding.api.enums;
+
+import capi.funding.api.infra.exceptions.InvalidParametersException;
+import lombok.Getter;
+
+@Getter
+public enum ImageVariantType {
+    THUMB("thumb", 96),
+    CARD("card", 400);
+
+    private final String value;
+    private final int size;
+
+    ImageVariantType(String value, int size) {
+        this.value = value;
+        this.size = size;
+    }
+
+    /**
+     * @return the variant matching the request parameter, or null when no variant was asked for
+     */
+    public static ImageVariantType fromValue(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        for (ImageVariantType variant : values()) {
+            if (variant.value.equalsIgnoreCase(value)) {
+                return variant;
+            }
+        }
+
+        throw new InvalidParametersException("invalid image variant");
+    }
+}
@@ -0,0 +1,30 @@
+package capi.funding.api.enums;
+
+import capi.funding.api.infra.exceptions.InvalidParametersException;
+import lombok.Getter;
+
+@Getter
+public enum ProjectsListCountMode {
+    EXACT("exact"),
+    HAS_MORE("has-more");
+
+    private final String value;
+
+    ProjectsListCountMode(String value) {
+        this.value = value;
+    }
+
+    public static ProjectsListCountMode fromValue(String value) {
+        if (value == null || value.isBlank()) {
+            return EXACT;
+        }
+
+        for (ProjectsListCountMode mode : values()) {
+            if (mode.value.equalsIgnoreCase(value)) {
+                return mode;
+            }
+        }
+
+        throw new InvalidParametersException("invalid count mode");
+    }
+}
@@ -0,0 +1,43 @@
+package capi.funding.api.enums;
+
+import capi.funding.api.infra.exceptions.InvalidParametersException;
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public enum ReportWindow {
+    LAST_24_HOURS("24h", Duration.ofHours(24)),
+    LAST_7_DAYS("7d", Duration.ofDays(7)),
+    LAST_30_DAYS("30d", Duration.ofDays(30));
+
+    /**
+     * The windows are answered from the hourly rollups, which must be kept at least this long
+     */
+    public static final int HOURLY_ROLLUP_RETENTION_DAYS = 31;
+
+    private final String value;
+    private final Duration duration;
+
+    ReportWindow(String value, Duration duration) {
+        this.value = value;
+        this.duration = duration;
+    }
+
+    /**
+     * @return the window matching the request parameter, or null when no window was asked for
+     */
+    public static ReportWindow fromValue(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+
+        for (ReportWindow window : values()) {
+            if (window.value.equalsIgnoreCase(value)) {
+                return window;
+            }
+        }
+
+        throw new InvalidParametersException("invalid report window");
+    }
+}
@@ -0,0 +1,64 @@
+package capi.funding.api.infra.access;
+
+import capi.funding.api.dto.ProjectAccessInfo;
+import capi.funding.api.infra.cache.LockingLoadingCache;
+import capi.funding.api.infra.exceptions.NotFoundException;
+import capi.funding.api.repository.ProjectRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * {@link ProjectAccessInfo} by project id, so the checks before a mutation skip loading the whole project.
+ * Entries are invalidated whenever the project status or settings change, the expiration only bounds how long
+ * another instance's changes can go unnoticed.
+ */
+@Component
+public class ProjectAccessCache {
+
+    private final ProjectRepository projectRepository;
+
+    private final LockingLoadingCache<Long, ProjectAccessInfo> cache;
+
+    public ProjectAccessCache(
+            ProjectRepository projectRepository,
+            MeterRegistry meterRegistry,
+            @Value("${api.projects.access-cache.maximum-size:10000}") long maximumSize,
+            @Value("${api.projects.access-cache.expire-after-write:PT10M}") Duration expireAfterWrite
+    ) {
+        this.projectRepository = projectRepository;
+        this.cache = new LockingLoadingCache<>(
+                Caffeine.newBuilder()
+                        .maximumSize(maximumSize)
+                        .expireAfterWrite(expireAfterWrite)
+                        .recordStats()
+                        .build(),
+                this::load
+        );
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.cache(), "projects-access");
+    }
+
+    public ProjectAccessInfo get(long projectId) {
+        final ProjectAccessInfo accessInfo = cache.get(projectId);
+
+        if (accessInfo == null) {
+            throw new NotFoundException("project not found");
+        }
+
+        return accessInfo;
+    }
+
+    public void invalidate(long projectId) {
+        cache.invalidate(projectId);
+    }
+
+    private ProjectAccessInfo load(long projectId) {
+        return projectRepository.findAccessInfo(projectId)
+                .orElse(null);
+    }
+}
@@ -0,0 +1,96 @@
+package capi.funding.api.infra.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import lombok.NonNull;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Loads the misses of a Caffeine cache on the calling thread, under a striped {@link ReentrantLock}, so
+ * concurrent misses of a key still wait on a single load.
+ * <p>
+ * Caffeine runs its loads inside {@code ConcurrentHashMap.compute}, which holds a {@code synchronized} bin lock.
+ * A virtual thread blocking on JDBC in there stays pinned to its carrier, and with the connections limited by
+ * a fair semaphore the pinned carriers can starve the threads holding the permits until the acquire timeout.
+ * Loaders that block must go through this class instead of {@code Caffeine.build(loader)}, the loader passed
+ * to the cache itself is only used by background refreshes, which run on the cache's executor.
+ */
+public class LockingLoadingCache<K, V> {
+
+    private static final int STRIPES = 64;
+
+    private final Cache<K, V> cache;
+    private final Function<K, V> loader;
+    private final ReentrantLock[] locks;
+
+    public LockingLoadingCache(@NonNull Cache<K, V> cache, @NonNull Function<K, V> loader) {
+        this.cache = cache;
+        this.loader = loader;
+        this.locks = new ReentrantLock[STRIPES];
+
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * @return the cached or loaded value, null when the loader returns null, which isn't cached
+     */
+    public V get(@NonNull K key) {
+        final V cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        final ReentrantLock lock = lockOf(key);
+        lock.lock();
+        try {
+            final V loadedMeanwhile = cache.policy().getIfPresentQuietly(key);
+            if (loadedMeanwhile != null) {
+                return loadedMeanwhile;
+            }
+
+            final V value = loader.apply(key);
+            if (value != null) {
+                cache.put(key, value);
+            }
+
+            return value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // waits for a load of the key in progress, so it can't cache a value read before the change
+    public void invalidate(@NonNull K key) {
+        final ReentrantLock lock = lockOf(key);
+        lock.lock();
+        try {
+            cache.invalidate(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        for (ReentrantLock lock : locks) {
+            lock.lock();
+        }
+        try {
+            cache.invalidateAll();
+        } finally {
+            for (ReentrantLock lock : locks) {
+                lock.unlock();
+            }
+        }
+    }
+
+    public Cache<K, V> cache() {
+        return cache;
+    }
+
+    private ReentrantLock lockOf(K key) {
+        return locks[Math.floorMod(key.hashCode(), STRIPES)];
+    }
+}
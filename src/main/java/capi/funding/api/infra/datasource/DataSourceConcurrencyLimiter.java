@@ -0,0 +1,38 @@
+package capi.funding.api.infra.datasource;
+
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Wraps the data source in a {@link ConcurrencyLimitedDataSource}, enabled by the virtual-threads profile.
+ */
+@Component
+@ConditionalOnProperty(name = "api.datasource.concurrency-limit.enabled", havingValue = "true")
+public class DataSourceConcurrencyLimiter implements BeanPostProcessor {
+
+    private final int permits;
+    private final Duration acquireTimeout;
+
+    public DataSourceConcurrencyLimiter(
+            @Value("${api.datasource.concurrency-limit.permits:10}") int permits,
+            @Value("${api.datasource.concurrency-limit.acquire-timeout:PT5S}") Duration acquireTimeout
+    ) {
+        this.permits = permits;
+        this.acquireTimeout = acquireTimeout;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(@NonNull Object bean, @NonNull String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ConcurrencyLimitedDataSource)) {
+            return new ConcurrencyLimitedDataSource(dataSource, permits, acquireTimeout);
+        }
+
+        return bean;
+    }
+}
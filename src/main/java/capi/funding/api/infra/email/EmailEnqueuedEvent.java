@@ -0,0 +1,7 @@
+package capi.funding.api.infra.email;
+
+/**
+ * Published when an email is stored in the outbox, wakes the dispatcher once the transaction commits.
+ */
+public record EmailEnqueuedEvent() {
+}
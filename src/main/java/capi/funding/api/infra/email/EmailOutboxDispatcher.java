@@ -0,0 +1,185 @@
+package capi.funding.api.infra.email;
+
+import capi.funding.api.dto.OutboxEmail;
+import capi.funding.api.repository.EmailOutboxRepository;
+import capi.funding.api.services.EmailService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Background workers sending the emails stored in the outbox, so requests never wait on the mail server.
+ * Each worker claims a batch with {@code SKIP LOCKED} and sends it over a single connection. Failed emails
+ * are retried with exponential backoff and given up after {@code maxAttempts}.
+ */
+@Component
+public class EmailOutboxDispatcher {
+
+    private static final long SHUTDOWN_TIMEOUT_MS = 10_000;
+
+    private final Logger logger;
+
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final EmailService emailService;
+
+    private final int batchSize;
+    private final long pollIntervalNanos;
+    private final Duration lease;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration retention;
+
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter failed;
+
+    private final List<Thread> workers;
+    private volatile boolean running = true;
+
+    public EmailOutboxDispatcher(
+            EmailOutboxRepository emailOutboxRepository,
+            EmailService emailService,
+            MeterRegistry meterRegistry,
+            @Value("${api.email.outbox.workers:2}") int workers,
+            @Value("${api.email.outbox.batch-size:20}") int batchSize,
+            @Value("${api.email.outbox.poll-interval:PT5S}") Duration pollInterval,
+            @Value("${api.email.outbox.lease:PT5M}") Duration lease,
+            @Value("${api.email.outbox.max-attempts:8}") int maxAttempts,
+            @Value("${api.email.outbox.initial-backoff:PT30S}") Duration initialBackoff,
+            @Value("${api.email.outbox.max-backoff:PT1H}") Duration maxBackoff,
+            @Value("${api.email.outbox.retention:P7D}") Duration retention
+    ) {
+        this.logger = Logger.getLogger(getClass().getName());
+        this.emailOutboxRepository = emailOutboxRepository;
+        this.emailService = emailService;
+        this.batchSize = batchSize;
+        this.pollIntervalNanos = pollInterval.toNanos();
+        this.lease = lease;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.retention = retention;
+
+        this.sent = meterRegistry.counter("email.outbox.sent");
+        this.retried = meterRegistry.counter("email.outbox.retried");
+        this.failed = meterRegistry.counter("email.outbox.failed");
+
+        this.workers = new ArrayList<>(workers);
+        for (int i = 1; i <= workers; i++) {
+            final Thread worker = new Thread(this::runWorker, "email-outbox-worker-" + i);
+            worker.setDaemon(true);
+            this.workers.add(worker);
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        workers.forEach(Thread::start);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmailEnqueued(EmailEnqueuedEvent event) {
+        workers.forEach(LockSupport::unpark);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(SHUTDOWN_TIMEOUT_MS);
+        for (Thread worker : workers) {
+            LockSupport.unpark(worker);
+            worker.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+        }
+    }
+
+    public int deleteSentEmails() {
+        return emailOutboxRepository.deleteSentBefore(LocalDateTime.now().minus(retention));
+    }
+
+    /**
+     * Claims and sends one batch.
+     *
+     * @return how many emails were claimed
+     */
+    int dispatch() {
+        final List<OutboxEmail> batch;
+        try {
+            batch = emailOutboxRepository.claim(batchSize, lease);
+        } catch (RuntimeException ex) {
+            logger.log(Level.WARNING, "failed to claim the outbox emails", ex);
+            return 0;
+        }
+
+        if (batch.isEmpty()) return 0;
+
+        final Map<Integer, Exception> failures = emailService.sendMails(batch.stream().map(OutboxEmail::email).toList());
+
+        final List<Long> sentIds = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            final OutboxEmail outboxEmail = batch.get(i);
+            final Exception failure = failures.get(i);
+
+            try {
+                if (failure == null) {
+                    sentIds.add(outboxEmail.id());
+                } else if (outboxEmail.attempts() >= maxAttempts) {
+                    emailOutboxRepository.markFailed(outboxEmail.id(), failure.getMessage());
+                    failed.increment();
+                    logger.log(Level.WARNING, "giving up on outbox email " + outboxEmail.id(), failure);
+                } else {
+                    emailOutboxRepository.markRetry(outboxEmail.id(), backoff(outboxEmail.attempts()), failure.getMessage());
+                    retried.increment();
+                }
+            } catch (RuntimeException ex) {
+                // stays claimed until the lease expires, then it's sent again
+                logger.log(Level.WARNING, "failed to update outbox email " + outboxEmail.id(), ex);
+            }
+        }
+
+        try {
+            emailOutboxRepository.markSent(sentIds);
+            sent.increment(sentIds.size());
+        } catch (RuntimeException ex) {
+            logger.log(Level.WARNING, "failed to mark " + sentIds.size() + " outbox emails as sent", ex);
+        }
+
+        return batch.size();
+    }
+
+    Duration backoff(int attempts) {
+        final Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+
+        return backoff.compareTo(maxBackoff) > 0 ? maxBackoff : backoff;
+    }
+
+    private void runWorker() {
+        while (running) {
+            int dispatched = 0;
+            try {
+                dispatched = dispatch();
+            } catch (RuntimeException ex) {
+                logger.log(Level.WARNING, "failed to dispatch the outbox emails", ex);
+            }
+
+            if (dispatched < batchSize) {
+                LockSupport.parkNanos(this, pollIntervalNanos);
+            }
+        }
+    }
+}
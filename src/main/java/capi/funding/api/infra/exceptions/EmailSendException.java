@@ -1,7 +0,0 @@
-package capi.funding.api.infra.exceptions;
-
-public class EmailSendException extends RuntimeException {
-    public EmailSendException(String message) {
-        super(message);
-    }
-}
@@ -0,0 +1,7 @@
+package capi.funding.api.infra.exceptions;
+
+public class TooManyRequestsException extends RuntimeException {
+    public TooManyRequestsException(String message) {
+        super(message);
+    }
+}
@@ -4,6 +4,8 @@ import capi.funding.api.dto.InvalidFieldsDTO;
 import capi.funding.api.dto.ResponseError;
 import capi.funding.api.infra.exceptions.*;
 import org.springframework.context.MessageSourceResolvable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.validation.method.ParameterValidationResult;
@@ -96,13 +98,6 @@ public class ExceptionHandlers {
         );
     }
 
-    @ExceptionHandler(EmailSendException.class)
-    public ResponseEntity<ResponseError> emailSendException(EmailSendException ex) {
-        return ResponseEntity.internalServerError().body(
-                new ResponseError(ex.getMessage())
-        );
-    }
-
     @ExceptionHandler(MilestoneSequenceException.class)
     public ResponseEntity<ResponseError> milestoneSequenceException(MilestoneSequenceException ex) {
         return ResponseEntity.badRequest().body(
@@ -116,4 +111,11 @@ public class ExceptionHandlers {
                 new ResponseError(ex.getMessage())
         );
     }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ResponseError> tooManyRequestsException(TooManyRequestsException ex) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ResponseError(ex.getMessage()));
+    }
 }
@@ -0,0 +1,75 @@
+package capi.funding.api.infra.images;
+
+import capi.funding.api.infra.exceptions.TooManyRequestsException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Fixed pool sized to the CPUs for image decoding and resizing, so uploads can't take over the servlet threads.
+ * When every worker is busy and the queue is full new work is rejected with {@link TooManyRequestsException}.
+ */
+@Component
+public class ImageProcessingExecutor {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final ThreadPoolExecutor executor;
+
+    public ImageProcessingExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${api.images.processing.threads:0}") int threads,
+            @Value("${api.images.processing.queue-capacity:16}") int queueCapacity
+    ) {
+        final int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        final AtomicInteger threadNumber = new AtomicInteger();
+
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    final Thread thread = new Thread(runnable, "image-worker-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "images.processing");
+    }
+
+    public <T> CompletableFuture<T> submit(@NonNull Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException ex) {
+            throw new TooManyRequestsException("too many images being processed, try again later");
+        }
+    }
+
+    /**
+     * Unlike {@link #submit(Supplier)}, cancelling the returned future with {@code cancel(true)} interrupts the worker.
+     */
+    public <T> Future<T> submitInterruptible(@NonNull Callable<T> task) {
+        try {
+            return executor.submit(task);
+        } catch (RejectedExecutionException ex) {
+            throw new TooManyRequestsException("too many images being processed, try again later");
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,53 @@
+package capi.funding.api.infra.metrics;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.NonNull;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.stereotype.Component;
+
+import javax.cache.CacheManager;
+
+/**
+ * Current and maximum size of the Caffeine cache backing each second-level cache region. The hit and miss counts
+ * of the regions are already bound by Boot's Hibernate metrics.
+ */
+@Component
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public SecondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        final SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+
+        final RegionFactory regionFactory = sessionFactory.getCache().getRegionFactory();
+        if (!(regionFactory instanceof JCacheRegionFactory jCacheRegionFactory)) return;
+
+        final CacheManager cacheManager = jCacheRegionFactory.getCacheManager();
+        for (String region : cacheManager.getCacheNames()) {
+            final Cache<?, ?> cache = cacheManager.getCache(region).unwrap(Cache.class);
+
+            Gauge.builder("hibernate.second.level.cache.size", cache, Cache::estimatedSize)
+                    .tag("region", region)
+                    .description("The approximate number of entries in the region")
+                    .register(registry);
+
+            cache.policy().eviction().ifPresent(eviction ->
+                    Gauge.builder("hibernate.second.level.cache.max.size", eviction, Policy.Eviction::getMaximum)
+                            .tag("region", region)
+                            .description("The maximum number of entries in the region")
+                            .register(registry));
+        }
+    }
+}
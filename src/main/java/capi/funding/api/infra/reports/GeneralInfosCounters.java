@@ -0,0 +1,109 @@
+package capi.funding.api.infra.reports;
+
+import capi.funding.api.dto.GeneralInfosReportDTO;
+import capi.funding.api.repository.ContributionRepository;
+import capi.funding.api.repository.ProjectRepository;
+import lombok.NonNull;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Totals of the general infos report kept in memory. They're seeded from the database at startup, incremented
+ * as projects and contributions are committed, and reconciled with the database periodically to fix any drift
+ * (other instances writing to the same database, increments racing a reconciliation).
+ * Until the first seed finishes {@link #isReady()} is false and callers should query the database.
+ */
+@Component
+public class GeneralInfosCounters {
+
+    private final Logger logger;
+
+    private final ProjectRepository projectRepository;
+    private final ContributionRepository contributionRepository;
+
+    // replaced as a whole, so readers never see a reconciliation half applied
+    private final AtomicReference<Totals> totals = new AtomicReference<>(new Totals(0, BigDecimal.ZERO, 0));
+
+    private volatile boolean ready;
+
+    public GeneralInfosCounters(ProjectRepository projectRepository, ContributionRepository contributionRepository) {
+        this.logger = Logger.getLogger(getClass().getName());
+        this.projectRepository = projectRepository;
+        this.contributionRepository = contributionRepository;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void addProject() {
+        afterCommit(() -> totals.updateAndGet(current ->
+                new Totals(current.projects() + 1, current.raised(), current.contributions())));
+    }
+
+    public void addContribution(@NonNull BigDecimal value) {
+        addContributions(1, value);
+    }
+
+    public void addContributions(long count, @NonNull BigDecimal totalValue) {
+        afterCommit(() -> totals.updateAndGet(current ->
+                new Totals(current.projects(), current.raised().add(totalValue), current.contributions() + count)));
+    }
+
+    public GeneralInfosReportDTO snapshot() {
+        final Totals current = totals.get();
+
+        return new GeneralInfosReportDTO(current.projects(), current.raised(), current.contributions());
+    }
+
+    /**
+     * Replaces the counters with the database totals. Increments made while the totals are read may be
+     * lost or counted twice until the next reconciliation.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcile() {
+        try {
+            final long projects = projectRepository.count();
+            final BigDecimal raised = contributionRepository.countTotalRaised();
+            final long contributions = contributionRepository.count();
+
+            totals.set(new Totals(projects, raised, contributions));
+
+            ready = true;
+        } catch (RuntimeException ex) {
+            logger.log(Level.WARNING, "could not reconcile the general infos counters", ex);
+        }
+    }
+
+    /**
+     * Rolled back writes must not be counted, so inside a transaction the update waits for the commit.
+     */
+    private static void afterCommit(Runnable update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update.run();
+            }
+        });
+    }
+
+    private record Totals(
+            long projects,
+            BigDecimal raised,
+            long contributions
+    ) {
+    }
+}
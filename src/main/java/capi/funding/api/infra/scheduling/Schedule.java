@@ -1,6 +1,12 @@
 package capi.funding.api.infra.scheduling;
 
-import capi.funding.api.security.SecurityFilter;
+import capi.funding.api.infra.email.EmailOutboxDispatcher;
+import capi.funding.api.infra.reports.GeneralInfosCounters;
+import capi.funding.api.infra.search.ProjectSearchIndex;
+import capi.funding.api.infra.trending.SearchTrendTracker;
+import capi.funding.api.services.ImageVariantService;
+import capi.funding.api.services.ProjectFundingSummaryService;
+import capi.funding.api.services.ProjectSearchLogService;
 import capi.funding.api.services.ProjectService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
@@ -10,17 +16,54 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class Schedule {
 
-    private final SecurityFilter securityFilter;
+    private static final int IMAGE_VARIANTS_BATCH_SIZE = 20;
 
     private final ProjectService projectService;
-
-    @Scheduled(cron = "0 30 03 * * *") // every day at 03:30AM
-    public void clearUsersCache() {
-        securityFilter.clearUsersCache();
-    }
+    private final ImageVariantService imageVariantService;
+    private final ProjectSearchIndex projectSearchIndex;
+    private final SearchTrendTracker searchTrendTracker;
+    private final ProjectSearchLogService projectSearchLogService;
+    private final ProjectFundingSummaryService fundingSummaryService;
+    private final GeneralInfosCounters generalInfosCounters;
+    private final EmailOutboxDispatcher emailOutboxDispatcher;
 
     @Scheduled(cron = "0 01 0 * * *") // every day at 00:01AM
     public void concludeAllProjectsEndingYesterdayNotCancelled() {
         projectService.concludeAllProjectsEndingYesterdayNotCancelled();
     }
+
+    @Scheduled(cron = "0 */10 * * * *") // every 10 minutes
+    public void generateMissingImageVariants() {
+        imageVariantService.generateMissingVariants(IMAGE_VARIANTS_BATCH_SIZE);
+    }
+
+    @Scheduled(cron = "0 */15 * * * *") // every 15 minutes
+    public void refreshProjectSearchIndex() {
+        projectSearchIndex.refresh();
+    }
+
+    @Scheduled(cron = "0 */5 * * * *") // every 5 minutes
+    public void checkpointSearchTrends() {
+        searchTrendTracker.checkpoint();
+    }
+
+    @Scheduled(cron = "0 30 3 * * *") // every day at 03:30AM
+    public void deleteExpiredSearchLogs() {
+        projectSearchLogService.deleteExpiredLogs();
+    }
+
+    @Scheduled(cron = "0 45 3 * * *") // every day at 03:45AM
+    public void deleteExpiredContributionRollups() {
+        fundingSummaryService.deleteExpiredHourlyRollups();
+    }
+
+    @Scheduled(cron = "0 */30 * * * *") // every 30 minutes
+    public void reconcileGeneralInfosCounters() {
+        generalInfosCounters.reconcile();
+    }
+
+    @Scheduled(cron = "0 15 4 * * *") // every day at 04:15AM
+    public void deleteSentEmails() {
+        emailOutboxDispatcher.deleteSentEmails();
+    }
 }
@@ -0,0 +1,481 @@
+package capi.funding.api.infra.search;
+
+import capi.funding.api.dto.ProjectSearchDocument;
+import capi.funding.api.entity.Project;
+import capi.funding.api.enums.ProjectStatusEnum;
+import capi.funding.api.repository.ProjectRepository;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+/**
+ * Optional in-memory inverted index answering the {@code GET /project} filters. Title and creator name are
+ * tokenized and accent-folded, every query token matches the indexed tokens it prefixes. Posting lists are
+ * sorted lists of project ids, so filters combine through linear merges, and the total raised of every project
+ * is kept to pick the requested page in memory.
+ * <p>
+ * Updates change the posting lists of the touched project in place. The whole catalog is also reloaded
+ * periodically to pick up changes made elsewhere (e.g. creator renames), updates made while it loads are
+ * replayed on the loaded catalog. Until the first load finishes {@link #isReady()} is false and callers should
+ * query the database.
+ */
+@Component
+public class ProjectSearchIndex {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern TOKEN_SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final List<Integer> HIDDEN_STATUSES = List.of(
+            ProjectStatusEnum.DONE.getValue(),
+            ProjectStatusEnum.CANCELED.getValue()
+    );
+
+    // same order as the database listing, most raised first
+    private static final Comparator<IndexedProject> RANKING = Comparator
+            .comparing(IndexedProject::totalRaised)
+            .thenComparingInt(IndexedProject::id)
+            .reversed();
+
+    private final Logger logger;
+
+    private final ProjectRepository projectRepository;
+
+    private final boolean enabled;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object refreshLock = new Object();
+
+    // guarded by lock, pendingUpdates is only set while a refresh is loading
+    private volatile Postings postings;
+    private List<Consumer<Postings>> pendingUpdates;
+
+    public ProjectSearchIndex(
+            ProjectRepository projectRepository,
+            @Value("${api.search.in-memory.enabled:false}") boolean enabled
+    ) {
+        this.logger = Logger.getLogger(getClass().getName());
+        this.projectRepository = projectRepository;
+        this.enabled = enabled;
+    }
+
+    public boolean isReady() {
+        return enabled && postings != null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void refresh() {
+        if (!enabled) return;
+
+        synchronized (refreshLock) {
+            withLock(lock.writeLock(), () -> pendingUpdates = new ArrayList<>());
+
+            try {
+                final List<IndexedProject> loadedProjects = new ArrayList<>();
+                for (ProjectSearchDocument document : projectRepository.findAllSearchDocuments()) {
+                    loadedProjects.add(new IndexedProject(
+                            Math.toIntExact(document.getProjectId()),
+                            document.getTitle(),
+                            document.getCategoryId(),
+                            document.getStatusId(),
+                            document.getCreatorName(),
+                            document.getTotalRaised()
+                    ));
+                }
+
+                // ascending ids only append to the posting lists
+                loadedProjects.sort(Comparator.comparingInt(IndexedProject::id));
+                final Postings loaded = new Postings();
+                loadedProjects.forEach(loaded::put);
+
+                withLock(lock.writeLock(), () -> {
+                    pendingUpdates.forEach(update -> update.accept(loaded));
+                    pendingUpdates = null;
+                    postings = loaded;
+                });
+
+                logger.info(() -> "project search index loaded with " + loadedProjects.size() + " projects");
+            } catch (RuntimeException ex) {
+                withLock(lock.writeLock(), () -> pendingUpdates = null);
+                logger.log(Level.WARNING, "could not load the project search index", ex);
+            }
+        }
+    }
+
+    /**
+     * Indexes a new or changed project. The creator name is only needed for new projects,
+     * a null name keeps the one already indexed.
+     */
+    public void index(@NonNull Project project, String creatorName) {
+        if (!enabled || project.getId() == null) return;
+
+        final int id = Math.toIntExact(project.getId());
+        final String title = project.getTitle();
+        final int categoryId = (int) project.getCategory_id();
+        final int statusId = (int) project.getStatus_id();
+
+        update(target -> {
+            final IndexedProject previous = target.documents.get(id);
+
+            target.put(new IndexedProject(
+                    id,
+                    title,
+                    categoryId,
+                    statusId,
+                    creatorName == null && previous != null ? previous.creatorName() : creatorName,
+                    previous != null ? previous.totalRaised() : BigDecimal.ZERO
+            ));
+        });
+    }
+
+    public void index(@NonNull Project project) {
+        index(project, null);
+    }
+
+    /**
+     * Sets the total raised by a project, once the current transaction commits.
+     */
+    public void updateTotalRaised(long projectId, @NonNull BigDecimal totalRaised) {
+        if (!enabled) return;
+
+        final int id = Math.toIntExact(projectId);
+        final Runnable update = () -> update(target -> {
+            final IndexedProject previous = target.documents.get(id);
+
+            if (previous != null) {
+                target.documents.put(id, previous.withTotalRaised(totalRaised));
+            }
+        });
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update.run();
+            }
+        });
+    }
+
+    /**
+     * @return the ids of the matching projects in ascending order. Empty filters don't restrict the result,
+     * except for the status that hides concluded and cancelled projects, like the database query
+     */
+    public int[] search(String title, List<Integer> categories, List<Integer> statuses, String creatorName) {
+        return computeWithLock(lock.readLock(), () -> match(postings, title, categories, statuses, creatorName).toArray());
+    }
+
+    /**
+     * Same filters as {@link #search}, ordered like the database listing by the total raised and then the id,
+     * both descending.
+     *
+     * @return how many projects match and the ids of the ones in the requested page, in order
+     */
+    public ProjectSearchPage searchPage(
+            String title, List<Integer> categories, List<Integer> statuses, String creatorName, long offset, long limit
+    ) {
+        return computeWithLock(lock.readLock(), () -> {
+            final Postings current = postings;
+            final IntList matches = match(current, title, categories, statuses, creatorName);
+
+            final int pageEnd = (int) Math.min(matches.size, offset + limit);
+            if (offset >= pageEnd) {
+                return new ProjectSearchPage(matches.size, new int[0]);
+            }
+
+            // keeps only the best pageEnd projects, the worst of them on top
+            final PriorityQueue<IndexedProject> best = new PriorityQueue<>(pageEnd, RANKING.reversed());
+            for (int i = 0; i < matches.size; i++) {
+                final IndexedProject project = current.documents.get(matches.values[i]);
+
+                if (best.size() < pageEnd) {
+                    best.add(project);
+                } else if (RANKING.compare(project, best.peek()) < 0) {
+                    best.poll();
+                    best.add(project);
+                }
+            }
+
+            final int[] page = new int[pageEnd - (int) offset];
+            for (int i = page.length - 1; i >= 0; i--) {
+                page[i] = best.poll().id();
+            }
+
+            return new ProjectSearchPage(matches.size, page);
+        });
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+
+        final String folded = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+
+        return Arrays.stream(TOKEN_SEPARATORS.split(folded))
+                .filter(token -> !token.isEmpty())
+                .toList();
+    }
+
+    static int[] intersect(int[] first, int[] second) {
+        return intersect(IntList.of(first), IntList.of(second)).toArray();
+    }
+
+    private void update(Consumer<Postings> update) {
+        withLock(lock.writeLock(), () -> {
+            if (postings != null) {
+                update.accept(postings);
+            }
+            if (pendingUpdates != null) {
+                pendingUpdates.add(update);
+            }
+        });
+    }
+
+    private static IntList match(
+            Postings current, String title, List<Integer> categories, List<Integer> statuses, String creatorName
+    ) {
+        IntList result = statuses == null || statuses.isEmpty()
+                ? union(current.statusPostings.entrySet().stream()
+                .filter(entry -> !HIDDEN_STATUSES.contains(entry.getKey()))
+                .map(Map.Entry::getValue)
+                .toList())
+                : union(current.statusPostings, statuses);
+
+        if (categories != null && !categories.isEmpty()) {
+            result = intersect(result, union(current.categoryPostings, categories));
+        }
+
+        result = matchTokens(result, current.titlePostings, title);
+        result = matchTokens(result, current.creatorPostings, creatorName);
+
+        return result;
+    }
+
+    private static IntList matchTokens(IntList candidates, NavigableMap<String, IntList> postings, String text) {
+        IntList result = candidates;
+
+        for (String token : tokenize(text)) {
+            if (result.size == 0) break;
+
+            final Collection<IntList> matches = postings.subMap(token, true, token + Character.MAX_VALUE, false).values();
+            result = intersect(result, union(matches));
+        }
+
+        return result;
+    }
+
+    private static IntList union(Map<Integer, IntList> postings, List<Integer> keys) {
+        final List<IntList> lists = new ArrayList<>(keys.size());
+        for (Integer key : keys) {
+            final IntList ids = postings.get(key);
+            if (ids != null) {
+                lists.add(ids);
+            }
+        }
+
+        return union(lists);
+    }
+
+    private static IntList union(Collection<IntList> lists) {
+        IntList result = new IntList();
+
+        for (IntList ids : lists) {
+            result = merge(result, ids);
+        }
+
+        return result;
+    }
+
+    private static IntList merge(IntList first, IntList second) {
+        final IntList result = new IntList(first.size + second.size);
+
+        int i = 0, j = 0;
+        while (i < first.size && j < second.size) {
+            if (first.values[i] < second.values[j]) {
+                result.append(first.values[i++]);
+            } else if (first.values[i] > second.values[j]) {
+                result.append(second.values[j++]);
+            } else {
+                result.append(first.values[i]);
+                i++;
+                j++;
+            }
+        }
+        while (i < first.size) {
+            result.append(first.values[i++]);
+        }
+        while (j < second.size) {
+            result.append(second.values[j++]);
+        }
+
+        return result;
+    }
+
+    private static IntList intersect(IntList first, IntList second) {
+        final IntList result = new IntList(Math.min(first.size, second.size));
+
+        int i = 0, j = 0;
+        while (i < first.size && j < second.size) {
+            if (first.values[i] < second.values[j]) {
+                i++;
+            } else if (first.values[i] > second.values[j]) {
+                j++;
+            } else {
+                result.append(first.values[i]);
+                i++;
+                j++;
+            }
+        }
+
+        return result;
+    }
+
+    private static void withLock(Lock lock, Runnable action) {
+        lock.lock();
+        try {
+            action.run();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static <T> T computeWithLock(Lock lock, Supplier<T> action) {
+        lock.lock();
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record IndexedProject(
+            int id,
+            String title,
+            int categoryId,
+            int statusId,
+            String creatorName,
+            BigDecimal totalRaised
+    ) {
+        private IndexedProject withTotalRaised(BigDecimal totalRaised) {
+            return new IndexedProject(id, title, categoryId, statusId, creatorName, totalRaised);
+        }
+    }
+
+    private static final class Postings {
+
+        private final Map<Integer, IndexedProject> documents = new HashMap<>();
+        private final Map<Integer, IntList> statusPostings = new HashMap<>();
+        private final Map<Integer, IntList> categoryPostings = new HashMap<>();
+        private final NavigableMap<String, IntList> titlePostings = new TreeMap<>();
+        private final NavigableMap<String, IntList> creatorPostings = new TreeMap<>();
+
+        private void put(IndexedProject project) {
+            final IndexedProject previous = documents.put(project.id(), project);
+
+            if (previous != null) {
+                remove(statusPostings, previous.statusId(), previous.id());
+                remove(categoryPostings, previous.categoryId(), previous.id());
+                new HashSet<>(tokenize(previous.title())).forEach(token -> remove(titlePostings, token, previous.id()));
+                new HashSet<>(tokenize(previous.creatorName())).forEach(token -> remove(creatorPostings, token, previous.id()));
+            }
+
+            statusPostings.computeIfAbsent(project.statusId(), key -> new IntList()).insert(project.id());
+            categoryPostings.computeIfAbsent(project.categoryId(), key -> new IntList()).insert(project.id());
+            for (String token : new HashSet<>(tokenize(project.title()))) {
+                titlePostings.computeIfAbsent(token, key -> new IntList()).insert(project.id());
+            }
+            for (String token : new HashSet<>(tokenize(project.creatorName()))) {
+                creatorPostings.computeIfAbsent(token, key -> new IntList()).insert(project.id());
+            }
+        }
+
+        private static <K> void remove(Map<K, IntList> postings, K key, int id) {
+            final IntList ids = postings.get(key);
+
+            if (ids != null && ids.remove(id) && ids.size == 0) {
+                postings.remove(key);
+            }
+        }
+    }
+
+    private static final class IntList {
+
+        private int[] values;
+        private int size;
+
+        private IntList() {
+            this(4);
+        }
+
+        private IntList(int capacity) {
+            this.values = new int[Math.max(capacity, 4)];
+        }
+
+        private static IntList of(int[] values) {
+            final IntList list = new IntList(values.length);
+            for (int value : values) {
+                list.append(value);
+            }
+            return list;
+        }
+
+        private void append(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        // keeps the list sorted, appending is the common case while loading
+        private void insert(int value) {
+            if (size == 0 || values[size - 1] < value) {
+                append(value);
+                return;
+            }
+
+            final int position = Arrays.binarySearch(values, 0, size, value);
+            if (position >= 0) return;
+
+            final int insertAt = -position - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            System.arraycopy(values, insertAt, values, insertAt + 1, size - insertAt);
+            values[insertAt] = value;
+            size++;
+        }
+
+        private boolean remove(int value) {
+            final int position = Arrays.binarySearch(values, 0, size, value);
+            if (position < 0) return false;
+
+            System.arraycopy(values, position + 1, values, position, size - position - 1);
+            size--;
+            return true;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
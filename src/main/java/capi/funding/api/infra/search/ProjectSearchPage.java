@@ -0,0 +1,7 @@
+package capi.funding.api.infra.search;
+
+public record ProjectSearchPage(
+        int totalRegisters,
+        int[] projectIds
+) {
+}
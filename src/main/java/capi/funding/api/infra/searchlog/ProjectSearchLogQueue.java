@@ -0,0 +1,147 @@
+package capi.funding.api.infra.searchlog;
+
+import capi.funding.api.entity.ProjectSearchLog;
+import capi.funding.api.repository.ProjectSearchLogBatchRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Bounded, lock-free buffer for search logs. Request threads only enqueue; a single background
+ * thread writes the logs in batches once {@code batchSize} is reached or every flush interval.
+ * When the buffer is full new logs are dropped and counted instead of blocking the caller.
+ */
+@Component
+public class ProjectSearchLogQueue {
+
+    private static final long SHUTDOWN_TIMEOUT_MS = 10_000;
+
+    private final Logger logger;
+
+    private final ProjectSearchLogBatchRepository batchRepository;
+
+    private final int capacity;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+
+    private final Queue<ProjectSearchLog> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    private final Counter enqueued;
+    private final Counter dropped;
+    private final Counter written;
+    private final Counter failed;
+
+    private final Thread flusher;
+    private volatile boolean running = true;
+
+    public ProjectSearchLogQueue(
+            ProjectSearchLogBatchRepository batchRepository,
+            MeterRegistry meterRegistry,
+            @Value("${api.search-log.queue-capacity:10000}") int capacity,
+            @Value("${api.search-log.batch-size:500}") int batchSize,
+            @Value("${api.search-log.flush-interval-ms:1000}") long flushIntervalMs
+    ) {
+        this.logger = Logger.getLogger(getClass().getName());
+        this.batchRepository = batchRepository;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+
+        this.enqueued = meterRegistry.counter("search.log.enqueued");
+        this.dropped = meterRegistry.counter("search.log.dropped");
+        this.written = meterRegistry.counter("search.log.written");
+        this.failed = meterRegistry.counter("search.log.failed");
+        meterRegistry.gauge("search.log.queue.size", size);
+
+        this.flusher = new Thread(this::runFlusher, "search-log-flusher");
+        this.flusher.setDaemon(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        flusher.start();
+    }
+
+    public boolean offer(@NonNull ProjectSearchLog searchLog) {
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            dropped.increment();
+            return false;
+        }
+
+        queue.offer(searchLog);
+        enqueued.increment();
+
+        if (size.get() >= batchSize) {
+            LockSupport.unpark(flusher);
+        }
+
+        return true;
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(flusher);
+        flusher.join(SHUTDOWN_TIMEOUT_MS);
+
+        flush();
+    }
+
+    void flush() {
+        List<ProjectSearchLog> batch = drain();
+
+        while (!batch.isEmpty()) {
+            write(batch);
+            batch = drain();
+        }
+    }
+
+    private void runFlusher() {
+        while (running) {
+            LockSupport.parkNanos(this, flushIntervalNanos);
+            flush();
+        }
+    }
+
+    private List<ProjectSearchLog> drain() {
+        final List<ProjectSearchLog> batch = new ArrayList<>(Math.min(batchSize, size.get()));
+
+        ProjectSearchLog searchLog;
+        while (batch.size() < batchSize && (searchLog = queue.poll()) != null) {
+            size.decrementAndGet();
+            batch.add(searchLog);
+        }
+
+        return batch;
+    }
+
+    private void write(List<ProjectSearchLog> batch) {
+        try {
+            batchRepository.insertAll(batch);
+            written.increment(batch.size());
+        } catch (RuntimeException ex) {
+            failed.increment(batch.size());
+            logger.log(Level.WARNING, "failed to write " + batch.size() + " search logs", ex);
+        }
+    }
+}
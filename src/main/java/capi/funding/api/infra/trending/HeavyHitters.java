@@ -0,0 +1,180 @@
+package capi.funding.api.infra.trending;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Count-Min Sketch paired with a bounded set of candidates holding the keys with the highest estimates.
+ * Estimates never undercount, they may overcount by collisions in every row of the sketch, which stays
+ * small for the keys frequent enough to be candidates. Not thread safe.
+ */
+final class HeavyHitters {
+
+    private static final long[] ROW_SEEDS = {
+            0x9E3779B97F4A7C15L,
+            0xC2B2AE3D27D4EB4FL,
+            0x165667B19E3779F9L,
+            0xD6E8FEB86659FD93L,
+            0xFF51AFD7ED558CCDL,
+            0xC4CEB9FE1A85EC53L,
+            0x27D4EB2F165667C5L,
+            0x85EBCA77C2B2AE63L
+    };
+
+    private static final Comparator<Candidate> RANKING = Comparator
+            .comparingLong(Candidate::estimate).reversed()
+            .thenComparingLong(Candidate::key);
+
+    private final int depth;
+    private final int width;
+    private final int capacity;
+
+    private final long[] sketch;
+    private final Map<Long, Long> candidates = new HashMap<>();
+    private final TreeSet<Candidate> ranking = new TreeSet<>(RANKING);
+
+    HeavyHitters(int depth, int width, int capacity) {
+        if (depth < 1 || depth > ROW_SEEDS.length || width < 1 || capacity < 1) {
+            throw new IllegalArgumentException("invalid heavy hitters dimensions");
+        }
+
+        this.depth = depth;
+        this.width = width;
+        this.capacity = capacity;
+        this.sketch = new long[depth * width];
+    }
+
+    void add(long key) {
+        long estimate = Long.MAX_VALUE;
+
+        for (int row = 0; row < depth; row++) {
+            final int cell = cell(row, key);
+            estimate = Math.min(estimate, ++sketch[cell]);
+        }
+
+        offer(key, estimate);
+    }
+
+    long estimate(long key) {
+        long estimate = Long.MAX_VALUE;
+
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, sketch[cell(row, key)]);
+        }
+
+        return estimate;
+    }
+
+    /**
+     * @return the candidates from the highest estimate down, skipping the first {@code offset}
+     */
+    List<SearchTrend> top(int offset, int limit) {
+        return ranking.stream()
+                .skip(offset)
+                .limit(limit)
+                .map(candidate -> new SearchTrend(candidate.key(), candidate.estimate()))
+                .toList();
+    }
+
+    int size() {
+        return candidates.size();
+    }
+
+    /**
+     * Adds the counts of a sketch with the same dimensions, candidates from both sides are ranked again.
+     *
+     * @return false when the dimensions don't match and nothing was merged
+     */
+    boolean merge(HeavyHitters other) {
+        if (other.depth != depth || other.width != width) {
+            return false;
+        }
+
+        for (int i = 0; i < sketch.length; i++) {
+            sketch[i] += other.sketch[i];
+        }
+
+        final Set<Long> keys = new HashSet<>(candidates.keySet());
+        keys.addAll(other.candidates.keySet());
+
+        candidates.clear();
+        ranking.clear();
+        for (long key : keys) {
+            offer(key, estimate(key));
+        }
+
+        return true;
+    }
+
+    byte[] toBytes() {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeInt(depth);
+            output.writeInt(width);
+            output.writeInt(capacity);
+            for (long count : sketch) {
+                output.writeLong(count);
+            }
+
+            output.writeInt(candidates.size());
+            for (long key : candidates.keySet()) {
+                output.writeLong(key);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    static HeavyHitters fromBytes(byte[] content) {
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(content))) {
+            final HeavyHitters heavyHitters = new HeavyHitters(input.readInt(), input.readInt(), input.readInt());
+            for (int i = 0; i < heavyHitters.sketch.length; i++) {
+                heavyHitters.sketch[i] = input.readLong();
+            }
+
+            final int candidates = input.readInt();
+            for (int i = 0; i < candidates; i++) {
+                final long key = input.readLong();
+                heavyHitters.offer(key, heavyHitters.estimate(key));
+            }
+
+            return heavyHitters;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void offer(long key, long estimate) {
+        final Long current = candidates.get(key);
+
+        if (current != null) {
+            ranking.remove(new Candidate(key, current));
+        } else if (candidates.size() >= capacity) {
+            final Candidate lowest = ranking.last();
+            if (estimate <= lowest.estimate()) return;
+
+            ranking.pollLast();
+            candidates.remove(lowest.key());
+        }
+
+        candidates.put(key, estimate);
+        ranking.add(new Candidate(key, estimate));
+    }
+
+    private int cell(int row, long key) {
+        return row * width + (int) Long.remainderUnsigned(mix(key ^ ROW_SEEDS[row]), width);
+    }
+
+    // finalizer of SplitMix64, spreads sequential ids over the whole row
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    private record Candidate(long key, long estimate) {
+    }
+}
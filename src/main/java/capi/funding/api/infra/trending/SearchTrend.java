@@ -0,0 +1,10 @@
+package capi.funding.api.infra.trending;
+
+/**
+ * A tracked project or category with its estimated number of searches.
+ */
+public record SearchTrend(
+        long id,
+        long searches
+) {
+}
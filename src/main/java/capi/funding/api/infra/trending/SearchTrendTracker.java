@@ -0,0 +1,156 @@
+package capi.funding.api.infra.trending;
+
+import capi.funding.api.repository.SearchTrendCheckpointRepository;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Streaming estimate of the most searched projects and categories, so the reports don't have to scan the
+ * search log. Counts are kept in {@link HeavyHitters} and checkpointed to the database periodically.
+ * <p>
+ * Until the last checkpoint is restored {@link #isReady()} is false and callers should query the database,
+ * searches recorded meanwhile are merged into the restored counts.
+ */
+@Component
+public class SearchTrendTracker {
+
+    static final String PROJECTS_CHECKPOINT = "projects";
+    static final String CATEGORIES_CHECKPOINT = "categories";
+
+    private static final int SKETCH_DEPTH = 4;
+    private static final int SKETCH_WIDTH = 4096;
+    private static final int TRACKED_CATEGORIES = 32;
+
+    private final Logger logger;
+
+    private final SearchTrendCheckpointRepository checkpointRepository;
+
+    private final boolean enabled;
+
+    private final HeavyHitters projects;
+    private final HeavyHitters categories;
+
+    private volatile boolean ready;
+
+    public SearchTrendTracker(
+            SearchTrendCheckpointRepository checkpointRepository,
+            @Value("${api.search.trends.enabled:true}") boolean enabled,
+            @Value("${api.search.trends.tracked-projects:100}") int trackedProjects
+    ) {
+        this.logger = Logger.getLogger(getClass().getName());
+        this.checkpointRepository = checkpointRepository;
+        this.enabled = enabled;
+        this.projects = new HeavyHitters(SKETCH_DEPTH, SKETCH_WIDTH, trackedProjects);
+        this.categories = new HeavyHitters(SKETCH_DEPTH, SKETCH_WIDTH, TRACKED_CATEGORIES);
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    public void recordProjectSearch(long projectId) {
+        if (!enabled) return;
+
+        synchronized (projects) {
+            projects.add(projectId);
+        }
+    }
+
+    public void recordCategorySearch(long categoryId) {
+        if (!enabled) return;
+
+        synchronized (categories) {
+            categories.add(categoryId);
+        }
+    }
+
+    public List<SearchTrend> getTopProjects(int offset, int limit) {
+        synchronized (projects) {
+            return projects.top(offset, limit);
+        }
+    }
+
+    public int countTrackedProjects() {
+        synchronized (projects) {
+            return projects.size();
+        }
+    }
+
+    public List<SearchTrend> getTopCategories() {
+        synchronized (categories) {
+            return categories.top(0, TRACKED_CATEGORIES);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!enabled) return;
+
+        try {
+            // both checkpoints are read before merging either, a failed read is retried without counting twice
+            final Optional<HeavyHitters> restoredProjects = read(PROJECTS_CHECKPOINT);
+            final Optional<HeavyHitters> restoredCategories = read(CATEGORIES_CHECKPOINT);
+
+            restoredProjects.ifPresent(restored -> merge(PROJECTS_CHECKPOINT, projects, restored));
+            restoredCategories.ifPresent(restored -> merge(CATEGORIES_CHECKPOINT, categories, restored));
+
+            ready = true;
+            logger.info("search trends restored");
+        } catch (RuntimeException ex) {
+            logger.log(Level.WARNING, "could not restore the search trends", ex);
+        }
+    }
+
+    /**
+     * Saves the current counts. While the previous checkpoint wasn't restored it retries restoring instead,
+     * so partial counts never overwrite it.
+     */
+    @PreDestroy
+    public void checkpoint() {
+        if (!enabled) return;
+
+        if (!ready) {
+            load();
+            return;
+        }
+
+        try {
+            save(PROJECTS_CHECKPOINT, projects);
+            save(CATEGORIES_CHECKPOINT, categories);
+        } catch (RuntimeException ex) {
+            logger.log(Level.WARNING, "could not checkpoint the search trends", ex);
+        }
+    }
+
+    private Optional<HeavyHitters> read(String name) {
+        return checkpointRepository.find(name).map(HeavyHitters::fromBytes);
+    }
+
+    private void merge(String name, HeavyHitters target, HeavyHitters restored) {
+        final boolean merged;
+        synchronized (target) {
+            merged = target.merge(restored);
+        }
+
+        if (!merged) {
+            logger.warning(() -> "discarding the " + name + " search trends checkpoint, its dimensions changed");
+        }
+    }
+
+    private void save(String name, HeavyHitters source) {
+        final byte[] content;
+        synchronized (source) {
+            content = source.toBytes();
+        }
+
+        checkpointRepository.save(name, content);
+    }
+}
@@ -0,0 +1,62 @@
+package capi.funding.api.repository;
+
+import capi.funding.api.entity.Contribution;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class ContributionBatchRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO contribution (user_id, project_id, value, date)
+            VALUES (?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Single JDBC batch, Hibernate can't batch these inserts since the ids come from an identity column.
+     * The generated ids are set on the contributions.
+     */
+    public void insertAll(List<Contribution> contributions) {
+        if (contributions.isEmpty()) return;
+
+        final KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        final Contribution contribution = contributions.get(i);
+                        ps.setLong(1, contribution.getUser_id());
+                        ps.setLong(2, contribution.getProject_id());
+                        ps.setBigDecimal(3, contribution.getValue());
+                        ps.setTimestamp(4, Timestamp.valueOf(contribution.getDate()));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return contributions.size();
+                    }
+                },
+                keyHolder
+        );
+
+        final List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < contributions.size(); i++) {
+            contributions.get(i).setId(((Number) keys.get(i).get("id")).longValue());
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package capi.funding.api.repository;
+
+import capi.funding.api.dto.EmailDTO;
+import capi.funding.api.dto.OutboxEmail;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class EmailOutboxRepository {
+
+    static final int LAST_ERROR_MAX_LENGTH = 1000;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO email_outbox (address, subject, content)
+            VALUES (?, ?, ?)
+            """;
+
+    private static final String CLAIM_SQL = """
+            UPDATE email_outbox eo SET
+                attempts = eo.attempts + 1,
+                next_attempt_at = current_timestamp + make_interval(secs => ?)
+            WHERE eo.id IN (
+                SELECT id
+                FROM email_outbox
+                WHERE sent_at IS NULL AND failed_at IS NULL AND next_attempt_at <= current_timestamp
+                ORDER BY next_attempt_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING eo.id, eo.address, eo.subject, eo.content, eo.attempts
+            """;
+
+    private static final String MARK_SENT_SQL = """
+            UPDATE email_outbox SET
+                sent_at = current_timestamp,
+                last_error = NULL
+            WHERE id = ?
+            """;
+
+    private static final String MARK_RETRY_SQL = """
+            UPDATE email_outbox SET
+                next_attempt_at = current_timestamp + make_interval(secs => ?),
+                last_error = ?
+            WHERE id = ?
+            """;
+
+    private static final String MARK_FAILED_SQL = """
+            UPDATE email_outbox SET
+                failed_at = current_timestamp,
+                last_error = ?
+            WHERE id = ?
+            """;
+
+    private static final String DELETE_SENT_SQL = """
+            DELETE FROM email_outbox
+            WHERE sent_at < ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Joins the caller's transaction, so the email is only dispatched if it commits.
+     */
+    public void insert(EmailDTO email) {
+        jdbcTemplate.update(INSERT_SQL, email.address(), email.subject(), email.content());
+    }
+
+    /**
+     * Claims up to {@code limit} due emails, skipping the ones other workers are claiming. Claimed emails aren't
+     * due again until {@code lease} passes, so the ones of a worker that died are picked up again after it.
+     */
+    public List<OutboxEmail> claim(int limit, Duration lease) {
+        return jdbcTemplate.query(
+                CLAIM_SQL,
+                (rs, rowNum) -> new OutboxEmail(
+                        rs.getLong("id"),
+                        new EmailDTO(rs.getString("address"), rs.getString("subject"), rs.getString("content")),
+                        rs.getInt("attempts")
+                ),
+                lease.toSeconds(),
+                limit
+        );
+    }
+
+    public void markSent(List<Long> ids) {
+        if (ids.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(MARK_SENT_SQL, ids, ids.size(), (ps, id) -> ps.setLong(1, id));
+    }
+
+    public void markRetry(long id, Duration delay, String error) {
+        jdbcTemplate.update(MARK_RETRY_SQL, delay.toSeconds(), truncate(error), id);
+    }
+
+    public void markFailed(long id, String error) {
+        jdbcTemplate.update(MARK_FAILED_SQL, truncate(error), id);
+    }
+
+    public int deleteSentBefore(LocalDateTime before) {
+        return jdbcTemplate.update(DELETE_SENT_SQL, Timestamp.valueOf(before));
+    }
+
+    private static String truncate(String error) {
+        return error != null && error.length() > LAST_ERROR_MAX_LENGTH
+                ? error.substring(0, LAST_ERROR_MAX_LENGTH)
+                : error;
+    }
+}
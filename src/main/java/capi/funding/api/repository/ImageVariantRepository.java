@@ -0,0 +1,137 @@
+package capi.funding.api.repository;
+
+import capi.funding.api.dto.ImageMetadata;
+import capi.funding.api.entity.ImageVariant;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ImageVariantRepository extends JpaRepository<ImageVariant, Long> {
+
+    @Query(value = """
+            SELECT
+                iv.hash AS hash,
+                iv.updated_at AS updatedAt
+            FROM
+                image_variant iv
+                JOIN project p ON iv.owner_id = p.id
+            WHERE
+                iv.owner_type = 'project'
+                AND iv.owner_id = :projectId
+                AND iv.variant = :variant
+                AND iv.source_hash = p.cover_image_hash
+            """, nativeQuery = true)
+    Optional<ImageMetadata> findProjectVariantMetadata(long projectId, String variant);
+
+    @Query(value = """
+            SELECT
+                iv.hash AS hash,
+                iv.updated_at AS updatedAt
+            FROM
+                image_variant iv
+                JOIN users u ON iv.owner_id = u.id
+            WHERE
+                iv.owner_type = 'user'
+                AND iv.owner_id = :userId
+                AND iv.variant = :variant
+                AND iv.source_hash = u.profile_image_hash
+            """, nativeQuery = true)
+    Optional<ImageMetadata> findUserVariantMetadata(long userId, String variant);
+
+    @Query(value = """
+            SELECT
+                iv.content
+            FROM
+                image_variant iv
+                JOIN project p ON iv.owner_id = p.id
+            WHERE
+                iv.owner_type = 'project'
+                AND iv.owner_id = :projectId
+                AND iv.variant = :variant
+                AND iv.source_hash = p.cover_image_hash
+            """, nativeQuery = true)
+    Optional<byte[]> findProjectVariant(long projectId, String variant);
+
+    @Query(value = """
+            SELECT
+                iv.content
+            FROM
+                image_variant iv
+                JOIN users u ON iv.owner_id = u.id
+            WHERE
+                iv.owner_type = 'user'
+                AND iv.owner_id = :userId
+                AND iv.variant = :variant
+                AND iv.source_hash = u.profile_image_hash
+            """, nativeQuery = true)
+    Optional<byte[]> findUserVariant(long userId, String variant);
+
+    @Query(value = """
+            SELECT
+                p.id
+            FROM
+                project p
+            WHERE
+                p.cover_image_hash IS NOT NULL
+                AND NOT EXISTS (
+                    SELECT 1
+                    FROM image_variant iv
+                    WHERE iv.owner_type = 'project'
+                        AND iv.owner_id = p.id
+                        AND iv.source_hash = p.cover_image_hash
+                )
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Long> findProjectsWithoutVariants(int limit);
+
+    @Query(value = """
+            SELECT
+                u.id
+            FROM
+                users u
+            WHERE
+                u.profile_image_hash IS NOT NULL
+                AND NOT EXISTS (
+                    SELECT 1
+                    FROM image_variant iv
+                    WHERE iv.owner_type = 'user'
+                        AND iv.owner_id = u.id
+                        AND iv.source_hash = u.profile_image_hash
+                )
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<Long> findUsersWithoutVariants(int limit);
+
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "image_variant"))
+    @Query(value = """
+            INSERT INTO image_variant AS iv
+                (owner_type, owner_id, variant, content, hash, source_hash, updated_at)
+            VALUES
+                (:ownerType, :ownerId, :variant, :content, encode(sha256(:content), 'hex'), :sourceHash, current_timestamp)
+            ON CONFLICT (owner_type, owner_id, variant) DO UPDATE SET
+                content = EXCLUDED.content,
+                hash = EXCLUDED.hash,
+                source_hash = EXCLUDED.source_hash,
+                updated_at = EXCLUDED.updated_at
+            """, nativeQuery = true)
+    void upsert(String ownerType, long ownerId, String variant, byte[] content, String sourceHash);
+
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "image_variant"))
+    @Query(value = """
+            DELETE FROM image_variant
+            WHERE owner_type = :ownerType
+                AND owner_id = :ownerId
+            """, nativeQuery = true)
+    void deleteByOwner(String ownerType, long ownerId);
+}
@@ -0,0 +1,111 @@
+package capi.funding.api.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class ProjectFundingSummaryBatchRepository {
+
+    private static final String UPSERT_TOTALS_SQL = """
+            INSERT INTO project_funding_summary AS pfs (project_id, total_raised, total_contributions)
+            SELECT *
+            FROM UNNEST(CAST(? AS int8[]), CAST(? AS numeric[]), CAST(? AS int8[]))
+                AS totals(project_id, total_raised, total_contributions)
+            ORDER BY project_id
+            ON CONFLICT (project_id) DO UPDATE SET
+                total_raised = pfs.total_raised + EXCLUDED.total_raised,
+                total_contributions = pfs.total_contributions + EXCLUDED.total_contributions
+            RETURNING pfs.project_id, pfs.total_raised
+            """;
+
+    private static final String UPSERT_HOURLY_SQL = """
+            INSERT INTO project_contribution_hourly AS pch (bucket, project_id, total_raised, total_contributions)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (bucket, project_id) DO UPDATE SET
+                total_raised = pch.total_raised + EXCLUDED.total_raised,
+                total_contributions = pch.total_contributions + EXCLUDED.total_contributions
+            """;
+
+    private static final String UPSERT_DAILY_SQL = """
+            INSERT INTO project_contribution_daily AS pcd (bucket, project_id, total_raised, total_contributions)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (bucket, project_id) DO UPDATE SET
+                total_raised = pcd.total_raised + EXCLUDED.total_raised,
+                total_contributions = pcd.total_contributions + EXCLUDED.total_contributions
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Single statement for all the projects, returns the new total raised of each one.
+     */
+    public Map<Long, BigDecimal> addContributions(Collection<Totals> totals) {
+        final Map<Long, BigDecimal> totalsRaised = new HashMap<>();
+
+        if (totals.isEmpty()) return totalsRaised;
+
+        jdbcTemplate.query(
+                con -> {
+                    final PreparedStatement ps = con.prepareStatement(UPSERT_TOTALS_SQL);
+                    ps.setArray(1, con.createArrayOf("int8", totals.stream().map(Totals::projectId).toArray()));
+                    ps.setArray(2, con.createArrayOf("numeric", totals.stream().map(Totals::value).toArray()));
+                    ps.setArray(3, con.createArrayOf("int8", totals.stream().map(Totals::count).toArray()));
+                    return ps;
+                },
+                rs -> {
+                    totalsRaised.put(rs.getLong("project_id"), rs.getBigDecimal("total_raised"));
+                }
+        );
+
+        return totalsRaised;
+    }
+
+    /**
+     * Single JDBC batch, every bucket must appear once since a multi-row upsert can't touch the same row twice.
+     */
+    public void addHourlyContributions(Collection<Totals> totals) {
+        jdbcTemplate.batchUpdate(UPSERT_HOURLY_SQL, totals, totals.size(), (ps, bucketTotals) -> {
+            ps.setTimestamp(1, Timestamp.valueOf(bucketTotals.bucket()));
+            setTotals(ps, bucketTotals);
+        });
+    }
+
+    /**
+     * Same as {@link #addHourlyContributions} for the daily buckets.
+     */
+    public void addDailyContributions(Collection<Totals> totals) {
+        jdbcTemplate.batchUpdate(UPSERT_DAILY_SQL, totals, totals.size(), (ps, bucketTotals) -> {
+            ps.setDate(1, Date.valueOf(bucketTotals.bucket().toLocalDate()));
+            setTotals(ps, bucketTotals);
+        });
+    }
+
+    private static void setTotals(PreparedStatement ps, Totals totals) throws SQLException {
+        ps.setLong(2, totals.projectId());
+        ps.setBigDecimal(3, totals.value());
+        ps.setLong(4, totals.count());
+    }
+
+    /**
+     * Contributions summed for a project, in a time bucket when {@code bucket} isn't null.
+     */
+    public record Totals(
+            long projectId,
+            LocalDateTime bucket,
+            BigDecimal value,
+            long count
+    ) {
+    }
+}
@@ -0,0 +1,38 @@
+package capi.funding.api.repository;
+
+import capi.funding.api.entity.ProjectFundingSummary;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public interface ProjectFundingSummaryRepository extends JpaRepository<ProjectFundingSummary, Long> {
+
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project_funding_summary"))
+    @Query(value = """
+            INSERT INTO project_funding_summary AS pfs
+                (project_id, contribution_goal)
+            VALUES
+                (:projectId, :goalDelta)
+            ON CONFLICT (project_id) DO UPDATE SET
+                contribution_goal = pfs.contribution_goal + EXCLUDED.contribution_goal
+            """, nativeQuery = true)
+    void addContributionGoal(long projectId, BigDecimal goalDelta);
+
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project_contribution_hourly"))
+    @Query(value = """
+            DELETE FROM project_contribution_hourly
+            WHERE bucket < :before
+            """, nativeQuery = true)
+    void deleteHourlyContributionsBefore(LocalDateTime before);
+}
@@ -1,24 +1,28 @@
 package capi.funding.api.repository;
 
 import capi.funding.api.entity.ProjectMilestone;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 import java.util.Optional;
 
 public interface ProjectMilestoneRepository extends JpaRepository<ProjectMilestone, Long> {
 
-    @Query(value = """
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("""
             SELECT
-                *
+                pm
             FROM
-                project_milestone pm
+                ProjectMilestone pm
             WHERE
                 pm.project_id = :projectId
             ORDER BY
                 pm.sequence asc
-            """, nativeQuery = true)
+            """)
     List<ProjectMilestone> findByProject(long projectId);
 
     @Query(value = """
@@ -1,50 +1,71 @@
 package capi.funding.api.repository;
 
+import capi.funding.api.dto.ImageMetadata;
 import capi.funding.api.dto.MostSearchedCategoriesDTO;
+import capi.funding.api.dto.ProjectAccessInfo;
+import capi.funding.api.dto.ProjectSearchDocument;
+import capi.funding.api.dto.ProjectStatusDTO;
 import capi.funding.api.dto.ProjectsList;
 import capi.funding.api.entity.Project;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 
-    @Query(value = """
+    // shared by the listing queries, each one adds its own conditions, order and paging
+    String PROJECTS_LIST_COLUMNS = """
             SELECT
                 p.id AS projectId,
                 p.title AS projectTitle,
-                p.cover_image AS coverImage,
+                COALESCE(piv.hash, p.cover_image_hash) AS coverImageHash,
+                piv.variant AS coverImageVariant,
+                u.id AS creatorId,
                 u.name AS creatorName,
-                u.profile_image AS creatorProfileImage,
+                COALESCE(uiv.hash, u.profile_image_hash) AS creatorProfileImageHash,
+                uiv.variant AS creatorProfileImageVariant,
                 GREATEST(p.final_date - current_date, 0) AS remainingDays,
-                get_project_percentage_raised(p.id) AS percentageRaised,
+                COALESCE(pfs.percentage_raised, 100) AS percentageRaised,
                 pc.name AS category,
-                ps.description AS status
+                ps.description AS status,
+                COALESCE(pfs.total_raised, 0) AS totalRaised
+            """;
+
+    String PROJECTS_LIST_FROM = """
             FROM
                 project p
                 JOIN users u ON p.creator_id = u.id
                 JOIN project_category pc ON p.category_id = pc.id
                 JOIN project_status ps ON p.status_id = ps.id
-                LEFT JOIN contribution c ON p.id = c.project_id
+                LEFT JOIN project_funding_summary pfs ON p.id = pfs.project_id
+                LEFT JOIN image_variant piv ON piv.owner_type = 'project' AND piv.owner_id = p.id
+                    AND piv.variant = 'card' AND piv.source_hash = p.cover_image_hash
+                LEFT JOIN image_variant uiv ON uiv.owner_type = 'user' AND uiv.owner_id = u.id
+                    AND uiv.variant = 'thumb' AND uiv.source_hash = u.profile_image_hash
+            """;
+
+    String PROJECTS_LIST_FILTERS = """
             WHERE
                 ( :projectTitle = '' or LOWER(p.title) LIKE :projectTitle )
                 AND ( (:projectCategory IS NULL) OR (p.category_id IN (:projectCategory)) )
                 AND ( (:projectStatus IS NULL AND p.status_id not in (6,7)) OR (p.status_id IN (:projectStatus)) )
                 AND ( :creatorName = '' OR LOWER(u.name) LIKE :creatorName )
-            GROUP BY
-            	projectId,
-                projectTitle,
-                coverImage,
-                creatorName,
-                creatorProfileImage,
-                remainingDays,
-                percentageRaised,
-                category,
-                status
+            """;
+
+    @Query(value = PROJECTS_LIST_COLUMNS + PROJECTS_LIST_FROM + PROJECTS_LIST_FILTERS + """
             ORDER BY
-            	COALESCE(SUM(c.value), 0) DESC
+            	COALESCE(pfs.total_raised, 0) DESC,
+            	p.id DESC
             OFFSET :offset
             limit :limit
             """, nativeQuery = true)
@@ -53,6 +74,91 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
             long offset, long limit
     );
 
+    @Query(value = PROJECTS_LIST_COLUMNS + """
+                , COUNT(*) OVER() AS totalRegisters
+            """ + PROJECTS_LIST_FROM + PROJECTS_LIST_FILTERS + """
+            ORDER BY
+            	COALESCE(pfs.total_raised, 0) DESC,
+            	p.id DESC
+            OFFSET :offset
+            limit :limit
+            """, nativeQuery = true)
+    List<ProjectsList> getProjectsListWithTotal(
+            String projectTitle, List<Integer> projectCategory, List<Integer> projectStatus, String creatorName,
+            long offset, long limit
+    );
+
+    @Query(value = PROJECTS_LIST_COLUMNS + """
+                , COUNT(*) OVER() AS totalRegisters
+            """ + PROJECTS_LIST_FROM + PROJECTS_LIST_FILTERS + """
+            ORDER BY
+            	GREATEST(similarity(LOWER(p.title), :titleTerm), similarity(LOWER(u.name), :creatorTerm)) DESC,
+            	COALESCE(pfs.total_raised, 0) DESC,
+            	p.id DESC
+            OFFSET :offset
+            limit :limit
+            """, nativeQuery = true)
+    List<ProjectsList> getProjectsListByRelevance(
+            String projectTitle, List<Integer> projectCategory, List<Integer> projectStatus, String creatorName,
+            String titleTerm, String creatorTerm, long offset, long limit
+    );
+
+    @Query(value = PROJECTS_LIST_COLUMNS + PROJECTS_LIST_FROM + PROJECTS_LIST_FILTERS + """
+                AND ( COALESCE(pfs.total_raised, 0), p.id ) < ( :lastTotalRaised, :lastProjectId )
+            ORDER BY
+            	COALESCE(pfs.total_raised, 0) DESC,
+            	p.id DESC
+            limit :limit
+            """, nativeQuery = true)
+    List<ProjectsList> getProjectsListAfter(
+            String projectTitle, List<Integer> projectCategory, List<Integer> projectStatus, String creatorName,
+            BigDecimal lastTotalRaised, long lastProjectId, long limit
+    );
+
+    @Query(value = PROJECTS_LIST_COLUMNS + PROJECTS_LIST_FROM + """
+            WHERE
+                p.id = ANY(CAST(STRING_TO_ARRAY(:projectIds, ',') AS int4[]))
+            ORDER BY
+            	ARRAY_POSITION(CAST(STRING_TO_ARRAY(:projectIds, ',') AS int4[]), p.id)
+            """, nativeQuery = true)
+    List<ProjectsList> getProjectsListInOrder(String projectIds);
+
+    @Query("""
+            SELECT
+                new capi.funding.api.dto.ProjectAccessInfo(p.id, p.creator_id, p.status_id, p.need_to_follow_order, p.final_date)
+            FROM
+                Project p
+            WHERE
+                p.id = :projectId
+            """)
+    Optional<ProjectAccessInfo> findAccessInfo(long projectId);
+
+    @Query(value = """
+            SELECT
+                p.id AS id,
+                p.status_id AS statusId
+            FROM
+                project p
+            WHERE
+                p.id = ANY(CAST(STRING_TO_ARRAY(:projectIds, ',') AS int4[]))
+            """, nativeQuery = true)
+    List<ProjectStatusDTO> getProjectsStatus(String projectIds);
+
+    @Query(value = """
+            SELECT
+                p.id AS projectId,
+                p.title AS title,
+                p.category_id AS categoryId,
+                p.status_id AS statusId,
+                u.name AS creatorName,
+                COALESCE(pfs.total_raised, 0) AS totalRaised
+            FROM
+                project p
+                JOIN users u ON p.creator_id = u.id
+                LEFT JOIN project_funding_summary pfs ON p.id = pfs.project_id
+            """, nativeQuery = true)
+    List<ProjectSearchDocument> findAllSearchDocuments();
+
     @Query(value = """
             SELECT
                 COUNT(*)
@@ -69,6 +175,39 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
             String projectTitle, List<Integer> projectCategory, List<Integer> projectStatus, String creatorName
     );
 
+    @Query(value = """
+            SELECT
+                p.cover_image_hash AS hash,
+                p.cover_image_updated_at AS updatedAt
+            FROM
+                project p
+            WHERE
+                p.id = :projectId
+                AND p.cover_image_hash IS NOT NULL
+            """, nativeQuery = true)
+    Optional<ImageMetadata> findCoverImageMetadata(long projectId);
+
+    @Query(value = """
+            SELECT
+                p.cover_image
+            FROM
+                project p
+            WHERE
+                p.id = :projectId
+                AND p.cover_image IS NOT NULL
+            """, nativeQuery = true)
+    Optional<byte[]> findCoverImage(long projectId);
+
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project"))
+    @Query(value = """
+            UPDATE project
+            SET cover_image = :coverImage
+            WHERE id = :projectId
+            """, nativeQuery = true)
+    void updateCoverImage(long projectId, byte[] coverImage);
+
     @Query(value = """
             SELECT
                 *
@@ -86,6 +225,12 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
             """, nativeQuery = true)
     List<ProjectsList> getMostSearchedProjects(int pageNumber);
 
+    @Query(value = """
+            SELECT *
+            FROM get_most_searched_projects_between(:start, :end, :hourly, :pageNumber)
+            """, nativeQuery = true)
+    List<ProjectsList> getMostSearchedProjectsBetween(LocalDateTime start, LocalDateTime end, boolean hourly, int pageNumber);
+
     @Query(value = """
             SELECT *
             FROM count_total_searched_projects()
@@ -98,6 +243,12 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
             """, nativeQuery = true)
     List<ProjectsList> getTopDonatedProjects(int pageNumber);
 
+    @Query(value = """
+            SELECT *
+            FROM get_top_donated_projects_between(:start, :end, :hourly, :pageNumber)
+            """, nativeQuery = true)
+    List<ProjectsList> getTopDonatedProjectsBetween(LocalDateTime start, LocalDateTime end, boolean hourly, int pageNumber);
+
     @Query(value = """
             SELECT *
             FROM count_total_donated_projects();
@@ -107,15 +258,30 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     @Query(value = """
             SELECT
             	pc.name AS categoryName,
-            	COUNT(pc.id) AS totalSearchs
+            	CAST(SUM(psd.searches) AS int8) AS totalSearchs
             FROM
-            	project_search_log psl
+            	project_search_log_daily psd
             	JOIN project_category pc
-            	    ON (psl.filter_name = 'project_category' AND CAST(psl.filter_value AS integer) = pc.id)
+            	    ON (psd.filter_name = 'project_category' AND CAST(psd.filter_value AS integer) = pc.id)
             GROUP BY
             	categoryName
             ORDER BY
             	totalSearchs DESC
             """, nativeQuery = true)
     List<MostSearchedCategoriesDTO> getMostSearchedCategories();
+
+    @Query(value = """
+            SELECT
+            	pc.name AS categoryName,
+            	t.total AS totalSearchs
+            FROM
+            	UNNEST(
+            	    CAST(STRING_TO_ARRAY(:categoryIds, ',') AS int4[]),
+            	    CAST(STRING_TO_ARRAY(:totals, ',') AS int8[])
+            	) WITH ORDINALITY AS t(category_id, total, position)
+            	JOIN project_category pc ON t.category_id = pc.id
+            ORDER BY
+            	t.position
+            """, nativeQuery = true)
+    List<MostSearchedCategoriesDTO> getCategoriesSearchTotals(String categoryIds, String totals);
 }
@@ -0,0 +1,146 @@
+package capi.funding.api.repository;
+
+import capi.funding.api.entity.ProjectSearchLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+@Repository
+@RequiredArgsConstructor
+public class ProjectSearchLogBatchRepository {
+
+    static final int ROLLUP_VALUE_MAX_LENGTH = 255;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO project_search_log (user_id, filter_name, filter_value, search_date)
+            VALUES (?, ?, ?, ?)
+            """;
+
+    private static final String UPSERT_HOURLY_SQL = """
+            INSERT INTO project_search_log_hourly AS psh (bucket, filter_name, filter_value, searches)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (bucket, filter_name, filter_value) DO UPDATE SET
+                searches = psh.searches + EXCLUDED.searches
+            """;
+
+    private static final String UPSERT_DAILY_SQL = """
+            INSERT INTO project_search_log_daily AS psd (bucket, filter_name, filter_value, searches)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (bucket, filter_name, filter_value) DO UPDATE SET
+                searches = psd.searches + EXCLUDED.searches
+            """;
+
+    private static final String DELETE_LOGS_SQL = """
+            DELETE FROM project_search_log
+            WHERE id IN (
+                SELECT id
+                FROM project_search_log
+                WHERE search_date < ?
+                LIMIT ?
+            )
+            """;
+
+    private static final String DELETE_HOURLY_SQL = """
+            DELETE FROM project_search_log_hourly
+            WHERE bucket < ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Single JDBC batch, rewritten by the driver into multi-row inserts (reWriteBatchedInserts).
+     * The hourly and daily rollups are updated in the same transaction, every rollup row appears once
+     * per batch since a multi-row upsert can't touch the same row twice.
+     */
+    @Transactional
+    public void insertAll(List<ProjectSearchLog> searchLogs) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, searchLogs, searchLogs.size(), (ps, searchLog) -> {
+            ps.setLong(1, searchLog.getUser_id());
+            ps.setString(2, searchLog.getFilter_name());
+            ps.setString(3, searchLog.getFilter_value());
+            ps.setTimestamp(4, Timestamp.valueOf(searchLog.getSearch_date()));
+        });
+
+        final List<Map.Entry<RollupKey<LocalDateTime>, Long>> hourly =
+                rollup(searchLogs, searchDate -> searchDate.truncatedTo(ChronoUnit.HOURS));
+        jdbcTemplate.batchUpdate(UPSERT_HOURLY_SQL, hourly, hourly.size(), (ps, entry) -> {
+            ps.setTimestamp(1, Timestamp.valueOf(entry.getKey().bucket()));
+            ps.setString(2, entry.getKey().filterName());
+            ps.setString(3, entry.getKey().filterValue());
+            ps.setLong(4, entry.getValue());
+        });
+
+        final List<Map.Entry<RollupKey<LocalDate>, Long>> daily =
+                rollup(searchLogs, LocalDateTime::toLocalDate);
+        jdbcTemplate.batchUpdate(UPSERT_DAILY_SQL, daily, daily.size(), (ps, entry) -> {
+            ps.setDate(1, Date.valueOf(entry.getKey().bucket()));
+            ps.setString(2, entry.getKey().filterName());
+            ps.setString(3, entry.getKey().filterValue());
+            ps.setLong(4, entry.getValue());
+        });
+    }
+
+    /**
+     * Deletes up to {@code limit} raw logs older than {@code before}, so a large backlog is pruned in short
+     * transactions.
+     *
+     * @return how many logs were deleted
+     */
+    public int deleteLogsBefore(LocalDateTime before, int limit) {
+        return jdbcTemplate.update(DELETE_LOGS_SQL, Timestamp.valueOf(before), limit);
+    }
+
+    public int deleteHourlyRollupsBefore(LocalDateTime before) {
+        return jdbcTemplate.update(DELETE_HOURLY_SQL, Timestamp.valueOf(before));
+    }
+
+    static <B> List<Map.Entry<RollupKey<B>, Long>> rollup(List<ProjectSearchLog> searchLogs, Function<LocalDateTime, B> bucket) {
+        final Map<RollupKey<B>, Long> totals = new HashMap<>();
+
+        for (ProjectSearchLog searchLog : searchLogs) {
+            totals.merge(
+                    new RollupKey<>(
+                            bucket.apply(searchLog.getSearch_date()),
+                            searchLog.getFilter_name(),
+                            rollupValue(searchLog.getFilter_value())
+                    ),
+                    1L,
+                    Long::sum
+            );
+        }
+
+        return new ArrayList<>(totals.entrySet());
+    }
+
+    // long %term% patterns are cut inside the wildcards, so they stay patterns
+    static String rollupValue(String filterValue) {
+        if (filterValue.length() <= ROLLUP_VALUE_MAX_LENGTH) {
+            return filterValue;
+        }
+
+        if (filterValue.endsWith("%")) {
+            return filterValue.substring(0, ROLLUP_VALUE_MAX_LENGTH - 1) + "%";
+        }
+
+        return filterValue.substring(0, ROLLUP_VALUE_MAX_LENGTH);
+    }
+
+    record RollupKey<B>(
+            B bucket,
+            String filterName,
+            String filterValue
+    ) {
+    }
+}
@@ -0,0 +1,38 @@
+package capi.funding.api.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class SearchTrendCheckpointRepository {
+
+    private static final String SELECT_SQL = """
+            SELECT content
+            FROM search_trend_checkpoint
+            WHERE name = ?
+            """;
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO search_trend_checkpoint AS stc (name, content, updated_at)
+            VALUES (?, ?, current_timestamp)
+            ON CONFLICT (name) DO UPDATE SET
+                content = EXCLUDED.content,
+                updated_at = EXCLUDED.updated_at
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<byte[]> find(String name) {
+        return jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> rs.getBytes(1), name)
+                .stream()
+                .findFirst();
+    }
+
+    public void save(String name, byte[] content) {
+        jdbcTemplate.update(UPSERT_SQL, name, content);
+    }
+}
@@ -1,11 +1,51 @@
 package capi.funding.api.repository;
 
+import capi.funding.api.dto.ImageMetadata;
 import capi.funding.api.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByEmail(String email);
+
+    @Query(value = """
+            SELECT
+                u.profile_image_hash AS hash,
+                u.profile_image_updated_at AS updatedAt
+            FROM
+                users u
+            WHERE
+                u.id = :userId
+                AND u.profile_image_hash IS NOT NULL
+            """, nativeQuery = true)
+    Optional<ImageMetadata> findProfileImageMetadata(long userId);
+
+    @Query(value = """
+            SELECT
+                u.profile_image
+            FROM
+                users u
+            WHERE
+                u.id = :userId
+                AND u.profile_image IS NOT NULL
+            """, nativeQuery = true)
+    Optional<byte[]> findProfileImage(long userId);
+
+    @Transactional
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "users"))
+    @Query(value = """
+            UPDATE users
+            SET profile_image = :profileImage
+            WHERE id = :userId
+            """, nativeQuery = true)
+    void updateProfileImage(long userId, byte[] profileImage);
 }
@@ -3,28 +3,53 @@ package capi.funding.api.security;
 import capi.funding.api.entity.User;
 import capi.funding.api.infra.exceptions.TokenGenerateException;
 import capi.funding.api.services.JwtService;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTCreationException;
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import lombok.NonNull;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+
 @Service
 public class TokenService {
 
     private final JwtService jwtService;
 
-    private final String secret;
+    private final Algorithm algorithm;
+    private final JWTVerifier verifier;
+
+    private final Duration verifiedTokensMaxTtl;
+    private final Cache<String, VerifiedToken> verifiedTokens;
 
-    public TokenService(JwtService jwtService, @Value("${api.security.token.secret}") String secret) {
+    public TokenService(
+            JwtService jwtService,
+            @Value("${api.security.token.secret}") String secret,
+            @Value("${api.security.token.cache-maximum-size:10000}") long verifiedTokensMaxSize,
+            @Value("${api.security.token.cache-max-ttl:PT5M}") Duration verifiedTokensMaxTtl
+    ) {
         this.jwtService = jwtService;
-        this.secret = secret;
+        this.algorithm = Algorithm.HMAC256(secret);
+        this.verifier = jwtService.buildVerifier(algorithm);
+        this.verifiedTokensMaxTtl = verifiedTokensMaxTtl;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedTokensMaxSize)
+                .expireAfter(new VerifiedTokenExpiry())
+                .build();
     }
 
     public String generateToken(@NonNull User user) {
-        final Algorithm algorithm = Algorithm.HMAC256(secret);
-
         try {
             return jwtService.generateToken(user, algorithm);
         } catch (JWTCreationException exception) {
@@ -33,12 +58,65 @@ public class TokenService {
     }
 
     public String validateToken(@NonNull String token) {
-        final Algorithm algorithm = Algorithm.HMAC256(secret);
+        final String tokenHash = hash(token);
 
+        final VerifiedToken cached = verifiedTokens.getIfPresent(tokenHash);
+        if (cached != null) {
+            return cached.subject();
+        }
+
+        final DecodedJWT decodedToken;
         try {
-            return jwtService.validateToken(algorithm, token);
+            decodedToken = jwtService.validateToken(verifier, token);
         } catch (JWTVerificationException exception) {
             return null;
         }
+
+        if (decodedToken.getExpiresAtAsInstant() != null) {
+            verifiedTokens.put(tokenHash, new VerifiedToken(decodedToken.getSubject(), decodedToken.getExpiresAtAsInstant()));
+        }
+
+        return decodedToken.getSubject();
+    }
+
+    private static String hash(String token) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.US_ASCII));
+
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record VerifiedToken(String subject, Instant expiresAt) {
+    }
+
+    // entries never outlive the token itself
+    private class VerifiedTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            final Duration untilExpiration = Duration.between(Instant.now(), value.expiresAt());
+
+            if (untilExpiration.isNegative()) {
+                return 0;
+            }
+
+            return untilExpiration.compareTo(verifiedTokensMaxTtl) < 0
+                    ? untilExpiration.toNanos()
+                    : verifiedTokensMaxTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
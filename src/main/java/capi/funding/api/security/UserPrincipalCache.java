@@ -0,0 +1,95 @@
+package capi.funding.api.security;
+
+import capi.funding.api.entity.User;
+import capi.funding.api.infra.cache.LockingLoadingCache;
+import capi.funding.api.infra.exceptions.NotFoundException;
+import capi.funding.api.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Authenticated users by email. Entries are detached copies of {@link User},
+ * bounded by an estimated weight in bytes and reloaded in the background before they expire.
+ */
+@Component
+public class UserPrincipalCache {
+
+    private static final int ENTRY_OVERHEAD = 256;
+
+    private final UserRepository userRepository;
+
+    private final LockingLoadingCache<String, User> cache;
+
+    public UserPrincipalCache(
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${api.security.users-cache.maximum-weight:8388608}") long maximumWeight,
+            @Value("${api.security.users-cache.expire-after-write:PT30M}") Duration expireAfterWrite,
+            @Value("${api.security.users-cache.refresh-after-write:PT10M}") Duration refreshAfterWrite
+    ) {
+        this.userRepository = userRepository;
+        this.cache = new LockingLoadingCache<>(
+                Caffeine.newBuilder()
+                        .maximumWeight(maximumWeight)
+                        .weigher(UserPrincipalCache::weigh)
+                        .expireAfterWrite(expireAfterWrite)
+                        .refreshAfterWrite(refreshAfterWrite)
+                        .recordStats()
+                        .build(this::load),
+                this::load
+        );
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.cache(), "users");
+    }
+
+    public User get(@NonNull String email) {
+        final User user = cache.get(email);
+
+        if (user == null) {
+            throw new NotFoundException("user not found");
+        }
+
+        return user;
+    }
+
+    public void invalidate(@NonNull String email) {
+        cache.invalidate(email);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public CacheStats stats() {
+        return cache.cache().stats();
+    }
+
+    private User load(String email) {
+        return userRepository.findByEmail(email)
+                .map(UserPrincipalCache::toPrincipal)
+                .orElse(null);
+    }
+
+    private static User toPrincipal(User user) {
+        return new User(
+                user.getId(),
+                user.getEmail(),
+                user.getPassword(),
+                user.getName(),
+                user.isActive(),
+                user.getCreation_date(),
+                user.getProfile_image_hash()
+        );
+    }
+
+    private static int weigh(String email, User user) {
+        return ENTRY_OVERHEAD + 2 * (email.length() + user.getName().length() + user.getPassword().length());
+    }
+}
@@ -7,17 +7,15 @@ import capi.funding.api.dto.LoginResponseDTO;
 import capi.funding.api.entity.User;
 import capi.funding.api.enums.EmailType;
 import capi.funding.api.infra.exceptions.AuthException;
-import capi.funding.api.infra.exceptions.EmailSendException;
 import capi.funding.api.infra.exceptions.WithoutPermissionException;
 import capi.funding.api.security.TokenService;
-import jakarta.mail.AuthenticationFailedException;
-import jakarta.mail.MessagingException;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.*;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
@@ -25,6 +23,7 @@ public class AuthService {
 
     private final AuthenticationManager authenticationManager;
     private final BCryptPasswordEncoder bCrypt;
+    private final TransactionTemplate transactionTemplate;
 
     private final TokenService tokenService;
     private final EmailService emailService;
@@ -47,16 +46,23 @@ public class AuthService {
         return new LoginResponseDTO((User) auth.getPrincipal(), token);
     }
 
+    /**
+     * The user and its activation email are saved in the same transaction, the email is sent in background by
+     * the outbox dispatcher. Both hashes are computed before the transaction so it doesn't hold a connection.
+     */
     public User createNewUser(CreateUserDTO userDTO) {
-        User user = userDTO.toUser();
+        final User user = userDTO.toUser();
 
         user.setPassword(bCrypt.encode(user.getPassword()));
+        final String activationToken = bCrypt.encode(user.getEmail());
 
-        user = userService.save(user);
+        return transactionTemplate.execute(status -> {
+            final User savedUser = userService.save(user);
 
-        sendActivateAccountEmail(user.getEmail(), user.getId());
+            enqueueActivateAccountEmail(savedUser.getEmail(), savedUser.getId(), activationToken);
 
-        return user;
+            return savedUser;
+        });
     }
 
     @SuppressWarnings("unused")
@@ -72,24 +78,15 @@ public class AuthService {
         userService.save(user);
     }
 
-    private void sendActivateAccountEmail(@NonNull String userMail, long userId) {
-        try {
-            final String token = bCrypt.encode(userMail);
-            final String mailContent = emailService.buildEmailTemplate(EmailType.ACTIVATE_ACCOUNT, userId, token);
-
-            emailService.sendMail(
-                    new EmailDTO(
-                            userMail,
-                            "Ativação da conta CapiFunding",
-                            mailContent
-                    )
-            );
-        } catch (AuthenticationFailedException authenticationFailedException) {
-            userService.deleteById(userId);
-            throw new EmailSendException("failed to authenticate to email");
-        } catch (MessagingException messagingException) {
-            userService.deleteById(userId);
-            throw new EmailSendException("failed to send account activation email");
-        }
+    private void enqueueActivateAccountEmail(@NonNull String userMail, long userId, @NonNull String token) {
+        final String mailContent = emailService.buildEmailTemplate(EmailType.ACTIVATE_ACCOUNT, userId, token);
+
+        emailService.enqueueMail(
+                new EmailDTO(
+                        userMail,
+                        "Ativação da conta CapiFunding",
+                        mailContent
+                )
+        );
     }
 }
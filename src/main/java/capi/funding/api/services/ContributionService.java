@@ -1,28 +1,46 @@
 package capi.funding.api.services;
 
+import capi.funding.api.dto.ContributionBatchResult;
 import capi.funding.api.dto.CreateContributionDTO;
+import capi.funding.api.dto.InvalidFieldsDTO;
+import capi.funding.api.dto.ProjectAccessInfo;
 import capi.funding.api.entity.Contribution;
-import capi.funding.api.entity.Project;
 import capi.funding.api.enums.ProjectStatusEnum;
 import capi.funding.api.infra.exceptions.InvalidParametersException;
 import capi.funding.api.infra.exceptions.NotFoundException;
+import capi.funding.api.infra.reports.GeneralInfosCounters;
+import capi.funding.api.repository.ContributionBatchRepository;
 import capi.funding.api.repository.ContributionRepository;
 import capi.funding.api.utils.Utils;
+import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ContributionService {
 
+    static final int MAX_BATCH_SIZE = 1000;
+
+    private static final BigDecimal MINIMUM_VALUE = BigDecimal.valueOf(5);
+    private static final String CLOSED_PROJECT_MESSAGE = "cannot contribute to a project with status 'paused', 'completed' or 'canceled'";
+
     private final Utils utils;
     private final ProjectService projectService;
+    private final ProjectFundingSummaryService fundingSummaryService;
+    private final GeneralInfosCounters generalInfosCounters;
 
     private final ContributionRepository contributionRepository;
+    private final ContributionBatchRepository contributionBatchRepository;
 
     public List<Contribution> findByProject(long projectId) {
         if (!projectService.existsById(projectId)) {
@@ -41,13 +59,14 @@ public class ContributionService {
                 .orElseThrow(() -> new NotFoundException("contribution not found"));
     }
 
+    @Transactional
     public Contribution createNew(CreateContributionDTO dto) {
         final Contribution contribution = dto.toContribution();
 
-        final Project project = projectService.findById(contribution.getProject_id());
-        validateProjectStatusForContribution(project.getStatus_id());
+        final ProjectAccessInfo project = projectService.getAccessInfo(contribution.getProject_id());
+        validateProjectStatusForContribution(project.statusId());
 
-        if (contribution.getValue().compareTo(BigDecimal.valueOf(5)) < 0) {
+        if (contribution.getValue().compareTo(MINIMUM_VALUE) < 0) {
             throw new InvalidParametersException("the minimum amount to contribute is $5");
         }
 
@@ -59,19 +78,114 @@ public class ContributionService {
                 LocalDateTime.now()
         );
 
-        return contributionRepository.save(contribution);
+        final Contribution savedContribution = contributionRepository.save(contribution);
+
+        fundingSummaryService.addContribution(contribution.getProject_id(), contribution.getValue(), contribution.getDate());
+        generalInfosCounters.addContribution(contribution.getValue());
+
+        return savedContribution;
+    }
+
+    /**
+     * Creates many contributions at once, the items that fail validation are rejected individually and the
+     * others inserted in a single batch. The status of all the referenced projects is read in one query.
+     *
+     * @return the outcome of each item, in the request order
+     */
+    @Transactional
+    public List<ContributionBatchResult> createBatch(@NonNull List<CreateContributionDTO> dtos) {
+        if (dtos.isEmpty()) {
+            throw new InvalidParametersException("the batch can't be empty");
+        }
+        if (dtos.size() > MAX_BATCH_SIZE) {
+            throw new InvalidParametersException("the batch can't have more than " + MAX_BATCH_SIZE + " contributions");
+        }
+
+        final Map<Long, Long> projectsStatus = projectService.getProjectsStatus(
+                dtos.stream()
+                        .filter(Objects::nonNull)
+                        .map(CreateContributionDTO::project_id)
+                        .filter(projectId -> projectId > 0)
+                        .collect(Collectors.toSet())
+        );
+
+        final long userId = utils.getAuthUser().getId();
+        final LocalDateTime date = LocalDateTime.now();
+
+        final ContributionBatchResult[] results = new ContributionBatchResult[dtos.size()];
+        final List<Contribution> contributions = new ArrayList<>();
+        final List<Integer> contributionIndexes = new ArrayList<>();
+
+        for (int i = 0; i < dtos.size(); i++) {
+            final String error = validateBatchItem(dtos.get(i), projectsStatus);
+
+            if (error != null) {
+                results[i] = ContributionBatchResult.rejected(i, error);
+                continue;
+            }
+
+            final Contribution contribution = dtos.get(i).toContribution();
+            contribution.setUser_id(userId);
+            contribution.setDate(date);
+
+            contributions.add(contribution);
+            contributionIndexes.add(i);
+        }
+
+        if (!contributions.isEmpty()) {
+            contributionBatchRepository.insertAll(contributions);
+
+            fundingSummaryService.addContributions(contributions);
+            generalInfosCounters.addContributions(
+                    contributions.size(),
+                    contributions.stream().map(Contribution::getValue).reduce(BigDecimal.ZERO, BigDecimal::add)
+            );
+        }
+
+        for (int i = 0; i < contributions.size(); i++) {
+            final int index = contributionIndexes.get(i);
+            results[index] = ContributionBatchResult.created(index, contributions.get(i).getId());
+        }
+
+        return List.of(results);
+    }
+
+    private String validateBatchItem(CreateContributionDTO dto, Map<Long, Long> projectsStatus) {
+        if (dto == null) {
+            return "the contribution is required";
+        }
+
+        final List<InvalidFieldsDTO> invalidFields = utils.getInvalidFields(dto);
+        if (!invalidFields.isEmpty()) {
+            return invalidFields.get(0).message();
+        }
+        if (dto.value().compareTo(MINIMUM_VALUE) < 0) {
+            return "the minimum amount to contribute is $5";
+        }
+
+        final Long projectStatus = projectsStatus.get(dto.project_id());
+        if (projectStatus == null) {
+            return "project not found";
+        }
+        if (!acceptsContributions(projectStatus)) {
+            return CLOSED_PROJECT_MESSAGE;
+        }
+
+        return null;
     }
 
     private void validateProjectStatusForContribution(long projectStatus) {
-        if (
-                projectStatus == ProjectStatusEnum.PAUSED.getValue()
-                        || projectStatus == ProjectStatusEnum.DONE.getValue()
-                        || projectStatus == ProjectStatusEnum.CANCELED.getValue()
-        ) {
-            throw new InvalidParametersException("cannot contribute to a project with status 'paused', 'completed' or 'canceled'");
+        if (!acceptsContributions(projectStatus)) {
+            throw new InvalidParametersException(CLOSED_PROJECT_MESSAGE);
         }
     }
 
+    private static boolean acceptsContributions(long projectStatus) {
+        return projectStatus != ProjectStatusEnum.PAUSED.getValue()
+                && projectStatus != ProjectStatusEnum.DONE.getValue()
+                && projectStatus != ProjectStatusEnum.CANCELED.getValue();
+    }
+
     public BigDecimal getTotalRaised() {
         return contributionRepository.countTotalRaised();
     }
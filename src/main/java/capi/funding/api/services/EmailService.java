@@ -2,34 +2,78 @@ package capi.funding.api.services;
 
 import capi.funding.api.dto.EmailDTO;
 import capi.funding.api.enums.EmailType;
+import capi.funding.api.infra.email.EmailEnqueuedEvent;
+import capi.funding.api.repository.EmailOutboxRepository;
 import capi.funding.api.utils.Utils;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
+import java.util.*;
+
 @Service
 @RequiredArgsConstructor
 public class EmailService {
 
     private final JavaMailSender javaMailSender;
+    private final EmailOutboxRepository emailOutboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     private final Utils utils;
 
-    public void sendMail(@NonNull EmailDTO email) throws MessagingException {
+    /**
+     * Stores the email in the outbox within the current transaction, the dispatcher sends it after the commit.
+     */
+    public void enqueueMail(@NonNull EmailDTO email) {
         utils.validateObject(email);
 
-        final MimeMessage message = javaMailSender.createMimeMessage();
-        final MimeMessageHelper helper = new MimeMessageHelper(message, true);
+        emailOutboxRepository.insert(email);
+        eventPublisher.publishEvent(new EmailEnqueuedEvent());
+    }
 
-        helper.setTo(email.address());
-        helper.setSubject(email.subject());
-        helper.setText(email.content(), true);
+    /**
+     * Sends all the emails over a single connection to the mail server.
+     *
+     * @return the failure of each email that wasn't sent, by its index
+     */
+    public Map<Integer, Exception> sendMails(@NonNull List<EmailDTO> emails) {
+        final Map<Integer, Exception> failures = new HashMap<>();
+        final Map<MimeMessage, Integer> indexes = new IdentityHashMap<>();
+        final List<MimeMessage> messages = new ArrayList<>(emails.size());
+
+        for (int i = 0; i < emails.size(); i++) {
+            try {
+                final MimeMessage message = createMessage(emails.get(i));
+                indexes.put(message, i);
+                messages.add(message);
+            } catch (MessagingException ex) {
+                failures.put(i, ex);
+            }
+        }
+
+        if (messages.isEmpty()) return failures;
+
+        try {
+            javaMailSender.send(messages.toArray(MimeMessage[]::new));
+        } catch (MailSendException ex) {
+            if (ex.getFailedMessages().isEmpty()) {
+                indexes.values().forEach(index -> failures.put(index, ex));
+            } else {
+                ex.getFailedMessages().forEach((message, failure) ->
+                        failures.put(indexes.get((MimeMessage) message), failure));
+            }
+        } catch (MailException ex) {
+            indexes.values().forEach(index -> failures.put(index, ex));
+        }
 
-        javaMailSender.send(message);
+        return failures;
     }
 
     public String buildEmailTemplate(@NonNull EmailType emailType, long userId, @NonNull String token) {
@@ -61,4 +105,15 @@ public class EmailService {
                         </html>
                         """;
     }
+
+    private MimeMessage createMessage(EmailDTO email) throws MessagingException {
+        final MimeMessage message = javaMailSender.createMimeMessage();
+        final MimeMessageHelper helper = new MimeMessageHelper(message, true);
+
+        helper.setTo(email.address());
+        helper.setSubject(email.subject());
+        helper.setText(email.content(), true);
+
+        return message;
+    }
 }
@@ -0,0 +1,156 @@
+package capi.funding.api.services;
+
+import capi.funding.api.dto.ImageJobDTO;
+import capi.funding.api.dto.ProcessedImageDTO;
+import capi.funding.api.enums.ImageJobStatus;
+import capi.funding.api.infra.exceptions.InvalidFileException;
+import capi.funding.api.infra.exceptions.NotFoundException;
+import capi.funding.api.infra.exceptions.TooManyRequestsException;
+import capi.funding.api.infra.images.ImageProcessingExecutor;
+import capi.funding.api.utils.Utils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+@Service
+public class ImageProcessingService {
+
+    private final Utils utils;
+    private final ImageProcessingExecutor executor;
+
+    private final long timeoutNanos;
+
+    private final Cache<UUID, ImageJob> jobs;
+
+    public ImageProcessingService(
+            Utils utils,
+            ImageProcessingExecutor executor,
+            @Value("${api.images.processing.job-retention:PT1H}") Duration jobRetention,
+            @Value("${api.images.processing.timeout:PT30S}") Duration timeout
+    ) {
+        this.utils = utils;
+        this.executor = executor;
+        this.timeoutNanos = timeout.toNanos();
+        this.jobs = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(jobRetention)
+                .build();
+    }
+
+    /**
+     * Validates and reads the upload on the calling thread, then waits up to the processing timeout for the
+     * compression. A stuck decode fails the request with {@link TooManyRequestsException} and its worker is interrupted.
+     */
+    public ProcessedImageDTO compress(@NonNull MultipartFile file) {
+        final String fileExtension = utils.checkImageValidity(file);
+        final byte[] content = readContent(file);
+
+        final Future<ProcessedImageDTO> result =
+                executor.submitInterruptible(() -> withVariants(utils.compressImage(content, fileExtension)));
+
+        try {
+            return result.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            result.cancel(true);
+            throw new TooManyRequestsException("image processing is taking too long, try again later");
+        } catch (InterruptedException ex) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new TooManyRequestsException("image processing was interrupted, try again later");
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new CompletionException(ex.getCause());
+        }
+    }
+
+    /**
+     * Validates and reads the upload on the calling thread, the multipart content doesn't outlive the request.
+     * Compression and {@code onCompressed} run on the image workers.
+     */
+    public ImageJobDTO submit(@NonNull MultipartFile file, @NonNull Consumer<ProcessedImageDTO> onCompressed) {
+        final String fileExtension = utils.checkImageValidity(file);
+        final byte[] content = readContent(file);
+
+        final ImageJob job = new ImageJob(UUID.randomUUID(), utils.getAuthUser().getId());
+        jobs.put(job.id, job);
+
+        try {
+            executor.submit(() -> {
+                job.status = ImageJobStatus.PROCESSING;
+                onCompressed.accept(withVariants(utils.compressImage(content, fileExtension)));
+                job.status = ImageJobStatus.DONE;
+                return null;
+            }).exceptionally(ex -> {
+                job.fail(ex instanceof CompletionException ? ex.getCause() : ex);
+                return null;
+            });
+        } catch (TooManyRequestsException ex) {
+            jobs.invalidate(job.id);
+            throw ex;
+        }
+
+        return job.toDTO();
+    }
+
+    public ImageJobDTO findJob(@NonNull UUID id) {
+        final ImageJob job = jobs.getIfPresent(id);
+
+        if (job == null) {
+            throw new NotFoundException("image job not found");
+        }
+
+        utils.checkPermission(job.ownerId);
+
+        return job.toDTO();
+    }
+
+    private byte[] readContent(MultipartFile file) {
+        try {
+            return file.getBytes();
+        } catch (IOException e) {
+            throw new InvalidFileException(e.getMessage());
+        }
+    }
+
+    private ProcessedImageDTO withVariants(byte[] image) {
+        return new ProcessedImageDTO(image, utils.generateImageVariants(image));
+    }
+
+    private static final class ImageJob {
+
+        private final UUID id;
+        private final long ownerId;
+
+        private volatile ImageJobStatus status = ImageJobStatus.PENDING;
+        private volatile String error;
+
+        private ImageJob(UUID id, long ownerId) {
+            this.id = id;
+            this.ownerId = ownerId;
+        }
+
+        private void fail(Throwable cause) {
+            this.error = cause.getMessage();
+            this.status = ImageJobStatus.FAILED;
+        }
+
+        private ImageJobDTO toDTO() {
+            return new ImageJobDTO(id, status, error);
+        }
+    }
+}
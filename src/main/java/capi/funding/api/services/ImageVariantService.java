@@ -0,0 +1,90 @@
+package capi.funding.api.services;
+
+import capi.funding.api.dto.ImageMetadata;
+import capi.funding.api.dto.ProcessedImageDTO;
+import capi.funding.api.enums.ImageOwnerType;
+import capi.funding.api.enums.ImageVariantType;
+import capi.funding.api.repository.ImageVariantRepository;
+import capi.funding.api.repository.ProjectRepository;
+import capi.funding.api.repository.UserRepository;
+import capi.funding.api.utils.Utils;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+@RequiredArgsConstructor
+public class ImageVariantService {
+
+    private final Utils utils;
+
+    private final ImageVariantRepository variantRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * Stores the variants tied to the hash of the full image, so they stop being served as soon as the image changes.
+     */
+    public void saveVariants(@NonNull ImageOwnerType ownerType, long ownerId, @NonNull ProcessedImageDTO processedImage) {
+        final String sourceHash = sha256Hex(processedImage.image());
+
+        processedImage.variants().forEach((variant, content) ->
+                variantRepository.upsert(ownerType.getValue(), ownerId, variant.getValue(), content, sourceHash)
+        );
+    }
+
+    public void deleteVariants(@NonNull ImageOwnerType ownerType, long ownerId) {
+        variantRepository.deleteByOwner(ownerType.getValue(), ownerId);
+    }
+
+    public Optional<ImageMetadata> findVariantMetadata(@NonNull ImageOwnerType ownerType, long ownerId, @NonNull ImageVariantType variant) {
+        return switch (ownerType) {
+            case PROJECT -> variantRepository.findProjectVariantMetadata(ownerId, variant.getValue());
+            case USER -> variantRepository.findUserVariantMetadata(ownerId, variant.getValue());
+        };
+    }
+
+    public Optional<byte[]> findVariant(@NonNull ImageOwnerType ownerType, long ownerId, @NonNull ImageVariantType variant) {
+        return switch (ownerType) {
+            case PROJECT -> variantRepository.findProjectVariant(ownerId, variant.getValue());
+            case USER -> variantRepository.findUserVariant(ownerId, variant.getValue());
+        };
+    }
+
+    /**
+     * Generates the variants of images that were stored before variants existed, or whose variants got stale.
+     */
+    public void generateMissingVariants(int limit) {
+        final List<Long> projectIds = variantRepository.findProjectsWithoutVariants(limit);
+        for (long projectId : projectIds) {
+            projectRepository.findCoverImage(projectId).ifPresent(coverImage ->
+                    saveVariants(ImageOwnerType.PROJECT, projectId, process(coverImage))
+            );
+        }
+
+        final List<Long> userIds = variantRepository.findUsersWithoutVariants(limit);
+        for (long userId : userIds) {
+            userRepository.findProfileImage(userId).ifPresent(profileImage ->
+                    saveVariants(ImageOwnerType.USER, userId, process(profileImage))
+            );
+        }
+    }
+
+    private ProcessedImageDTO process(byte[] image) {
+        return new ProcessedImageDTO(image, utils.generateImageVariants(image));
+    }
+
+    static String sha256Hex(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
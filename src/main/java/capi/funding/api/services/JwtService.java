@@ -2,9 +2,11 @@ package capi.funding.api.services;
 
 import capi.funding.api.entity.User;
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTCreationException;
 import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import lombok.NonNull;
 import org.springframework.stereotype.Service;
 
@@ -25,12 +27,17 @@ public class JwtService {
                 .sign(algorithm);
     }
 
-    public String validateToken(@NonNull Algorithm algorithm, @NonNull String token) throws JWTVerificationException {
+    /**
+     * The returned verifier is immutable and thread-safe, build it once and reuse it.
+     */
+    public JWTVerifier buildVerifier(@NonNull Algorithm algorithm) {
         return JWT.require(algorithm)
                 .withIssuer(TOKEN_ISSUER)
-                .build()
-                .verify(token)
-                .getSubject();
+                .build();
+    }
+
+    public DecodedJWT validateToken(@NonNull JWTVerifier verifier, @NonNull String token) throws JWTVerificationException {
+        return verifier.verify(token);
     }
 
     private Instant genExpirationDate() {
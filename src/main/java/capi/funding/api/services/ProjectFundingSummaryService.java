@@ -0,0 +1,114 @@
+package capi.funding.api.services;
+
+import capi.funding.api.entity.Contribution;
+import capi.funding.api.enums.ReportWindow;
+import capi.funding.api.infra.search.ProjectSearchIndex;
+import capi.funding.api.repository.ProjectFundingSummaryBatchRepository;
+import capi.funding.api.repository.ProjectFundingSummaryBatchRepository.Totals;
+import capi.funding.api.repository.ProjectFundingSummaryRepository;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+@RequiredArgsConstructor
+public class ProjectFundingSummaryService {
+
+    private static final Comparator<BucketKey> BUCKET_ORDER = Comparator.comparingLong(BucketKey::projectId)
+            .thenComparing(BucketKey::bucket, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private final ProjectFundingSummaryRepository repository;
+    private final ProjectFundingSummaryBatchRepository batchRepository;
+    private final ProjectSearchIndex searchIndex;
+
+    /**
+     * Besides the all-time totals, feeds the hourly and daily buckets read by the windowed reports.
+     */
+    public void addContribution(long projectId, @NonNull BigDecimal value, @NonNull LocalDateTime date) {
+        addProjectTotals(List.of(new Totals(projectId, null, value, 1)));
+        batchRepository.addHourlyContributions(List.of(new Totals(projectId, date.truncatedTo(ChronoUnit.HOURS), value, 1)));
+        batchRepository.addDailyContributions(List.of(new Totals(projectId, date.truncatedTo(ChronoUnit.DAYS), value, 1)));
+    }
+
+    /**
+     * Same as {@link #addContribution} for many contributions, summed per project and per bucket first so each
+     * row is upserted once. Each of the three summaries is written in a single statement or batch, with the rows
+     * sorted by project and bucket so concurrent batches lock them in the same order.
+     */
+    public void addContributions(@NonNull List<Contribution> contributions) {
+        final Map<BucketKey, Sum> projects = new TreeMap<>(BUCKET_ORDER);
+        final Map<BucketKey, Sum> hours = new TreeMap<>(BUCKET_ORDER);
+        final Map<BucketKey, Sum> days = new TreeMap<>(BUCKET_ORDER);
+
+        for (Contribution contribution : contributions) {
+            final long projectId = contribution.getProject_id();
+            final LocalDateTime date = contribution.getDate();
+
+            add(projects, new BucketKey(projectId, null), contribution.getValue());
+            add(hours, new BucketKey(projectId, date.truncatedTo(ChronoUnit.HOURS)), contribution.getValue());
+            add(days, new BucketKey(projectId, date.truncatedTo(ChronoUnit.DAYS)), contribution.getValue());
+        }
+
+        addProjectTotals(toTotals(projects));
+        batchRepository.addHourlyContributions(toTotals(hours));
+        batchRepository.addDailyContributions(toTotals(days));
+    }
+
+    public void updateContributionGoal(long projectId, @NonNull BigDecimal previousGoal, @NonNull BigDecimal newGoal) {
+        final BigDecimal goalDelta = newGoal.subtract(previousGoal);
+
+        if (goalDelta.signum() == 0) return;
+
+        repository.addContributionGoal(projectId, goalDelta);
+    }
+
+    public void deleteExpiredHourlyRollups() {
+        repository.deleteHourlyContributionsBefore(
+                LocalDate.now().minusDays(ReportWindow.HOURLY_ROLLUP_RETENTION_DAYS).atStartOfDay()
+        );
+    }
+
+    /**
+     * The new totals are pushed to the search index, which ranks its pages by the amount raised.
+     */
+    private void addProjectTotals(List<Totals> totals) {
+        batchRepository.addContributions(totals).forEach(searchIndex::updateTotalRaised);
+    }
+
+    private static void add(Map<BucketKey, Sum> totals, BucketKey key, BigDecimal value) {
+        final Sum keyTotals = totals.computeIfAbsent(key, k -> new Sum());
+        keyTotals.value = keyTotals.value.add(value);
+        keyTotals.count++;
+    }
+
+    private static List<Totals> toTotals(Map<BucketKey, Sum> totals) {
+        return totals.entrySet().stream()
+                .map(entry -> new Totals(
+                        entry.getKey().projectId(),
+                        entry.getKey().bucket(),
+                        entry.getValue().value,
+                        entry.getValue().count
+                ))
+                .toList();
+    }
+
+    private record BucketKey(
+            long projectId,
+            LocalDateTime bucket
+    ) {
+    }
+
+    private static final class Sum {
+        private BigDecimal value = BigDecimal.ZERO;
+        private long count;
+    }
+}
@@ -2,7 +2,7 @@ package capi.funding.api.services;
 
 import capi.funding.api.dto.CreateProjectMilestoneDTO;
 import capi.funding.api.dto.EditProjectMilestoneDTO;
-import capi.funding.api.entity.Project;
+import capi.funding.api.dto.ProjectAccessInfo;
 import capi.funding.api.entity.ProjectMilestone;
 import capi.funding.api.infra.exceptions.DataIntegrityException;
 import capi.funding.api.infra.exceptions.InvalidParametersException;
@@ -13,7 +13,9 @@ import capi.funding.api.utils.Utils;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,14 +25,16 @@ public class ProjectMilestoneService {
     private final Utils utils;
     private final ProjectUtils projectUtils;
     private final ProjectService projectService;
+    private final ProjectFundingSummaryService fundingSummaryService;
 
     private final ProjectMilestoneRepository repository;
 
     @Lazy
-    public ProjectMilestoneService(Utils utils, ProjectUtils projectUtils, ProjectService projectService, ProjectMilestoneRepository repository) {
+    public ProjectMilestoneService(Utils utils, ProjectUtils projectUtils, ProjectService projectService, ProjectFundingSummaryService fundingSummaryService, ProjectMilestoneRepository repository) {
         this.utils = utils;
         this.projectUtils = projectUtils;
         this.projectService = projectService;
+        this.fundingSummaryService = fundingSummaryService;
         this.repository = repository;
     }
 
@@ -51,54 +55,76 @@ public class ProjectMilestoneService {
                 .orElseThrow(() -> new NotFoundException("project milestone not found"));
     }
 
+    @Transactional
     public ProjectMilestone createNew(CreateProjectMilestoneDTO dto) {
         final ProjectMilestone milestone = dto.toMilestone();
 
         projectUtils.validateMilestoneSequenceNumber(dto.sequence(), milestone);
 
-        final Project project = projectService.findById(milestone.getProject_id());
+        final ProjectAccessInfo project = projectService.getAccessInfo(milestone.getProject_id());
         projectUtils.checkProjectEditability(project);
         projectUtils.validateNeedToFollowOrder(project, milestone);
 
-        return repository.save(milestone);
+        final ProjectMilestone savedMilestone = repository.save(milestone);
+
+        fundingSummaryService.updateContributionGoal(
+                milestone.getProject_id(), BigDecimal.ZERO, milestone.getContribution_goal()
+        );
+
+        return savedMilestone;
     }
 
+    @Transactional
     public ProjectMilestone edit(long milestoneId, EditProjectMilestoneDTO dto) {
         final ProjectMilestone milestone = findById(milestoneId);
 
-        final Project project = projectService.findById(milestone.getProject_id());
-        utils.checkPermission(project.getCreator_id());
+        final ProjectAccessInfo project = projectService.getAccessInfo(milestone.getProject_id());
+        utils.checkPermission(project.creatorId());
 
         projectUtils.checkProjectEditability(project);
 
+        final BigDecimal previousGoal = milestone.getContribution_goal();
+
         milestone.updateValues(dto);
 
         projectUtils.validateMilestoneSequenceNumber(dto.sequence(), milestone);
         projectUtils.validateNeedToFollowOrder(project, milestone);
 
-        return repository.save(milestone);
+        final ProjectMilestone savedMilestone = repository.save(milestone);
+
+        fundingSummaryService.updateContributionGoal(
+                milestone.getProject_id(), previousGoal, milestone.getContribution_goal()
+        );
+
+        return savedMilestone;
     }
 
+    @Transactional
     public void delete(long milestoneId) {
         final ProjectMilestone milestone = findById(milestoneId);
 
-        final Project project = projectService.findById(milestone.getProject_id());
-        utils.checkPermission(project.getCreator_id());
+        final ProjectAccessInfo project = projectService.getAccessInfo(milestone.getProject_id());
+        utils.checkPermission(project.creatorId());
 
         projectUtils.checkProjectEditability(project);
 
         try {
             repository.deleteById(milestoneId);
+            repository.flush();
         } catch (DataIntegrityViolationException ex) {
             throw new DataIntegrityException("this milestone of the project has a linked expense, impossible to exclude");
         }
+
+        fundingSummaryService.updateContributionGoal(
+                milestone.getProject_id(), milestone.getContribution_goal(), BigDecimal.ZERO
+        );
     }
 
     public ProjectMilestone conclude(long milestoneId) {
         final ProjectMilestone milestone = findById(milestoneId);
 
-        final Project project = projectService.findById(milestone.getProject_id());
-        utils.checkPermission(project.getCreator_id());
+        final ProjectAccessInfo project = projectService.getAccessInfo(milestone.getProject_id());
+        utils.checkPermission(project.creatorId());
 
         projectUtils.validateNeedToFollowOrder(project, milestone);
 
@@ -3,35 +3,160 @@ package capi.funding.api.services;
 import capi.funding.api.dto.GeneralInfosReportDTO;
 import capi.funding.api.dto.MostSearchedCategoriesDTO;
 import capi.funding.api.dto.ProjectsListDTO;
-import lombok.RequiredArgsConstructor;
+import capi.funding.api.dto.ReportPeriod;
+import capi.funding.api.enums.ReportWindow;
+import capi.funding.api.infra.cache.LockingLoadingCache;
+import capi.funding.api.infra.exceptions.InvalidParametersException;
+import capi.funding.api.infra.reports.GeneralInfosCounters;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.function.Function;
 
+/**
+ * Reports are served from short lived caches, one per report, keyed by page and period. Concurrent misses of a key
+ * wait on a single computation, and entries past the TTL are still served while they're recomputed in the
+ * background, until they're older than the max staleness.
+ */
 @Service
-@RequiredArgsConstructor
 public class ProjectReportsService {
 
+    private static final int MAX_RANGE_DAYS = 366;
+    private static final int MAX_CACHED_REPORTS = 1_000;
+
+    // key of the reports that cover all the history in a single page
+    private static final String ALL_HISTORY = "all";
+
     private final ProjectService projectService;
     private final ContributionService contributionService;
+    private final GeneralInfosCounters generalInfosCounters;
+
+    private final Duration ttl;
+    private final Duration maxStale;
+
+    private final LockingLoadingCache<String, GeneralInfosReportDTO> generalInfosCache;
+    private final LockingLoadingCache<PageKey, ProjectsListDTO> mostSearchedCache;
+    private final LockingLoadingCache<PageKey, ProjectsListDTO> topDonatedCache;
+    private final LockingLoadingCache<String, List<MostSearchedCategoriesDTO>> mostSearchedCategoriesCache;
+
+    public ProjectReportsService(
+            ProjectService projectService,
+            ContributionService contributionService,
+            GeneralInfosCounters generalInfosCounters,
+            MeterRegistry meterRegistry,
+            @Value("${api.reports.cache.ttl:PT30S}") Duration ttl,
+            @Value("${api.reports.cache.max-stale:PT5M}") Duration maxStale
+    ) {
+        this.projectService = projectService;
+        this.contributionService = contributionService;
+        this.generalInfosCounters = generalInfosCounters;
+        this.ttl = ttl;
+        this.maxStale = maxStale;
+
+        this.generalInfosCache = buildCache(meterRegistry, "reports.general-infos", key ->
+                new GeneralInfosReportDTO(
+                        projectService.countTotalProjects(),
+                        contributionService.getTotalRaised(),
+                        contributionService.countTotalContributions()
+                ));
+        this.mostSearchedCache = buildCache(meterRegistry, "reports.most-searched", key -> key.period() == null
+                ? projectService.getMostSearchedProjects(key.pageNumber())
+                : projectService.getMostSearchedProjects(key.pageNumber(), key.period()));
+        this.topDonatedCache = buildCache(meterRegistry, "reports.top-donated", key -> key.period() == null
+                ? projectService.getTopDonatedProjects(key.pageNumber())
+                : projectService.getTopDonatedProjects(key.pageNumber(), key.period()));
+        this.mostSearchedCategoriesCache = buildCache(meterRegistry, "reports.most-searched-categories", key ->
+                projectService.getMostSearchedCategories());
+    }
 
     public GeneralInfosReportDTO getGeneralInfosReport() {
-        return new GeneralInfosReportDTO(
-                projectService.countTotalProjects(),
-                contributionService.getTotalRaised(),
-                contributionService.countTotalContributions()
-        );
+        if (generalInfosCounters.isReady()) {
+            return generalInfosCounters.snapshot();
+        }
+
+        return generalInfosCache.get(ALL_HISTORY);
     }
 
-    public ProjectsListDTO getMostSearchedProjects(int pageNumber) {
-        return projectService.getMostSearchedProjects(pageNumber);
+    public ProjectsListDTO getMostSearchedProjects(int pageNumber, String window, LocalDate from, LocalDate to) {
+        final ReportPeriod period = resolvePeriod(window, from, to);
+
+        return mostSearchedCache.get(new PageKey(pageNumber, period));
     }
 
-    public ProjectsListDTO getTopDonatedProjects(int pageNumber) {
-        return projectService.getTopDonatedProjects(pageNumber);
+    public ProjectsListDTO getTopDonatedProjects(int pageNumber, String window, LocalDate from, LocalDate to) {
+        final ReportPeriod period = resolvePeriod(window, from, to);
+
+        return topDonatedCache.get(new PageKey(pageNumber, period));
     }
 
     public List<MostSearchedCategoriesDTO> getMostSearchedCategories() {
-        return projectService.getMostSearchedCategories();
+        return mostSearchedCategoriesCache.get(ALL_HISTORY);
+    }
+
+    private <K, V> LockingLoadingCache<K, V> buildCache(MeterRegistry meterRegistry, String name, Function<K, V> loader) {
+        final LockingLoadingCache<K, V> cache = new LockingLoadingCache<>(
+                Caffeine.newBuilder()
+                        .maximumSize(MAX_CACHED_REPORTS)
+                        .refreshAfterWrite(ttl)
+                        .expireAfterWrite(maxStale)
+                        .recordStats()
+                        .build(loader::apply),
+                loader
+        );
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.cache(), name);
+        return cache;
+    }
+
+    /**
+     * A window slides over the hourly rollups and includes the current hour, a custom range covers whole days
+     * from the daily rollups, both dates included.
+     *
+     * @return null when the report should cover all the history
+     */
+    private ReportPeriod resolvePeriod(String window, LocalDate from, LocalDate to) {
+        final ReportWindow reportWindow = ReportWindow.fromValue(window);
+
+        if (reportWindow != null) {
+            if (from != null || to != null) {
+                throw new InvalidParametersException("use either a window or a date range");
+            }
+
+            final LocalDateTime end = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).plusHours(1);
+            return new ReportPeriod(end.minus(reportWindow.getDuration()), end, true);
+        }
+
+        if (from == null && to == null) {
+            return null;
+        }
+
+        if (from == null) {
+            throw new InvalidParametersException("the range start is required");
+        }
+
+        final LocalDate rangeEnd = to == null ? LocalDate.now() : to;
+
+        if (from.isAfter(rangeEnd)) {
+            throw new InvalidParametersException("the range start must be before its end");
+        }
+        if (ChronoUnit.DAYS.between(from, rangeEnd) >= MAX_RANGE_DAYS) {
+            throw new InvalidParametersException("the range can't be longer than " + MAX_RANGE_DAYS + " days");
+        }
+
+        return new ReportPeriod(from.atStartOfDay(), rangeEnd.plusDays(1).atStartOfDay(), false);
+    }
+
+    private record PageKey(
+            int pageNumber,
+            ReportPeriod period
+    ) {
     }
 }
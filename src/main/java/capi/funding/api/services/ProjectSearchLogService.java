@@ -1,23 +1,64 @@
 package capi.funding.api.services;
 
 import capi.funding.api.entity.ProjectSearchLog;
-import capi.funding.api.repository.ProjectSearchLogRepository;
-import lombok.RequiredArgsConstructor;
+import capi.funding.api.enums.ReportWindow;
+import capi.funding.api.infra.searchlog.ProjectSearchLogQueue;
+import capi.funding.api.repository.ProjectSearchLogBatchRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
-@RequiredArgsConstructor
 public class ProjectSearchLogService {
 
-    private final ProjectSearchLogRepository repository;
+    private static final int DELETE_BATCH_SIZE = 5000;
+
+    private final ProjectSearchLogQueue queue;
+    private final ProjectSearchLogBatchRepository batchRepository;
+
+    private final int retentionDays;
+
+    public ProjectSearchLogService(
+            ProjectSearchLogQueue queue,
+            ProjectSearchLogBatchRepository batchRepository,
+            @Value("${api.search-log.retention-days:30}") int retentionDays
+    ) {
+        this.queue = queue;
+        this.batchRepository = batchRepository;
+        this.retentionDays = retentionDays;
+    }
 
     public void save(ProjectSearchLog searchLog) {
-        repository.save(searchLog);
+        queue.offer(searchLog);
     }
 
     public void saveAll(List<ProjectSearchLog> searchLog) {
-        repository.saveAll(searchLog);
+        searchLog.forEach(queue::offer);
+    }
+
+    /**
+     * Deletes the raw logs past the retention period, and the hourly rollups once no report window reaches them.
+     * The daily rollups are kept. Logs are rolled up as they're written, so nothing the reports read is lost.
+     *
+     * @return how many raw logs were deleted
+     */
+    public long deleteExpiredLogs() {
+        final LocalDateTime before = LocalDate.now().minusDays(retentionDays).atStartOfDay();
+
+        long deleted = 0;
+        int batchDeleted;
+        do {
+            batchDeleted = batchRepository.deleteLogsBefore(before, DELETE_BATCH_SIZE);
+            deleted += batchDeleted;
+        } while (batchDeleted == DELETE_BATCH_SIZE);
+
+        batchRepository.deleteHourlyRollupsBefore(
+                LocalDate.now().minusDays(Math.max(retentionDays, ReportWindow.HOURLY_ROLLUP_RETENTION_DAYS)).atStartOfDay()
+        );
+
+        return deleted;
     }
 }
@@ -4,63 +4,219 @@ import capi.funding.api.dto.*;
 import capi.funding.api.entity.Project;
 import capi.funding.api.entity.ProjectMilestone;
 import capi.funding.api.entity.ProjectSearchLog;
+import capi.funding.api.entity.User;
+import capi.funding.api.enums.ImageOwnerType;
+import capi.funding.api.enums.ImageVariantType;
 import capi.funding.api.enums.ProjectStatusEnum;
+import capi.funding.api.enums.ProjectsListCountMode;
+import capi.funding.api.infra.access.ProjectAccessCache;
 import capi.funding.api.infra.exceptions.InvalidParametersException;
 import capi.funding.api.infra.exceptions.MilestoneSequenceException;
 import capi.funding.api.infra.exceptions.NotFoundException;
+import capi.funding.api.infra.reports.GeneralInfosCounters;
+import capi.funding.api.infra.search.ProjectSearchIndex;
+import capi.funding.api.infra.search.ProjectSearchPage;
+import capi.funding.api.infra.trending.SearchTrend;
+import capi.funding.api.infra.trending.SearchTrendTracker;
 import capi.funding.api.repository.ProjectRepository;
 import capi.funding.api.utils.ProjectUtils;
 import capi.funding.api.utils.Utils;
+import lombok.NonNull;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
 
 @Service
 public class ProjectService {
 
+    private static final int MOST_SEARCHED_PAGE_SIZE = 10;
+    private static final int TOP_DONATED_PAGE_SIZE = 10;
+
     private final Utils utils;
     private final ProjectUtils projectUtils;
 
     private final ProjectMilestoneService milestoneService;
     private final ProjectSearchLogService searchLogService;
+    private final ImageProcessingService imageProcessingService;
+    private final ImageVariantService imageVariantService;
 
+    private final ProjectSearchIndex searchIndex;
+    private final SearchTrendTracker searchTrends;
+    private final GeneralInfosCounters generalInfosCounters;
+    private final ProjectAccessCache accessCache;
     private final ProjectRepository projectRepository;
 
     @Lazy
-    public ProjectService(Utils utils, ProjectUtils projectUtils, ProjectMilestoneService milestoneService, ProjectSearchLogService searchLogService, ProjectRepository projectRepository) {
+    public ProjectService(Utils utils, ProjectUtils projectUtils, ProjectMilestoneService milestoneService, ProjectSearchLogService searchLogService, ImageProcessingService imageProcessingService, ImageVariantService imageVariantService, ProjectSearchIndex searchIndex, SearchTrendTracker searchTrends, GeneralInfosCounters generalInfosCounters, ProjectAccessCache accessCache, ProjectRepository projectRepository) {
         this.utils = utils;
         this.projectUtils = projectUtils;
         this.milestoneService = milestoneService;
         this.searchLogService = searchLogService;
+        this.imageProcessingService = imageProcessingService;
+        this.imageVariantService = imageVariantService;
+        this.searchIndex = searchIndex;
+        this.searchTrends = searchTrends;
+        this.generalInfosCounters = generalInfosCounters;
+        this.accessCache = accessCache;
         this.projectRepository = projectRepository;
     }
 
     public ProjectsListDTO getProjectsList(ProjectsListFiltersDTO filters) {
+        return getProjectsList(filters, ProjectsListCountMode.EXACT);
+    }
+
+    /**
+     * With {@link ProjectsListCountMode#EXACT} the page and the total come from a single query through a window
+     * count. {@link ProjectsListCountMode#HAS_MORE} skips counting, it fetches one extra row to tell whether
+     * there's a next page, which keeps large result sets from being fully scanned.
+     */
+    public ProjectsListDTO getProjectsList(ProjectsListFiltersDTO filters, @NonNull ProjectsListCountMode countMode) {
         projectUtils.buildFilters(filters);
         projectUtils.logProjectSearch(filters);
 
+        if (searchIndex.isReady()) {
+            return getProjectsListFromIndex(filters);
+        }
+
+        if (countMode == ProjectsListCountMode.HAS_MORE) {
+            final List<ProjectsList> projects = projectRepository.getProjectsList(
+                    filters.getProjectTitle(),
+                    filters.getProjectCategory(),
+                    filters.getProjectStatus(),
+                    filters.getCreatorName(),
+                    filters.getPageNumber(),
+                    filters.getLimit() + 1
+            );
+
+            final boolean hasMore = projects.size() > filters.getLimit();
+
+            return new ProjectsListDTO(
+                    null,
+                    hasMore ? projects.subList(0, Math.toIntExact(filters.getLimit())) : projects,
+                    null,
+                    hasMore
+            );
+        }
+
+        final List<ProjectsList> projects = projectRepository.getProjectsListWithTotal(
+                filters.getProjectTitle(),
+                filters.getProjectCategory(),
+                filters.getProjectStatus(),
+                filters.getCreatorName(),
+                filters.getPageNumber(),
+                filters.getLimit()
+        );
+
+        return new ProjectsListDTO(
+                totalRegistersOf(projects, filters.getPageNumber() > 0, () -> countProjectsList(filters)),
+                projects
+        );
+    }
+
+    // the index picks the page ids in its own ranking, only that page is hydrated
+    private ProjectsListDTO getProjectsListFromIndex(ProjectsListFiltersDTO filters) {
+        final ProjectSearchPage page = searchIndex.searchPage(
+                projectUtils.getSearchTerm(filters.getProjectTitle()),
+                filters.getProjectCategory(),
+                filters.getProjectStatus(),
+                projectUtils.getSearchTerm(filters.getCreatorName()),
+                filters.getPageNumber(),
+                filters.getLimit()
+        );
+
+        if (page.projectIds().length == 0) {
+            return new ProjectsListDTO((long) page.totalRegisters(), List.of());
+        }
+
         return new ProjectsListDTO(
-                projectRepository.getTotalRegistersProjectsList(
-                        filters.getProjectTitle(),
-                        filters.getProjectCategory(),
-                        filters.getProjectStatus(),
-                        filters.getCreatorName()
-                ),
-                projectRepository.getProjectsList(
-                        filters.getProjectTitle(),
-                        filters.getProjectCategory(),
-                        filters.getProjectStatus(),
-                        filters.getCreatorName(),
-                        filters.getPageNumber(),
-                        filters.getLimit()
+                (long) page.totalRegisters(),
+                projectRepository.getProjectsListInOrder(
+                        Arrays.stream(page.projectIds())
+                                .mapToObj(String::valueOf)
+                                .collect(Collectors.joining(","))
                 )
         );
     }
 
+    /**
+     * Ranks the matches by trigram similarity with the searched title and creator name. Only the rows matched
+     * through the trigram indexes are ranked, without a search term it keeps the default order.
+     */
+    public ProjectsListDTO getProjectsListByRelevance(ProjectsListFiltersDTO filters, String cursor) {
+        if (cursor != null) {
+            throw new InvalidParametersException("cursor pagination isn't available when ordering by relevance");
+        }
+
+        projectUtils.buildFilters(filters);
+        projectUtils.logProjectSearch(filters);
+
+        final List<ProjectsList> projects = projectRepository.getProjectsListByRelevance(
+                filters.getProjectTitle(),
+                filters.getProjectCategory(),
+                filters.getProjectStatus(),
+                filters.getCreatorName(),
+                projectUtils.getSearchTerm(filters.getProjectTitle()),
+                projectUtils.getSearchTerm(filters.getCreatorName()),
+                filters.getPageNumber(),
+                filters.getLimit()
+        );
+
+        return new ProjectsListDTO(
+                totalRegistersOf(projects, filters.getPageNumber() > 0, () -> countProjectsList(filters)),
+                projects
+        );
+    }
+
+    public ProjectsListDTO getProjectsListByCursor(ProjectsListFiltersDTO filters, @NonNull String cursor) {
+        projectUtils.buildFilters(filters);
+        projectUtils.logProjectSearch(filters);
+
+        final Long totalRegisters;
+        final List<ProjectsList> projects;
+
+        if (cursor.isBlank()) {
+            projects = projectRepository.getProjectsListWithTotal(
+                    filters.getProjectTitle(),
+                    filters.getProjectCategory(),
+                    filters.getProjectStatus(),
+                    filters.getCreatorName(),
+                    0,
+                    filters.getLimit()
+            );
+            totalRegisters = totalRegistersOf(projects, false, () -> countProjectsList(filters));
+        } else {
+            final ProjectsListCursor lastProject = projectUtils.decodeCursor(cursor);
+
+            totalRegisters = null;
+            projects = projectRepository.getProjectsListAfter(
+                    filters.getProjectTitle(),
+                    filters.getProjectCategory(),
+                    filters.getProjectStatus(),
+                    filters.getCreatorName(),
+                    lastProject.totalRaised(),
+                    lastProject.projectId(),
+                    filters.getLimit()
+            );
+        }
+
+        final String nextCursor = projects.size() < filters.getLimit()
+                ? null
+                : projectUtils.encodeCursor(projects.get(projects.size() - 1));
+
+        return new ProjectsListDTO(totalRegisters, projects, nextCursor);
+    }
+
     public Project findById(long id) {
         if (id < 1) {
             throw new InvalidParametersException("id must be valid");
@@ -73,16 +229,69 @@ public class ProjectService {
                 LocalDateTime.now()
         ));
 
-        return projectRepository.findById(id)
+        final Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("project not found"));
+
+        searchTrends.recordProjectSearch(id);
+
+        return project;
+    }
+
+    /**
+     * Cached lookup for the permission and editability checks, it doesn't log a search.
+     */
+    public ProjectAccessInfo getAccessInfo(long projectId) {
+        if (projectId < 1) {
+            throw new InvalidParametersException("id must be valid");
+        }
+
+        return accessCache.get(projectId);
+    }
+
+    /**
+     * A requested variant falls back to the full image while it wasn't generated for the current cover yet.
+     */
+    public ImageMetadata getCoverImageMetadata(long projectId, ImageVariantType variant) {
+        if (projectId < 1) {
+            throw new InvalidParametersException("id must be valid");
+        }
+
+        if (variant != null) {
+            final Optional<ImageMetadata> variantMetadata =
+                    imageVariantService.findVariantMetadata(ImageOwnerType.PROJECT, projectId, variant);
+
+            if (variantMetadata.isPresent()) {
+                return variantMetadata.get();
+            }
+        }
+
+        return projectRepository.findCoverImageMetadata(projectId)
+                .orElseThrow(() -> new NotFoundException("cover image not found"));
+    }
+
+    public byte[] getCoverImage(long projectId, ImageVariantType variant) {
+        if (projectId < 1) {
+            throw new InvalidParametersException("id must be valid");
+        }
+
+        if (variant != null) {
+            final Optional<byte[]> variantImage = imageVariantService.findVariant(ImageOwnerType.PROJECT, projectId, variant);
+
+            if (variantImage.isPresent()) {
+                return variantImage.get();
+            }
+        }
+
+        return projectRepository.findCoverImage(projectId)
+                .orElseThrow(() -> new NotFoundException("cover image not found"));
     }
 
     public Project createNew(CreateProjectDTO dto) {
-        final long userId = utils.getAuthUser().getId();
+        final User user = utils.getAuthUser();
 
         final Project project = dto.toProject();
 
-        project.setCreator_id(userId);
+        project.setCreator_id(user.getId());
         project.setCreation_date(LocalDateTime.now());
 
         if (project.getInitial_date() == null) {
@@ -93,7 +302,12 @@ public class ProjectService {
             project.setNeed_to_follow_order(false);
         }
 
-        return projectRepository.save(project);
+        final Project savedProject = projectRepository.save(project);
+
+        searchIndex.index(savedProject, user.getName());
+        generalInfosCounters.addProject();
+
+        return savedProject;
     }
 
     public Project edit(long projectId, EditProjectDTO dto) {
@@ -117,7 +331,12 @@ public class ProjectService {
             }
         }
 
-        return projectRepository.save(project);
+        final Project savedProject = projectRepository.save(project);
+        accessCache.invalidate(projectId);
+
+        searchIndex.index(savedProject);
+
+        return savedProject;
     }
 
     public Project addCoverImage(long projectId, MultipartFile file) {
@@ -127,9 +346,36 @@ public class ProjectService {
 
         projectUtils.checkProjectEditability(project);
 
-        project.setCover_image(utils.checkImageValidityAndCompress(file));
+        final ProcessedImageDTO coverImage = imageProcessingService.compress(file);
+
+        projectRepository.updateCoverImage(projectId, coverImage.image());
+        project.setCover_image_hash(ImageVariantService.sha256Hex(coverImage.image()));
+
+        imageVariantService.saveVariants(ImageOwnerType.PROJECT, projectId, coverImage);
 
-        return projectRepository.save(project);
+        return project;
+    }
+
+    public ImageJobDTO addCoverImageAsync(long projectId, MultipartFile file) {
+        final Project project = findById(projectId);
+
+        utils.checkPermission(project.getCreator_id());
+
+        projectUtils.checkProjectEditability(project);
+
+        return imageProcessingService.submit(
+                file,
+                coverImage -> {
+                    // the project may have been concluded or cancelled while the job was queued
+                    projectUtils.checkProjectEditability(
+                            projectRepository.findAccessInfo(projectId)
+                                    .orElseThrow(() -> new NotFoundException("project not found"))
+                    );
+
+                    projectRepository.updateCoverImage(projectId, coverImage.image());
+                    imageVariantService.saveVariants(ImageOwnerType.PROJECT, projectId, coverImage);
+                }
+        );
     }
 
     public Project removeCoverImage(long projectId) {
@@ -139,9 +385,12 @@ public class ProjectService {
 
         projectUtils.checkProjectEditability(project);
 
-        project.setCover_image(null);
+        projectRepository.updateCoverImage(projectId, null);
+        project.setCover_image_hash(null);
 
-        return projectRepository.save(project);
+        imageVariantService.deleteVariants(ImageOwnerType.PROJECT, projectId);
+
+        return project;
     }
 
     public Project conclude(long projectId) {
@@ -153,7 +402,12 @@ public class ProjectService {
 
         project.setStatus_id(ProjectStatusEnum.DONE.getValue());
 
-        return projectRepository.save(project);
+        final Project savedProject = projectRepository.save(project);
+        accessCache.invalidate(projectId);
+
+        searchIndex.index(savedProject);
+
+        return savedProject;
     }
 
     public Project cancel(long projectId) {
@@ -165,7 +419,12 @@ public class ProjectService {
 
         project.setStatus_id(ProjectStatusEnum.CANCELED.getValue());
 
-        return projectRepository.save(project);
+        final Project savedProject = projectRepository.save(project);
+        accessCache.invalidate(projectId);
+
+        searchIndex.index(savedProject);
+
+        return savedProject;
     }
 
     public boolean existsById(long projectId) {
@@ -176,6 +435,21 @@ public class ProjectService {
         return projectRepository.existsById(projectId);
     }
 
+    /**
+     * Status of every existing project among {@code projectIds} in a single query, missing projects are left out.
+     * Unlike {@link #findById(long)} it doesn't log a search.
+     */
+    public Map<Long, Long> getProjectsStatus(@NonNull Collection<Long> projectIds) {
+        if (projectIds.isEmpty()) return Map.of();
+
+        final String ids = projectIds.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+
+        return projectRepository.getProjectsStatus(ids).stream()
+                .collect(Collectors.toMap(ProjectStatusDTO::getId, ProjectStatusDTO::getStatusId));
+    }
+
     public void concludeAllProjectsEndingYesterdayNotCancelled() {
         final List<Project> projects = projectRepository.findProjectsEndingYesterdayNotCancelled(
                 LocalDate.now().minusDays(1)
@@ -186,6 +460,9 @@ public class ProjectService {
         )));
 
         projectRepository.saveAll(projects);
+
+        projects.forEach(project -> accessCache.invalidate(project.getId()));
+        projects.forEach(searchIndex::index);
     }
 
     public long countTotalProjects() {
@@ -193,20 +470,119 @@ public class ProjectService {
     }
 
     public ProjectsListDTO getMostSearchedProjects(int pageNumber) {
+        if (searchTrends.isReady()) {
+            return getMostSearchedProjectsFromTrends(pageNumber);
+        }
+
+        final List<ProjectsList> projects = projectRepository.getMostSearchedProjects(pageNumber);
+
+        return new ProjectsListDTO(
+                totalRegistersOf(projects, pageNumber > 1, projectRepository::countTotalSearchedProjects),
+                projects
+        );
+    }
+
+    // the tracker keeps the ranking, the database only hydrates the requested page
+    private ProjectsListDTO getMostSearchedProjectsFromTrends(int pageNumber) {
+        final long totalRegisters = searchTrends.countTrackedProjects();
+        final List<SearchTrend> trends = searchTrends.getTopProjects(
+                (pageNumber - 1) * MOST_SEARCHED_PAGE_SIZE,
+                MOST_SEARCHED_PAGE_SIZE
+        );
+
+        if (trends.isEmpty()) {
+            return new ProjectsListDTO(totalRegisters, List.of());
+        }
+
         return new ProjectsListDTO(
-                projectRepository.countTotalSearchedProjects(),
-                projectRepository.getMostSearchedProjects(pageNumber)
+                totalRegisters,
+                projectRepository.getProjectsListInOrder(joinValues(trends, SearchTrend::id))
         );
     }
 
     public ProjectsListDTO getTopDonatedProjects(int pageNumber) {
+        final List<ProjectsList> projects = projectRepository.getTopDonatedProjects(pageNumber);
+
         return new ProjectsListDTO(
-                projectRepository.countTotalDonatedProjects(),
-                projectRepository.getTopDonatedProjects(pageNumber)
+                totalRegistersOf(projects, pageNumber, TOP_DONATED_PAGE_SIZE, projectRepository::countTotalDonatedProjects),
+                projects
         );
     }
 
+    public ProjectsListDTO getMostSearchedProjects(int pageNumber, @NonNull ReportPeriod period) {
+        final List<ProjectsList> projects = getMostSearchedProjectsBetween(period, pageNumber);
+
+        return new ProjectsListDTO(
+                totalRegistersOf(projects, pageNumber > 1, () ->
+                        totalRegistersOf(getMostSearchedProjectsBetween(period, 1), false, () -> 0)),
+                projects
+        );
+    }
+
+    public ProjectsListDTO getTopDonatedProjects(int pageNumber, @NonNull ReportPeriod period) {
+        final List<ProjectsList> projects = getTopDonatedProjectsBetween(period, pageNumber);
+
+        return new ProjectsListDTO(
+                totalRegistersOf(projects, pageNumber > 1, () ->
+                        totalRegistersOf(getTopDonatedProjectsBetween(period, 1), false, () -> 0)),
+                projects
+        );
+    }
+
+    private List<ProjectsList> getMostSearchedProjectsBetween(ReportPeriod period, int pageNumber) {
+        return projectRepository.getMostSearchedProjectsBetween(period.start(), period.end(), period.hourly(), pageNumber);
+    }
+
+    private List<ProjectsList> getTopDonatedProjectsBetween(ReportPeriod period, int pageNumber) {
+        return projectRepository.getTopDonatedProjectsBetween(period.start(), period.end(), period.hourly(), pageNumber);
+    }
+
+    private long countProjectsList(ProjectsListFiltersDTO filters) {
+        return projectRepository.getTotalRegistersProjectsList(
+                filters.getProjectTitle(),
+                filters.getProjectCategory(),
+                filters.getProjectStatus(),
+                filters.getCreatorName()
+        );
+    }
+
+    // every row carries the window count, only a page past the last one has to count separately
+    private static long totalRegistersOf(List<ProjectsList> projects, boolean pastFirstPage, LongSupplier count) {
+        if (!projects.isEmpty()) {
+            return projects.get(0).getTotalRegisters();
+        }
+
+        return pastFirstPage ? count.getAsLong() : 0;
+    }
+
+    // for pages without the window count, only a partial first page knows the total without counting
+    private static long totalRegistersOf(List<ProjectsList> projects, int pageNumber, int pageSize, LongSupplier count) {
+        if (pageNumber == 1 && projects.size() < pageSize) {
+            return projects.size();
+        }
+
+        return count.getAsLong();
+    }
+
     public List<MostSearchedCategoriesDTO> getMostSearchedCategories() {
-        return projectRepository.getMostSearchedCategories();
+        if (!searchTrends.isReady()) {
+            return projectRepository.getMostSearchedCategories();
+        }
+
+        final List<SearchTrend> trends = searchTrends.getTopCategories();
+        if (trends.isEmpty()) {
+            return List.of();
+        }
+
+        return projectRepository.getCategoriesSearchTotals(
+                joinValues(trends, SearchTrend::id),
+                joinValues(trends, SearchTrend::searches)
+        );
+    }
+
+    private static String joinValues(List<SearchTrend> trends, ToLongFunction<SearchTrend> field) {
+        return trends.stream()
+                .map(trend -> String.valueOf(field.applyAsLong(trend)))
+                .collect(Collectors.joining(","));
     }
 }
@@ -2,7 +2,7 @@ package capi.funding.api.services;
 
 import capi.funding.api.dto.CreateProjectSpendDTO;
 import capi.funding.api.dto.EditProjectSpendDTO;
-import capi.funding.api.entity.Project;
+import capi.funding.api.dto.ProjectAccessInfo;
 import capi.funding.api.entity.ProjectSpend;
 import capi.funding.api.infra.exceptions.InvalidParametersException;
 import capi.funding.api.infra.exceptions.NotFoundException;
@@ -44,7 +44,7 @@ public class ProjectSpendService {
     public ProjectSpend createNew(CreateProjectSpendDTO dto) {
         final ProjectSpend projectSpend = dto.toProjectSpend();
 
-        final Project project = projectService.findById(projectSpend.getProject_id());
+        final ProjectAccessInfo project = projectService.getAccessInfo(projectSpend.getProject_id());
         projectUtils.checkProjectEditability(project);
 
         return repository.save(projectSpend);
@@ -53,8 +53,8 @@ public class ProjectSpendService {
     public ProjectSpend edit(long id, EditProjectSpendDTO dto) {
         final ProjectSpend projectSpend = findById(id);
 
-        final Project project = projectService.findById(projectSpend.getProject_id());
-        utils.checkPermission(project.getCreator_id());
+        final ProjectAccessInfo project = projectService.getAccessInfo(projectSpend.getProject_id());
+        utils.checkPermission(project.creatorId());
         projectUtils.checkProjectEditability(project);
 
         projectSpend.updateValues(dto);
@@ -65,8 +65,8 @@ public class ProjectSpendService {
     public void delete(long id) {
         final ProjectSpend projectSpend = findById(id);
 
-        final Project project = projectService.findById(projectSpend.getProject_id());
-        utils.checkPermission(project.getCreator_id());
+        final ProjectAccessInfo project = projectService.getAccessInfo(projectSpend.getProject_id());
+        utils.checkPermission(project.creatorId());
         projectUtils.checkProjectEditability(project);
 
         repository.deleteById(id);
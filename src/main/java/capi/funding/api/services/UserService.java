@@ -1,12 +1,18 @@
 package capi.funding.api.services;
 
 import capi.funding.api.dto.EditUserDTO;
+import capi.funding.api.dto.ImageJobDTO;
+import capi.funding.api.dto.ImageMetadata;
 import capi.funding.api.dto.NewPasswordDTO;
+import capi.funding.api.dto.ProcessedImageDTO;
 import capi.funding.api.entity.User;
+import capi.funding.api.enums.ImageOwnerType;
+import capi.funding.api.enums.ImageVariantType;
 import capi.funding.api.infra.exceptions.DataIntegrityException;
 import capi.funding.api.infra.exceptions.InvalidParametersException;
 import capi.funding.api.infra.exceptions.NotFoundException;
 import capi.funding.api.repository.UserRepository;
+import capi.funding.api.security.UserPrincipalCache;
 import capi.funding.api.utils.Utils;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
@@ -14,51 +20,114 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 public class UserService {
 
     private final BCryptPasswordEncoder bcrypt;
     private final Utils utils;
+    private final ImageProcessingService imageProcessingService;
+    private final ImageVariantService imageVariantService;
+
+    private final UserPrincipalCache usersCache;
 
     private final UserRepository userRepository;
 
     public User getAuthUser() {
-        return utils.getAuthUser();
+        return findAuthUser();
     }
 
     public User changePassword(NewPasswordDTO dto) {
-        final User user = utils.getAuthUser();
+        final User user = findAuthUser();
 
         user.setPassword(bcrypt.encode(dto.newPassword()));
 
-        return userRepository.save(user);
+        return saveAndInvalidate(user);
     }
 
     public User editUser(EditUserDTO dto) {
-        final User user = utils.getAuthUser();
+        final User user = findAuthUser();
 
         user.updateValues(dto);
 
-        return userRepository.save(user);
+        return saveAndInvalidate(user);
     }
 
     public User changeProfileImage(MultipartFile file) {
-        final User user = utils.getAuthUser();
+        final User user = findAuthUser();
 
-        user.setProfile_image(
-                utils.checkImageValidityAndCompress(file)
-        );
+        final ProcessedImageDTO profileImage = imageProcessingService.compress(file);
 
-        return userRepository.save(user);
+        userRepository.updateProfileImage(user.getId(), profileImage.image());
+        user.setProfile_image_hash(ImageVariantService.sha256Hex(profileImage.image()));
+        usersCache.invalidate(user.getEmail());
+
+        imageVariantService.saveVariants(ImageOwnerType.USER, user.getId(), profileImage);
+
+        return user;
+    }
+
+    public ImageJobDTO changeProfileImageAsync(MultipartFile file) {
+        final User authUser = utils.getAuthUser();
+        final long userId = authUser.getId();
+
+        return imageProcessingService.submit(
+                file,
+                profileImage -> {
+                    userRepository.updateProfileImage(userId, profileImage.image());
+                    usersCache.invalidate(authUser.getEmail());
+                    imageVariantService.saveVariants(ImageOwnerType.USER, userId, profileImage);
+                }
+        );
     }
 
     public User removeProfileImage() {
-        final User user = utils.getAuthUser();
+        final User user = findAuthUser();
 
-        user.setProfile_image(null);
+        userRepository.updateProfileImage(user.getId(), null);
+        user.setProfile_image_hash(null);
+        usersCache.invalidate(user.getEmail());
 
-        return userRepository.save(user);
+        imageVariantService.deleteVariants(ImageOwnerType.USER, user.getId());
+
+        return user;
+    }
+
+    public ImageMetadata getProfileImageMetadata(long userId, ImageVariantType variant) {
+        if (userId < 1) {
+            throw new InvalidParametersException("id must be valid");
+        }
+
+        if (variant != null) {
+            final Optional<ImageMetadata> variantMetadata =
+                    imageVariantService.findVariantMetadata(ImageOwnerType.USER, userId, variant);
+
+            if (variantMetadata.isPresent()) {
+                return variantMetadata.get();
+            }
+        }
+
+        return userRepository.findProfileImageMetadata(userId)
+                .orElseThrow(() -> new NotFoundException("profile image not found"));
+    }
+
+    public byte[] getProfileImage(long userId, ImageVariantType variant) {
+        if (userId < 1) {
+            throw new InvalidParametersException("id must be valid");
+        }
+
+        if (variant != null) {
+            final Optional<byte[]> variantImage = imageVariantService.findVariant(ImageOwnerType.USER, userId, variant);
+
+            if (variantImage.isPresent()) {
+                return variantImage.get();
+            }
+        }
+
+        return userRepository.findProfileImage(userId)
+                .orElseThrow(() -> new NotFoundException("profile image not found"));
     }
 
     protected User findById(long id) {
@@ -70,6 +139,19 @@ public class UserService {
                 .orElseThrow(() -> new NotFoundException("user not found"));
     }
 
+    // the authenticated principal is a cached copy without the profile image, never save it directly
+    private User findAuthUser() {
+        return findById(utils.getAuthUser().getId());
+    }
+
+    private User saveAndInvalidate(User user) {
+        final User savedUser = userRepository.save(user);
+
+        usersCache.invalidate(user.getEmail());
+
+        return savedUser;
+    }
+
     protected User save(User user) {
         utils.validateObject(user);
 
@@ -1,5 +1,8 @@
 package capi.funding.api.utils;
 
+import capi.funding.api.dto.ProjectAccessInfo;
+import capi.funding.api.dto.ProjectsList;
+import capi.funding.api.dto.ProjectsListCursor;
 import capi.funding.api.dto.ProjectsListFiltersDTO;
 import capi.funding.api.entity.Project;
 import capi.funding.api.entity.ProjectMilestone;
@@ -9,13 +12,17 @@ import capi.funding.api.enums.ProjectStatusEnum;
 import capi.funding.api.infra.exceptions.InvalidParametersException;
 import capi.funding.api.infra.exceptions.MilestoneSequenceException;
 import capi.funding.api.infra.exceptions.ProjectEditabilityException;
+import capi.funding.api.infra.trending.SearchTrendTracker;
 import capi.funding.api.services.ProjectMilestoneService;
 import capi.funding.api.services.ProjectSearchLogService;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
@@ -28,10 +35,17 @@ public class ProjectUtils {
     private final Utils utils;
     private final ProjectMilestoneService projectMilestoneService;
     private final ProjectSearchLogService searchLogService;
+    private final SearchTrendTracker searchTrends;
 
     public void checkProjectEditability(@NonNull Project project) {
-        final long projectStatusId = project.getStatus_id();
+        checkProjectEditability(project.getStatus_id());
+    }
+
+    public void checkProjectEditability(@NonNull ProjectAccessInfo project) {
+        checkProjectEditability(project.statusId());
+    }
 
+    private static void checkProjectEditability(long projectStatusId) {
         if (projectStatusId == ProjectStatusEnum.DONE.getValue()) {
             throw new ProjectEditabilityException("this project has already been concluded and cannot be edited");
         } else if (projectStatusId == ProjectStatusEnum.CANCELED.getValue()) {
@@ -59,7 +73,15 @@ public class ProjectUtils {
     }
 
     public void validateNeedToFollowOrder(@NonNull Project project, @NonNull ProjectMilestone milestone) {
-        if (project.isNeed_to_follow_order() && milestone.isCompleted()) {
+        validateNeedToFollowOrder(project.isNeed_to_follow_order(), milestone);
+    }
+
+    public void validateNeedToFollowOrder(@NonNull ProjectAccessInfo project, @NonNull ProjectMilestone milestone) {
+        validateNeedToFollowOrder(project.needToFollowOrder(), milestone);
+    }
+
+    private void validateNeedToFollowOrder(boolean needToFollowOrder, ProjectMilestone milestone) {
+        if (needToFollowOrder && milestone.isCompleted()) {
             final List<ProjectMilestone> projectMilestoneList = projectMilestoneService
                     .findByProjectAndMinorSequence(milestone.getProject_id(), milestone.getSequence());
 
@@ -107,6 +129,40 @@ public class ProjectUtils {
         );
     }
 
+    /**
+     * @return the search term of a pattern built by {@link #buildFilters}, without the LIKE wildcards
+     */
+    public String getSearchTerm(@NonNull String likePattern) {
+        if (likePattern.length() < 2) {
+            return "";
+        }
+
+        return likePattern.substring(1, likePattern.length() - 1);
+    }
+
+    public String encodeCursor(@NonNull ProjectsList lastProject) {
+        final BigDecimal totalRaised = Optional.ofNullable(lastProject.getTotalRaised()).orElse(BigDecimal.ZERO);
+        final String cursor = totalRaised.toPlainString() + ":" + lastProject.getProjectId();
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(
+                cursor.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    public ProjectsListCursor decodeCursor(@NonNull String cursor) {
+        try {
+            final String decodedCursor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            final int separatorIndex = decodedCursor.lastIndexOf(':');
+
+            return new ProjectsListCursor(
+                    new BigDecimal(decodedCursor.substring(0, separatorIndex)),
+                    Long.parseLong(decodedCursor.substring(separatorIndex + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException ex) {
+            throw new InvalidParametersException("invalid cursor");
+        }
+    }
+
     public void logProjectSearch(ProjectsListFiltersDTO filters) {
         List<ProjectSearchLog> searchLogs = new LinkedList<>();
 
@@ -120,6 +176,7 @@ public class ProjectUtils {
         if (filters.getProjectCategory() != null && !filters.getProjectCategory().isEmpty()) {
             for (Integer categoryId : filters.getProjectCategory()) {
                 addFilterLog(searchLogs, userId, ProjectSearchFields.PROJECT_CATEGORY.getValue(), categoryId.toString(), now);
+                searchTrends.recordCategorySearch(categoryId);
             }
         }
 
@@ -1,24 +1,40 @@
 package capi.funding.api.utils;
 
+import capi.funding.api.dto.ImageMetadata;
 import capi.funding.api.dto.InvalidFieldsDTO;
 import capi.funding.api.entity.User;
+import capi.funding.api.enums.ImageVariantType;
 import capi.funding.api.infra.exceptions.*;
 import lombok.NonNull;
 import net.coobird.thumbnailator.Thumbnails;
+import net.coobird.thumbnailator.util.exif.ExifFilterUtils;
+import net.coobird.thumbnailator.util.exif.ExifUtils;
+import net.coobird.thumbnailator.util.exif.Orientation;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.Errors;
 import org.springframework.validation.Validator;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Map;
-import java.util.Objects;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 @Service
@@ -29,7 +45,7 @@ public class Utils {
 
     private static final int MAX_FILE_SIZE = 3 * 1024 * 1024; // 3Mb in bytes
 
-    private static final Map<Integer, Integer> COMPRESSION_SIZE_MAP = Map.of(
+    private static final NavigableMap<Integer, Integer> COMPRESSION_SIZE_MAP = Collections.unmodifiableNavigableMap(new TreeMap<>(Map.of(
             50000, 500,     // 0,05MB - 50kb
             125000, 600,    // 0,125MB - 125kb
             250000, 800,    // 0,25MB - 250kb
@@ -39,7 +55,19 @@ public class Utils {
             2000000, 2400,  // 2,0MB
             2500000, 2600,  // 2,5MB
             Integer.MAX_VALUE, 3000
-    );
+    )));
+
+    private static final int OUTPUT_BUFFER_INITIAL_SIZE = 256 * 1024;
+    private static final int OUTPUT_BUFFER_MAX_RETAINED_SIZE = 1024 * 1024;
+
+    private static final ThreadLocal<ImageOutputBuffer> OUTPUT_BUFFERS = ThreadLocal.withInitial(ImageOutputBuffer::new);
+
+    private static final MediaType IMAGE_WEBP = MediaType.parseMediaType("image/webp");
+
+    // images require authentication, so only the client may cache them
+    // versioned urls (?v=hash) change whenever the image does, unversioned ones must be revalidated
+    private static final CacheControl VERSIONED_IMAGE_CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable();
+    private static final CacheControl IMAGE_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
 
     private final Logger logger;
 
@@ -50,7 +78,7 @@ public class Utils {
         this.logger = Logger.getLogger(getClass().getName());
     }
 
-    private static String checkImageValidity(MultipartFile file) {
+    public String checkImageValidity(@NonNull MultipartFile file) {
         if (file.getSize() == 0) {
             throw new InvalidParametersException("invalid file");
         }
@@ -74,12 +102,15 @@ public class Utils {
     }
 
     public int getCompressedSize(byte[] file) {
-        for (Map.Entry<Integer, Integer> entry : COMPRESSION_SIZE_MAP.entrySet()) {
-            if (file.length < entry.getKey()) {
-                return entry.getValue();
-            }
+        return getCompressedSize(file.length);
+    }
+
+    public int getCompressedSize(long fileSize) {
+        if (fileSize >= Integer.MAX_VALUE) {
+            return 3000;
         }
-        return 3000;
+
+        return COMPRESSION_SIZE_MAP.higherEntry((int) fileSize).getValue();
     }
 
     public User getAuthUser() {
@@ -104,30 +135,192 @@ public class Utils {
         final String fileExtension = checkImageValidity(file);
 
         try {
-            if (fileExtension.equals("png") || fileExtension.equals("webp")) {
+            if (isStoredAsUploaded(fileExtension)) {
                 return file.getBytes();
-            } else {
-                logger.info("uncompressed file size: " + file.getSize());
+            }
 
-                final ByteArrayInputStream inputStream = new ByteArrayInputStream(file.getBytes());
+            logger.info("uncompressed file size: " + file.getSize());
 
-                final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            try (InputStream inputStream = file.getInputStream()) {
+                return compressImage(inputStream, fileExtension, getCompressedSize(file.getSize()));
+            }
+        } catch (IOException e) {
+            throw new InvalidFileException(e.getMessage());
+        }
+    }
 
-                final int compressedFileSize = getCompressedSize(file.getBytes());
+    public byte[] compressImage(@NonNull byte[] file, @NonNull String fileExtension) {
+        if (isStoredAsUploaded(fileExtension)) {
+            return file;
+        }
 
-                Thumbnails.of(inputStream)
-                        .size(compressedFileSize, compressedFileSize)
-                        .outputFormat(fileExtension)
-                        .outputQuality(0.5)
-                        .toOutputStream(outputStream);
+        try {
+            return compressImage(new ByteArrayInputStream(file), fileExtension, getCompressedSize(file));
+        } catch (IOException e) {
+            throw new InvalidFileException(e.getMessage());
+        }
+    }
 
-                logger.info(() -> "compressed file size: " + outputStream.size());
+    /**
+     * Decodes straight from the stream through an {@link ImageReader}. The dimensions are read from the header
+     * first and large images are subsampled while decoding, so the full resolution raster is never allocated.
+     * Thumbnailator only does that when {@code thumbnailator.conserveMemoryWorkaround} is set, and it only gets
+     * the decoded image here, so the EXIF orientation is applied as a filter. The result is written into a
+     * per-thread reusable buffer.
+     */
+    public byte[] compressImage(@NonNull InputStream inputStream, @NonNull String fileExtension, int size) throws IOException {
+        final ImageOutputBuffer outputStream = OUTPUT_BUFFERS.get();
 
-                return outputStream.toByteArray();
+        try (ImageInputStream imageInputStream = ImageIO.createImageInputStream(inputStream)) {
+            final ImageReader reader = getImageReader(imageInputStream);
+
+            try {
+                reader.setInput(imageInputStream, true, false);
+
+                final Thumbnails.Builder<BufferedImage> builder = Thumbnails.of(readSubsampled(reader, size))
+                        .size(size, size)
+                        .outputFormat(fileExtension.equals("jfif") ? "jpg" : fileExtension)
+                        .outputQuality(0.5);
+
+                final Orientation orientation = ExifUtils.getExifOrientation(reader, 0);
+                if (orientation != null && orientation != Orientation.TOP_LEFT) {
+                    builder.addFilter(ExifFilterUtils.getFilterForOrientation(orientation));
+                }
+
+                builder.toOutputStream(outputStream);
+            } finally {
+                reader.dispose();
             }
+
+            logger.info(() -> "compressed file size: " + outputStream.size());
+
+            return outputStream.toByteArray();
+        } finally {
+            outputStream.release();
+        }
+    }
+
+    private static ImageReader getImageReader(ImageInputStream imageInputStream) throws IOException {
+        final Iterator<ImageReader> readers = imageInputStream == null
+                ? Collections.emptyIterator()
+                : ImageIO.getImageReaders(imageInputStream);
+
+        if (!readers.hasNext()) {
+            throw new IOException("unsupported image format");
+        }
+
+        return readers.next();
+    }
+
+    // keeps the decoded image at least as large as the target, thumbnailator does the final resize
+    private static BufferedImage readSubsampled(ImageReader reader, int size) throws IOException {
+        final int subsampling = Math.max(1, Math.max(reader.getWidth(0), reader.getHeight(0)) / size);
+
+        final ImageReadParam param = reader.getDefaultReadParam();
+        param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+        return reader.read(0, param);
+    }
+
+    /**
+     * Scales an already processed image down to every variant size. Images smaller than a variant, or in a
+     * format ImageIO can't decode (webp), are reused as they are so every image ends up with all its variants.
+     */
+    public Map<ImageVariantType, byte[]> generateImageVariants(@NonNull byte[] image) {
+        final Map<ImageVariantType, byte[]> variants = new EnumMap<>(ImageVariantType.class);
+
+        final BufferedImage source = readImage(image);
+        final String outputFormat = MediaType.IMAGE_PNG.equals(getImageMediaType(image)) ? "png" : "jpg";
+
+        for (ImageVariantType variant : ImageVariantType.values()) {
+            if (source == null || Math.max(source.getWidth(), source.getHeight()) <= variant.getSize()) {
+                variants.put(variant, image);
+            } else {
+                variants.put(variant, scaleImage(source, outputFormat, variant.getSize()));
+            }
+        }
+
+        return variants;
+    }
+
+    private BufferedImage readImage(byte[] image) {
+        try {
+            return ImageIO.read(new ByteArrayInputStream(image));
+        } catch (IOException e) {
+            logger.warning("could not decode image to generate its variants: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private byte[] scaleImage(BufferedImage source, String outputFormat, int size) {
+        final ImageOutputBuffer outputStream = OUTPUT_BUFFERS.get();
+
+        try {
+            Thumbnails.of(source)
+                    .size(size, size)
+                    .outputFormat(outputFormat)
+                    .outputQuality(0.7)
+                    .toOutputStream(outputStream);
+
+            return outputStream.toByteArray();
         } catch (IOException e) {
             throw new InvalidFileException(e.getMessage());
+        } finally {
+            outputStream.release();
+        }
+    }
+
+    private static boolean isStoredAsUploaded(String fileExtension) {
+        return fileExtension.equals("png") || fileExtension.equals("webp");
+    }
+
+    public MediaType getImageMediaType(@NonNull byte[] image) {
+        if (image.length >= 3 && (image[0] & 0xFF) == 0xFF && (image[1] & 0xFF) == 0xD8 && (image[2] & 0xFF) == 0xFF) {
+            return MediaType.IMAGE_JPEG;
+        }
+
+        if (image.length >= 4 && (image[0] & 0xFF) == 0x89 && image[1] == 'P' && image[2] == 'N' && image[3] == 'G') {
+            return MediaType.IMAGE_PNG;
+        }
+
+        if (image.length >= 12 && image[0] == 'R' && image[1] == 'I' && image[2] == 'F' && image[3] == 'F'
+                && image[8] == 'W' && image[9] == 'E' && image[10] == 'B' && image[11] == 'P') {
+            return IMAGE_WEBP;
+        }
+
+        return MediaType.APPLICATION_OCTET_STREAM;
+    }
+
+    /**
+     * Answers a conditional image request, only calling the loader when the client copy is stale.
+     */
+    public ResponseEntity<byte[]> buildImageResponse(
+            @NonNull WebRequest request, @NonNull ImageMetadata metadata, @NonNull Supplier<byte[]> imageLoader
+    ) {
+        final long lastModified = metadata.getUpdatedAt()
+                .atZone(ZoneId.systemDefault())
+                .toInstant()
+                .toEpochMilli();
+
+        // an old or made up version must not pin these bytes in the client cache
+        final CacheControl cacheControl = metadata.getHash().equals(request.getParameter("v"))
+                ? VERSIONED_IMAGE_CACHE_CONTROL
+                : IMAGE_CACHE_CONTROL;
+
+        if (request.checkNotModified(metadata.getHash(), lastModified)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(cacheControl)
+                    .build();
         }
+
+        final byte[] image = imageLoader.get();
+
+        return ResponseEntity.ok()
+                .eTag(metadata.getHash())
+                .lastModified(lastModified)
+                .cacheControl(cacheControl)
+                .contentType(getImageMediaType(image))
+                .body(image);
     }
 
     public void validateObject(@NonNull Object object) {
@@ -142,4 +335,25 @@ public class Utils {
             throw new ValidationException(invalidFieldsDTOList);
         }
     }
+
+    public List<InvalidFieldsDTO> getInvalidFields(@NonNull Object object) {
+        return validator.validateObject(object).getFieldErrors().stream()
+                .map(InvalidFieldsDTO::new)
+                .toList();
+    }
+
+    private static final class ImageOutputBuffer extends ByteArrayOutputStream {
+
+        private ImageOutputBuffer() {
+            super(OUTPUT_BUFFER_INITIAL_SIZE);
+        }
+
+        // keeps the grown array for the next upload unless it got too large to hold on to
+        private void release() {
+            if (buf.length > OUTPUT_BUFFER_MAX_RETAINED_SIZE) {
+                buf = new byte[OUTPUT_BUFFER_INITIAL_SIZE];
+            }
+            reset();
+        }
+    }
 }
@@ -0,0 +1,32 @@
+create table project_funding_summary(
+    project_id int4 primary key not null,
+    total_raised numeric(20,2) not null default 0,
+    total_contributions int8 not null default 0,
+    contribution_goal numeric(20,2) not null default 0,
+    percentage_raised numeric generated always as (
+        case
+            when contribution_goal > 0 then round((total_raised / contribution_goal) * 100, 2)
+            else 100
+        end
+    ) stored,
+    foreign key (project_id) references project(id)
+);
+
+insert into project_funding_summary(project_id, total_raised, total_contributions, contribution_goal)
+select
+    p.id,
+    coalesce(c.total_raised, 0),
+    coalesce(c.total_contributions, 0),
+    coalesce(pm.contribution_goal, 0)
+from
+    project p
+    left join (
+        select project_id, sum(value) as total_raised, count(*) as total_contributions
+        from contribution
+        group by project_id
+    ) c on c.project_id = p.id
+    left join (
+        select project_id, sum(contribution_goal) as contribution_goal
+        from project_milestone
+        group by project_id
+    ) pm on pm.project_id = p.id;
@@ -0,0 +1,17 @@
+alter table project
+    add column cover_image_hash varchar(64),
+    add column cover_image_updated_at timestamp;
+
+alter table users
+    add column profile_image_hash varchar(64),
+    add column profile_image_updated_at timestamp;
+
+update project
+set cover_image_hash = encode(sha256(cover_image), 'hex'),
+    cover_image_updated_at = current_timestamp
+where cover_image is not null;
+
+update users
+set profile_image_hash = encode(sha256(profile_image), 'hex'),
+    profile_image_updated_at = current_timestamp
+where profile_image is not null;
@@ -0,0 +1,57 @@
+CREATE OR REPLACE FUNCTION public.update_project_cover_image_metadata()
+    RETURNS trigger
+    LANGUAGE plpgsql
+AS $function$
+BEGIN
+    IF TG_OP = 'UPDATE' THEN
+        IF NEW.cover_image IS NOT DISTINCT FROM OLD.cover_image THEN
+            RETURN NEW;
+        END IF;
+    END IF;
+
+    IF NEW.cover_image IS NULL THEN
+        NEW.cover_image_hash := NULL;
+        NEW.cover_image_updated_at := NULL;
+    ELSE
+        NEW.cover_image_hash := encode(sha256(NEW.cover_image), 'hex');
+        NEW.cover_image_updated_at := current_timestamp;
+    END IF;
+
+    RETURN NEW;
+END;
+$function$
+;
+
+CREATE TRIGGER project_cover_image_metadata
+    BEFORE INSERT OR UPDATE OF cover_image ON project
+    FOR EACH ROW
+    EXECUTE FUNCTION update_project_cover_image_metadata();
+
+CREATE OR REPLACE FUNCTION public.update_user_profile_image_metadata()
+    RETURNS trigger
+    LANGUAGE plpgsql
+AS $function$
+BEGIN
+    IF TG_OP = 'UPDATE' THEN
+        IF NEW.profile_image IS NOT DISTINCT FROM OLD.profile_image THEN
+            RETURN NEW;
+        END IF;
+    END IF;
+
+    IF NEW.profile_image IS NULL THEN
+        NEW.profile_image_hash := NULL;
+        NEW.profile_image_updated_at := NULL;
+    ELSE
+        NEW.profile_image_hash := encode(sha256(NEW.profile_image), 'hex');
+        NEW.profile_image_updated_at := current_timestamp;
+    END IF;
+
+    RETURN NEW;
+END;
+$function$
+;
+
+CREATE TRIGGER user_profile_image_metadata
+    BEFORE INSERT OR UPDATE OF profile_image ON users
+    FOR EACH ROW
+    EXECUTE FUNCTION update_user_profile_image_metadata();
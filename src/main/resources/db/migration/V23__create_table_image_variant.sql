@@ -0,0 +1,11 @@
+create table image_variant(
+    id bigserial primary key not null,
+    owner_type varchar(10) not null,
+    owner_id int4 not null,
+    variant varchar(10) not null,
+    content bytea not null,
+    hash varchar(64) not null,
+    source_hash varchar(64) not null,
+    updated_at timestamp not null default current_timestamp,
+    unique (owner_type, owner_id, variant)
+);
@@ -0,0 +1,5 @@
+create extension if not exists pg_trgm;
+
+create index project_title_trgm_idx on project using gin (lower(title) gin_trgm_ops);
+
+create index users_name_trgm_idx on users using gin (lower(name) gin_trgm_ops);
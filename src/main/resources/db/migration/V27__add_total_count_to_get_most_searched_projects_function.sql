@@ -0,0 +1,69 @@
+DROP FUNCTION IF EXISTS public.get_most_searched_projects(integer);
+
+CREATE OR REPLACE FUNCTION public.get_most_searched_projects(page_number integer DEFAULT 1)
+ RETURNS TABLE(
+ 	projectid integer,
+ 	projecttitle character varying,
+ 	coverimagehash character varying,
+ 	coverimagevariant character varying,
+ 	creatorid integer,
+ 	creatorname character varying,
+ 	creatorprofileimagehash character varying,
+ 	creatorprofileimagevariant character varying,
+ 	remainingdays integer,
+ 	percentageraised numeric,
+ 	category character varying,
+ 	status character varying,
+ 	totalregisters bigint
+ )
+ LANGUAGE plpgsql
+AS $function$
+BEGIN
+    RETURN QUERY
+    SELECT
+        p.id AS projectId,
+        p.title AS projectTitle,
+        COALESCE(piv.hash, p.cover_image_hash) AS coverImageHash,
+        piv.variant AS coverImageVariant,
+        u.id AS creatorId,
+        u.name AS creatorName,
+        COALESCE(uiv.hash, u.profile_image_hash) AS creatorProfileImageHash,
+        uiv.variant AS creatorProfileImageVariant,
+        GREATEST(p.final_date - CURRENT_DATE, 0) AS remainingDays,
+        COALESCE(pfs.percentage_raised, 100) AS percentageRaised,
+        pc.name AS category,
+        ps.description AS status,
+        COUNT(*) OVER() AS totalRegisters
+    FROM
+        project_search_log psl
+        JOIN project p ON
+            (psl.filter_name = 'id' AND psl.filter_value::INTEGER = p.id
+            OR psl.filter_name = 'project_title' AND p.title LIKE psl.filter_value)
+        JOIN users u ON p.creator_id = u.id
+        JOIN project_category pc ON p.category_id = pc.id
+        JOIN project_status ps ON p.status_id = ps.id
+        LEFT JOIN project_funding_summary pfs ON pfs.project_id = p.id
+        LEFT JOIN image_variant piv ON piv.owner_type = 'project' AND piv.owner_id = p.id
+            AND piv.variant = 'card' AND piv.source_hash = p.cover_image_hash
+        LEFT JOIN image_variant uiv ON uiv.owner_type = 'user' AND uiv.owner_id = u.id
+            AND uiv.variant = 'thumb' AND uiv.source_hash = u.profile_image_hash
+    GROUP BY
+        projectId,
+        projectTitle,
+        coverImageHash,
+        coverImageVariant,
+        creatorId,
+        creatorName,
+        creatorProfileImageHash,
+        creatorProfileImageVariant,
+        remainingDays,
+        percentageRaised,
+        category,
+        status
+    ORDER BY
+        COUNT(psl.id) DESC
+    OFFSET ((page_number - 1) * 10)
+    LIMIT 10;
+END;
+$function$
+;
@@ -0,0 +1,77 @@
+create index project_funding_summary_total_raised_idx
+    on project_funding_summary (total_raised desc, project_id desc)
+    where total_contributions > 0;
+
+DROP FUNCTION IF EXISTS public.get_top_donated_projects(integer);
+
+CREATE OR REPLACE FUNCTION public.get_top_donated_projects(page_number integer DEFAULT 1)
+    RETURNS TABLE(
+        projectId integer,
+        projectTitle character varying,
+        coverImageHash character varying,
+        coverImageVariant character varying,
+        creatorId integer,
+        creatorName character varying,
+        creatorProfileImageHash character varying,
+        creatorProfileImageVariant character varying,
+        remainingDays integer,
+        percentageRaised numeric,
+        category character varying,
+        status character varying
+    )
+    LANGUAGE plpgsql
+AS $function$
+BEGIN
+    RETURN QUERY
+    SELECT
+		p.id AS projectId,
+	    p.title AS projectTitle,
+	    COALESCE(piv.hash, p.cover_image_hash) AS coverImageHash,
+	    piv.variant AS coverImageVariant,
+	    u.id AS creatorId,
+	    u.name AS creatorName,
+	    COALESCE(uiv.hash, u.profile_image_hash) AS creatorProfileImageHash,
+	    uiv.variant AS creatorProfileImageVariant,
+	    GREATEST(p.final_date - CURRENT_DATE, 0) AS remainingDays,
+	    pfs.percentage_raised AS percentageRaised,
+	    pc.name AS category,
+	    ps.description AS status
+	FROM
+		project_funding_summary pfs
+		JOIN project p ON pfs.project_id = p.id
+	    JOIN users u ON p.creator_id = u.id
+	    JOIN project_category pc ON p.category_id = pc.id
+	    JOIN project_status ps ON p.status_id = ps.id
+	    LEFT JOIN image_variant piv ON piv.owner_type = 'project' AND piv.owner_id = p.id
+	        AND piv.variant = 'card' AND piv.source_hash = p.cover_image_hash
+	    LEFT JOIN image_variant uiv ON uiv.owner_type = 'user' AND uiv.owner_id = u.id
+	        AND uiv.variant = 'thumb' AND uiv.source_hash = u.profile_image_hash
+	WHERE
+	    pfs.total_contributions > 0
+	ORDER BY
+	    pfs.total_raised DESC,
+	    pfs.project_id DESC
+	OFFSET ((page_number - 1) * 10)
+	LIMIT 10;
+END;
+$function$
+;
+
+CREATE OR REPLACE FUNCTION public.count_total_donated_projects()
+    RETURNS integer
+    LANGUAGE plpgsql
+AS $function$
+DECLARE
+    total_count integer;
+BEGIN
+    SELECT
+        COUNT(*) INTO total_count
+    FROM
+        project_funding_summary pfs
+    WHERE
+        pfs.total_contributions > 0;
+
+    RETURN total_count;
+END;
+$function$
+;
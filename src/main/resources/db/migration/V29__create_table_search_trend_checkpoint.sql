@@ -0,0 +1,5 @@
+create table search_trend_checkpoint(
+    name varchar(20) primary key not null,
+    content bytea not null,
+    updated_at timestamp not null default current_timestamp
+);
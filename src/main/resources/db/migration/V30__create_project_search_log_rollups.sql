@@ -0,0 +1,41 @@
+create table project_search_log_hourly(
+    bucket timestamp not null,
+    filter_name varchar(50) not null,
+    filter_value varchar(255) not null,
+    searches int8 not null default 0,
+    primary key (bucket, filter_name, filter_value)
+);
+
+create table project_search_log_daily(
+    bucket date not null,
+    filter_name varchar(50) not null,
+    filter_value varchar(255) not null,
+    searches int8 not null default 0,
+    primary key (bucket, filter_name, filter_value)
+);
+
+create index project_search_log_daily_filter_idx on project_search_log_daily (filter_name, filter_value);
+
+create index project_search_log_search_date_idx on project_search_log (search_date);
+
+insert into project_search_log_hourly(bucket, filter_name, filter_value, searches)
+select
+    date_trunc('hour', search_date),
+    filter_name,
+    left(filter_value, 255),
+    count(*)
+from
+    project_search_log
+group by
+    1, 2, 3;
+
+insert into project_search_log_daily(bucket, filter_name, filter_value, searches)
+select
+    cast(search_date as date),
+    filter_name,
+    left(filter_value, 255),
+    count(*)
+from
+    project_search_log
+group by
+    1, 2, 3;
@@ -0,0 +1,22 @@
+CREATE OR REPLACE FUNCTION public.count_total_searched_projects()
+ RETURNS integer
+ LANGUAGE plpgsql
+AS $function$
+DECLARE
+    total_count integer;
+BEGIN
+    SELECT
+        COUNT(*) INTO total_count
+    FROM
+        project p
+    WHERE
+        p.id IN (
+            SELECT CAST(psd.filter_value AS integer)
+            FROM project_search_log_daily psd
+            WHERE psd.filter_name = 'id'
+        );
+
+    RETURN total_count;
+END;
+$function$
+;
@@ -0,0 +1,41 @@
+create table project_contribution_hourly(
+    bucket timestamp not null,
+    project_id int4 not null,
+    total_raised numeric(20,2) not null default 0,
+    total_contributions int8 not null default 0,
+    primary key (bucket, project_id),
+    foreign key (project_id) references project(id)
+);
+
+create table project_contribution_daily(
+    bucket date not null,
+    project_id int4 not null,
+    total_raised numeric(20,2) not null default 0,
+    total_contributions int8 not null default 0,
+    primary key (bucket, project_id),
+    foreign key (project_id) references project(id)
+);
+
+insert into project_contribution_hourly(bucket, project_id, total_raised, total_contributions)
+select
+    date_trunc('hour', date),
+    project_id,
+    sum(value),
+    count(*)
+from
+    contribution
+where
+    date >= current_date - 31
+group by
+    1, 2;
+
+insert into project_contribution_daily(bucket, project_id, total_raised, total_contributions)
+select
+    cast(date as date),
+    project_id,
+    sum(value),
+    count(*)
+from
+    contribution
+group by
+    1, 2;
@@ -0,0 +1,70 @@
+CREATE OR REPLACE FUNCTION public.get_most_searched_projects_between(
+    start_at timestamp,
+    end_at timestamp,
+    use_hourly boolean,
+    page_number integer DEFAULT 1
+)
+ RETURNS TABLE(
+ 	projectid integer,
+ 	projecttitle character varying,
+ 	coverimagehash character varying,
+ 	coverimagevariant character varying,
+ 	creatorid integer,
+ 	creatorname character varying,
+ 	creatorprofileimagehash character varying,
+ 	creatorprofileimagevariant character varying,
+ 	remainingdays integer,
+ 	percentageraised numeric,
+ 	category character varying,
+ 	status character varying,
+ 	totalregisters bigint
+ )
+ LANGUAGE plpgsql
+AS $function$
+BEGIN
+    RETURN QUERY
+    WITH window_searches AS (
+        SELECT CAST(psh.filter_value AS integer) AS project_id, SUM(psh.searches) AS searches
+        FROM project_search_log_hourly psh
+        WHERE use_hourly AND psh.filter_name = 'id' AND psh.bucket >= start_at AND psh.bucket < end_at
+        GROUP BY psh.filter_value
+        UNION ALL
+        SELECT CAST(psd.filter_value AS integer) AS project_id, SUM(psd.searches) AS searches
+        FROM project_search_log_daily psd
+        WHERE NOT use_hourly AND psd.filter_name = 'id'
+            AND psd.bucket >= CAST(start_at AS date) AND psd.bucket < CAST(end_at AS date)
+        GROUP BY psd.filter_value
+    )
+    SELECT
+        p.id AS projectId,
+        p.title AS projectTitle,
+        COALESCE(piv.hash, p.cover_image_hash) AS coverImageHash,
+        piv.variant AS coverImageVariant,
+        u.id AS creatorId,
+        u.name AS creatorName,
+        COALESCE(uiv.hash, u.profile_image_hash) AS creatorProfileImageHash,
+        uiv.variant AS creatorProfileImageVariant,
+        GREATEST(p.final_date - CURRENT_DATE, 0) AS remainingDays,
+        COALESCE(pfs.percentage_raised, 100) AS percentageRaised,
+        pc.name AS category,
+        ps.description AS status,
+        COUNT(*) OVER() AS totalRegisters
+    FROM
+        window_searches ws
+        JOIN project p ON ws.project_id = p.id
+        JOIN users u ON p.creator_id = u.id
+        JOIN project_category pc ON p.category_id = pc.id
+        JOIN project_status ps ON p.status_id = ps.id
+        LEFT JOIN project_funding_summary pfs ON pfs.project_id = p.id
+        LEFT JOIN image_variant piv ON piv.owner_type = 'project' AND piv.owner_id = p.id
+            AND piv.variant = 'card' AND piv.source_hash = p.cover_image_hash
+        LEFT JOIN image_variant uiv ON uiv.owner_type = 'user' AND uiv.owner_id = u.id
+            AND uiv.variant = 'thumb' AND uiv.source_hash = u.profile_image_hash
+    ORDER BY
+        ws.searches DESC,
+        p.id DESC
+    OFFSET ((page_number - 1) * 10)
+    LIMIT 10;
+END;
+$function$
+;
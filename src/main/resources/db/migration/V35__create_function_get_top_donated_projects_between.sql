@@ -0,0 +1,69 @@
+CREATE OR REPLACE FUNCTION public.get_top_donated_projects_between(
+    start_at timestamp,
+    end_at timestamp,
+    use_hourly boolean,
+    page_number integer DEFAULT 1
+)
+    RETURNS TABLE(
+        projectId integer,
+        projectTitle character varying,
+        coverImageHash character varying,
+        coverImageVariant character varying,
+        creatorId integer,
+        creatorName character varying,
+        creatorProfileImageHash character varying,
+        creatorProfileImageVariant character varying,
+        remainingDays integer,
+        percentageRaised numeric,
+        category character varying,
+        status character varying,
+        totalRegisters bigint
+    )
+    LANGUAGE plpgsql
+AS $function$
+BEGIN
+    RETURN QUERY
+    WITH window_contributions AS (
+        SELECT pch.project_id, SUM(pch.total_raised) AS total_raised
+        FROM project_contribution_hourly pch
+        WHERE use_hourly AND pch.bucket >= start_at AND pch.bucket < end_at
+        GROUP BY pch.project_id
+        UNION ALL
+        SELECT pcd.project_id, SUM(pcd.total_raised) AS total_raised
+        FROM project_contribution_daily pcd
+        WHERE NOT use_hourly AND pcd.bucket >= CAST(start_at AS date) AND pcd.bucket < CAST(end_at AS date)
+        GROUP BY pcd.project_id
+    )
+    SELECT
+		p.id AS projectId,
+	    p.title AS projectTitle,
+	    COALESCE(piv.hash, p.cover_image_hash) AS coverImageHash,
+	    piv.variant AS coverImageVariant,
+	    u.id AS creatorId,
+	    u.name AS creatorName,
+	    COALESCE(uiv.hash, u.profile_image_hash) AS creatorProfileImageHash,
+	    uiv.variant AS creatorProfileImageVariant,
+	    GREATEST(p.final_date - CURRENT_DATE, 0) AS remainingDays,
+	    COALESCE(pfs.percentage_raised, 100) AS percentageRaised,
+	    pc.name AS category,
+	    ps.description AS status,
+	    COUNT(*) OVER() AS totalRegisters
+	FROM
+		window_contributions wc
+		JOIN project p ON wc.project_id = p.id
+	    JOIN users u ON p.creator_id = u.id
+	    JOIN project_category pc ON p.category_id = pc.id
+	    JOIN project_status ps ON p.status_id = ps.id
+	    LEFT JOIN project_funding_summary pfs ON pfs.project_id = p.id
+	    LEFT JOIN image_variant piv ON piv.owner_type = 'project' AND piv.owner_id = p.id
+	        AND piv.variant = 'card' AND piv.source_hash = p.cover_image_hash
+	    LEFT JOIN image_variant uiv ON uiv.owner_type = 'user' AND uiv.owner_id = u.id
+	        AND uiv.variant = 'thumb' AND uiv.source_hash = u.profile_image_hash
+	ORDER BY
+	    wc.total_raised DESC,
+	    wc.project_id DESC
+	OFFSET ((page_number - 1) * 10)
+	LIMIT 10;
+END;
+$function$
+;
@@ -0,0 +1,15 @@
+create table email_outbox(
+    id bigserial primary key,
+    address varchar(255) not null,
+    subject varchar(255) not null,
+    content text not null,
+    attempts int4 not null default 0,
+    next_attempt_at timestamp not null default current_timestamp,
+    last_error varchar(1000),
+    created_at timestamp not null default current_timestamp,
+    sent_at timestamp,
+    failed_at timestamp
+);
+
+create index idx_email_outbox_pending on email_outbox(next_attempt_at) where sent_at is null and failed_at is null;
+create index idx_email_outbox_sent_at on email_outbox(sent_at) where sent_at is not null;
@@ -0,0 +1,56 @@
+package capi.funding.api.dto;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+class CreateContributionDTOTest {
+
+    private static ValidatorFactory validatorFactory;
+    private static Validator validator;
+
+    @BeforeAll
+    static void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    @DisplayName("value - should accept values that fit the contribution column")
+    void testValueShouldAcceptValuesThatFitTheContributionColumn() {
+        final CreateContributionDTO dto = new CreateContributionDTO(1L, new BigDecimal("9999999999999.99"));
+
+        assertTrue(validator.validate(dto).isEmpty());
+    }
+
+    @Test
+    @DisplayName("value - should reject values with 14 integer digits")
+    void testValueShouldRejectValuesWith14IntegerDigits() {
+        final CreateContributionDTO dto = new CreateContributionDTO(1L, new BigDecimal("12345678901234.00"));
+
+        final Set<ConstraintViolation<CreateContributionDTO>> violations = validator.validate(dto);
+
+        assertEquals(1, violations.size());
+        assertEquals(
+                "the value must have at most 13 integer digits and 2 decimals",
+                violations.iterator().next().getMessage()
+        );
+    }
+}
@@ -36,7 +36,7 @@ class ProjectTest {
                 LocalDateTime.now().minusDays(10),
                 LocalDate.now().minusDays(8),
                 LocalDate.now().plusDays(5),
-                new byte[1830239]
+                "hash"
         ));
     }
 
@@ -44,7 +44,7 @@ class ProjectTest {
     @DisplayName("project - getters and setters")
     void testGettersAndSetters() {
         final LocalDateTime now = LocalDateTime.now();
-        final byte[] cover_image = new byte[1830239];
+        final String cover_image_hash = "hash";
         final Project project = new Project();
 
         assertDoesNotThrow(() -> {
@@ -58,7 +58,7 @@ class ProjectTest {
             project.setCreation_date(now.minusDays(10));
             project.setInitial_date(LocalDate.now().minusDays(8));
             project.setFinal_date(LocalDate.now().plusDays(5));
-            project.setCover_image(cover_image);
+            project.setCover_image_hash(cover_image_hash);
         });
 
         assertAll("test getters",
@@ -72,7 +72,7 @@ class ProjectTest {
                 () -> assertEquals(now.minusDays(10), project.getCreation_date()),
                 () -> assertEquals(LocalDate.now().minusDays(8), project.getInitial_date()),
                 () -> assertEquals(LocalDate.now().plusDays(5), project.getFinal_date()),
-                () -> assertEquals(cover_image, project.getCover_image())
+                () -> assertEquals(cover_image_hash, project.getCover_image_hash())
         );
     }
 
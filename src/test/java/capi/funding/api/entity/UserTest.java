@@ -51,7 +51,7 @@ class UserTest {
     @DisplayName("user - getters and setters")
     void testGettersAndSetters() {
         final LocalDateTime now = LocalDateTime.now();
-        final byte[] profileImage = new byte[1000];
+        final String profileImageHash = "hash";
         final User user = new User();
 
         assertDoesNotThrow(() -> {
@@ -61,7 +61,7 @@ class UserTest {
             user.setName("testing");
             user.setActive(true);
             user.setCreation_date(now);
-            user.setProfile_image(profileImage);
+            user.setProfile_image_hash(profileImageHash);
         });
 
         assertAll("test getters",
@@ -71,7 +71,7 @@ class UserTest {
                 () -> assertEquals("testing", user.getName()),
                 () -> assertTrue(user.isActive()),
                 () -> assertEquals(now, user.getCreation_date()),
-                () -> assertEquals(profileImage, user.getProfile_image())
+                () -> assertEquals(profileImageHash, user.getProfile_image_hash())
         );
     }
 
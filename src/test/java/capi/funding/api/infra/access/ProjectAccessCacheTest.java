@@ -0,0 +1,69 @@
+package capi.funding.api.infra.access;
+
+import capi.funding.api.dto.ProjectAccessInfo;
+import capi.funding.api.infra.exceptions.NotFoundException;
+import capi.funding.api.repository.ProjectRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+class ProjectAccessCacheTest {
+
+    private final ProjectAccessInfo accessInfo = new ProjectAccessInfo(1, 2, 3, false, LocalDate.now());
+
+    private ProjectAccessCache accessCache;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @BeforeEach
+    void setUp() {
+        accessCache = new ProjectAccessCache(projectRepository, new SimpleMeterRegistry(), 100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("get - shouldn't fetch the project again when it is in cache")
+    void testGetShouldntFetchTheProjectAgainWhenItIsInCache() {
+        when(projectRepository.findAccessInfo(1)).thenReturn(Optional.of(accessInfo));
+
+        assertEquals(accessInfo, accessCache.get(1));
+        assertEquals(accessInfo, accessCache.get(1));
+
+        verify(projectRepository, times(1)).findAccessInfo(1);
+    }
+
+    @Test
+    @DisplayName("get - should throw NotFoundException when the project doesn't exist")
+    void testGetShouldThrowNotFoundExceptionWhenTheProjectDoesntExist() {
+        when(projectRepository.findAccessInfo(1)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> accessCache.get(1));
+    }
+
+    @Test
+    @DisplayName("invalidate - should fetch the project again")
+    void testInvalidateShouldFetchTheProjectAgain() {
+        when(projectRepository.findAccessInfo(1)).thenReturn(Optional.of(accessInfo));
+
+        accessCache.get(1);
+        accessCache.invalidate(1);
+        accessCache.get(1);
+
+        verify(projectRepository, times(2)).findAccessInfo(1);
+    }
+}
@@ -0,0 +1,93 @@
+package capi.funding.api.infra.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+class LockingLoadingCacheTest {
+
+    @Test
+    @DisplayName("get - should load concurrent misses of a key once")
+    void testGetShouldLoadConcurrentMissesOfAKeyOnce() throws Exception {
+        final AtomicInteger loads = new AtomicInteger();
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final LockingLoadingCache<Long, String> cache = new LockingLoadingCache<>(Caffeine.newBuilder().build(), key -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return "project " + key;
+        });
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> cache.get(1L)));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 3; i++) {
+                results.add(executor.submit(() -> cache.get(1L)));
+            }
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertEquals("project 1", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("get - shouldn't cache null values")
+    void testGetShouldntCacheNullValues() {
+        final AtomicInteger loads = new AtomicInteger();
+        final LockingLoadingCache<Long, String> cache = new LockingLoadingCache<>(Caffeine.newBuilder().build(), key -> {
+            loads.incrementAndGet();
+            return null;
+        });
+
+        assertNull(cache.get(1L));
+        assertNull(cache.get(1L));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("invalidate - should load the key again")
+    void testInvalidateShouldLoadTheKeyAgain() {
+        final AtomicInteger loads = new AtomicInteger();
+        final LockingLoadingCache<Long, Integer> cache = new LockingLoadingCache<>(Caffeine.newBuilder().build(), key ->
+                loads.incrementAndGet());
+
+        assertEquals(1, cache.get(1L));
+        assertEquals(1, cache.get(1L));
+
+        cache.invalidate(1L);
+        assertEquals(2, cache.get(1L));
+
+        cache.invalidateAll();
+        assertEquals(3, cache.get(1L));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package capi.funding.api.infra.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimitedDataSourceTest {
+
+    private ConcurrencyLimitedDataSource dataSource;
+
+    @Mock
+    private DataSource targetDataSource;
+    @Mock
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ConcurrencyLimitedDataSource(targetDataSource, 2, Duration.ofMillis(10));
+    }
+
+    @Test
+    @DisplayName("getConnection - should hold a permit until the connection is closed")
+    void testGetConnectionShouldHoldAPermitUntilTheConnectionIsClosed() throws SQLException {
+        when(targetDataSource.getConnection()).thenReturn(connection);
+
+        final Connection borrowed = dataSource.getConnection();
+
+        assertEquals(1, dataSource.getAvailablePermits());
+
+        borrowed.close();
+
+        assertEquals(2, dataSource.getAvailablePermits());
+        verify(connection).close();
+    }
+
+    @Test
+    @DisplayName("getConnection - should release the permit only once when closed twice")
+    void testGetConnectionShouldReleaseThePermitOnlyOnceWhenClosedTwice() throws SQLException {
+        when(targetDataSource.getConnection()).thenReturn(connection);
+
+        final Connection borrowed = dataSource.getConnection();
+        dataSource.getConnection();
+
+        borrowed.close();
+        borrowed.close();
+
+        assertEquals(1, dataSource.getAvailablePermits());
+    }
+
+    @Test
+    @DisplayName("getConnection - should fail when no permit is released in time")
+    void testGetConnectionShouldFailWhenNoPermitIsReleasedInTime() throws SQLException {
+        when(targetDataSource.getConnection()).thenReturn(connection);
+
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        assertThrows(SQLTransientConnectionException.class, () -> dataSource.getConnection());
+        verify(targetDataSource, times(2)).getConnection();
+    }
+
+    @Test
+    @DisplayName("getConnection - should release the permit when the target fails")
+    void testGetConnectionShouldReleaseThePermitWhenTheTargetFails() throws SQLException {
+        when(targetDataSource.getConnection()).thenThrow(new SQLException("down"));
+
+        assertThrows(SQLException.class, () -> dataSource.getConnection());
+
+        assertEquals(2, dataSource.getAvailablePermits());
+    }
+
+    @Test
+    @DisplayName("getConnection - should delegate the other calls to the target connection")
+    void testGetConnectionShouldDelegateTheOtherCallsToTheTargetConnection() throws SQLException {
+        when(targetDataSource.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(true);
+
+        final Connection borrowed = dataSource.getConnection();
+
+        assertTrue(borrowed.getAutoCommit());
+        assertEquals(1, dataSource.getAvailablePermits());
+    }
+}
@@ -0,0 +1,46 @@
+package capi.funding.api.infra.datasource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@ActiveProfiles("test")
+class DataSourceConcurrencyLimiterTest {
+
+    private final DataSourceConcurrencyLimiter limiter = new DataSourceConcurrencyLimiter(5, Duration.ofSeconds(1));
+
+    @Test
+    @DisplayName("postProcessAfterInitialization - should wrap the data source")
+    void testPostProcessAfterInitializationShouldWrapTheDataSource() {
+        final DataSource dataSource = mock(DataSource.class);
+
+        final Object processed = limiter.postProcessAfterInitialization(dataSource, "dataSource");
+
+        final ConcurrencyLimitedDataSource limited = assertInstanceOf(ConcurrencyLimitedDataSource.class, processed);
+        assertSame(dataSource, limited.getTargetDataSource());
+        assertEquals(5, limited.getAvailablePermits());
+    }
+
+    @Test
+    @DisplayName("postProcessAfterInitialization - shouldn't wrap the data source twice")
+    void testPostProcessAfterInitializationShouldntWrapTheDataSourceTwice() {
+        final ConcurrencyLimitedDataSource limited =
+                new ConcurrencyLimitedDataSource(mock(DataSource.class), 1, Duration.ofSeconds(1));
+
+        assertSame(limited, limiter.postProcessAfterInitialization(limited, "dataSource"));
+    }
+
+    @Test
+    @DisplayName("postProcessAfterInitialization - shouldn't touch other beans")
+    void testPostProcessAfterInitializationShouldntTouchOtherBeans() {
+        final Object bean = new Object();
+
+        assertSame(bean, limiter.postProcessAfterInitialization(bean, "bean"));
+    }
+}
@@ -0,0 +1,147 @@
+package capi.funding.api.infra.email;
+
+import capi.funding.api.dto.EmailDTO;
+import capi.funding.api.dto.OutboxEmail;
+import capi.funding.api.repository.EmailOutboxRepository;
+import capi.funding.api.services.EmailService;
+import capi.funding.api.utils.Utils;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+class EmailOutboxDispatcherTest {
+
+    @RegisterExtension
+    static final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private EmailOutboxDispatcher dispatcher;
+    private JavaMailSenderImpl javaMailSender;
+
+    @Mock
+    private EmailOutboxRepository emailOutboxRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private Utils utils;
+
+    @BeforeEach
+    void setUp() {
+        javaMailSender = new JavaMailSenderImpl();
+        javaMailSender.setHost("localhost");
+        javaMailSender.setPort(greenMail.getSmtp().getPort());
+
+        final EmailService emailService = new EmailService(javaMailSender, emailOutboxRepository, eventPublisher, utils);
+
+        dispatcher = new EmailOutboxDispatcher(
+                emailOutboxRepository,
+                emailService,
+                meterRegistry,
+                0,
+                10,
+                Duration.ofSeconds(5),
+                Duration.ofMinutes(5),
+                3,
+                Duration.ofSeconds(30),
+                Duration.ofMinutes(5),
+                Duration.ofDays(7)
+        );
+    }
+
+    @Test
+    @DisplayName("dispatch - should send the claimed emails and mark them as sent")
+    void testDispatchShouldSendTheClaimedEmailsAndMarkThemAsSent() throws Exception {
+        when(emailOutboxRepository.claim(eq(10), any())).thenReturn(List.of(
+                outboxEmail(1, "first@gmail.com", 1),
+                outboxEmail(2, "second@gmail.com", 1)
+        ));
+
+        assertEquals(2, dispatcher.dispatch());
+
+        final MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(2, received.length);
+        assertEquals("subject test", received[0].getSubject());
+        verify(emailOutboxRepository).markSent(List.of(1L, 2L));
+        verify(emailOutboxRepository, never()).markRetry(anyLong(), any(), any());
+        assertEquals(2, meterRegistry.counter("email.outbox.sent").count());
+    }
+
+    @Test
+    @DisplayName("dispatch - should schedule a retry when the mail server is unavailable")
+    void testDispatchShouldScheduleARetryWhenTheMailServerIsUnavailable() {
+        javaMailSender.setPort(greenMail.getSmtp().getPort() + 1);
+        when(emailOutboxRepository.claim(eq(10), any())).thenReturn(List.of(outboxEmail(1, "first@gmail.com", 2)));
+
+        dispatcher.dispatch();
+
+        verify(emailOutboxRepository).markRetry(eq(1L), eq(Duration.ofMinutes(1)), any());
+        verify(emailOutboxRepository).markSent(List.of());
+        assertEquals(0, greenMail.getReceivedMessages().length);
+    }
+
+    @Test
+    @DisplayName("dispatch - should give up after the last attempt")
+    void testDispatchShouldGiveUpAfterTheLastAttempt() {
+        javaMailSender.setPort(greenMail.getSmtp().getPort() + 1);
+        when(emailOutboxRepository.claim(eq(10), any())).thenReturn(List.of(outboxEmail(1, "first@gmail.com", 3)));
+
+        dispatcher.dispatch();
+
+        verify(emailOutboxRepository).markFailed(eq(1L), any());
+        verify(emailOutboxRepository, never()).markRetry(anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("dispatch - shouldn't send anything when the claim fails")
+    void testDispatchShouldntSendAnythingWhenTheClaimFails() {
+        when(emailOutboxRepository.claim(eq(10), any())).thenThrow(new IllegalStateException("database down"));
+
+        assertEquals(0, dispatcher.dispatch());
+
+        assertEquals(0, greenMail.getReceivedMessages().length);
+        verify(emailOutboxRepository, never()).markSent(any());
+    }
+
+    @Test
+    @DisplayName("backoff - should double on every attempt up to the maximum")
+    void testBackoffShouldDoubleOnEveryAttemptUpToTheMaximum() {
+        assertEquals(Duration.ofSeconds(30), dispatcher.backoff(1));
+        assertEquals(Duration.ofSeconds(60), dispatcher.backoff(2));
+        assertEquals(Duration.ofSeconds(240), dispatcher.backoff(4));
+        assertEquals(Duration.ofMinutes(5), dispatcher.backoff(10));
+        assertEquals(Duration.ofMinutes(5), dispatcher.backoff(100));
+    }
+
+    @Test
+    @DisplayName("deleteSentEmails - should delete the emails sent before the retention")
+    void testDeleteSentEmailsShouldDeleteTheEmailsSentBeforeTheRetention() {
+        dispatcher.deleteSentEmails();
+
+        verify(emailOutboxRepository).deleteSentBefore(any());
+    }
+
+    private static OutboxEmail outboxEmail(long id, String address, int attempts) {
+        return new OutboxEmail(id, new EmailDTO(address, "subject test", "<p>content test</p>"), attempts);
+    }
+}
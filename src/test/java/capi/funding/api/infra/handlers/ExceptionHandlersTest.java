@@ -182,16 +182,6 @@ class ExceptionHandlersTest {
         assertEquals(HttpStatusCode.valueOf(400), response.getStatusCode());
     }
 
-    @Test
-    @DisplayName("emailSendException - should return internal server error response")
-    void testEmailSendExceptionShouldReturnInternalServerError() {
-        final var response = exceptionHandlers.emailSendException(
-                mock(EmailSendException.class)
-        );
-
-        assertEquals(HttpStatusCode.valueOf(500), response.getStatusCode());
-    }
-
     @Test
     @DisplayName("milestoneSequenceException - should return bad request response")
     void testMilestoneSequenceExceptionShouldReturnBadRequestResponse() {
@@ -211,4 +201,15 @@ class ExceptionHandlersTest {
 
         assertEquals(HttpStatusCode.valueOf(400), response.getStatusCode());
     }
+
+    @Test
+    @DisplayName("tooManyRequestsException - should return too many requests response")
+    void testTooManyRequestsExceptionShouldReturnTooManyRequestsResponse() {
+        final var response = exceptionHandlers.tooManyRequestsException(
+                new TooManyRequestsException("too many images being processed, try again later")
+        );
+
+        assertEquals(HttpStatusCode.valueOf(429), response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst("Retry-After"));
+    }
 }
@@ -0,0 +1,67 @@
+package capi.funding.api.infra.images;
+
+import capi.funding.api.infra.exceptions.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+class ImageProcessingExecutorTest {
+
+    private ImageProcessingExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ImageProcessingExecutor(new SimpleMeterRegistry(), 1, 1);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("submit - should run the task on an image worker")
+    void testSubmitShouldRunTheTaskOnAnImageWorker() {
+        final String threadName = executor.submit(() -> Thread.currentThread().getName()).join();
+
+        assertTrue(threadName.startsWith("image-worker-"));
+    }
+
+    @Test
+    @DisplayName("submit - should reject with TooManyRequestsException when the workers and the queue are full")
+    void testSubmitShouldRejectWhenTheWorkersAndTheQueueAreFull() throws InterruptedException {
+        final CountDownLatch workerStarted = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        executor.submit(() -> {
+            workerStarted.countDown();
+            awaitQuietly(release);
+            return null;
+        });
+        assertTrue(workerStarted.await(5, TimeUnit.SECONDS));
+        executor.submit(() -> null);
+
+        final TooManyRequestsException exception = assertThrows(TooManyRequestsException.class, () ->
+                executor.submit(() -> null));
+
+        assertEquals("too many images being processed, try again later", exception.getMessage());
+        release.countDown();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
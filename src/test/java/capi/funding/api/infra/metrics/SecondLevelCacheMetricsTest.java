@@ -0,0 +1,83 @@
+package capi.funding.api.infra.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+class SecondLevelCacheMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private SecondLevelCacheMetrics secondLevelCacheMetrics;
+    private CacheManager cacheManager;
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+    @Mock
+    private SessionFactoryImplementor sessionFactory;
+    @Mock
+    private CacheImplementor cache;
+
+    @BeforeEach
+    void setUp() {
+        secondLevelCacheMetrics = new SecondLevelCacheMetrics(entityManagerFactory);
+
+        cacheManager = Caching.getCachingProvider("com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider")
+                .getCacheManager(URI.create("classpath:hibernate-cache.conf"), getClass().getClassLoader());
+
+        when(entityManagerFactory.unwrap(SessionFactoryImplementor.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getCache()).thenReturn(cache);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cacheManager.close();
+    }
+
+    @Test
+    @DisplayName("bindTo - should register the size of every region")
+    void testBindToShouldRegisterTheSizeOfEveryRegion() {
+        final JCacheRegionFactory regionFactory = mock(JCacheRegionFactory.class);
+        when(cache.getRegionFactory()).thenReturn(regionFactory);
+        when(regionFactory.getCacheManager()).thenReturn(cacheManager);
+
+        final javax.cache.Cache<Object, Object> projects = cacheManager.getCache("project");
+        projects.put(1L, "project");
+
+        secondLevelCacheMetrics.bindTo(registry);
+
+        assertEquals(1, registry.get("hibernate.second.level.cache.size").tag("region", "project").gauge().value());
+        assertEquals(10000, registry.get("hibernate.second.level.cache.max.size").tag("region", "project").gauge().value());
+    }
+
+    @Test
+    @DisplayName("bindTo - shouldn't register region sizes when the cache isn't backed by JCache")
+    void testBindToShouldntRegisterRegionSizesWhenTheCacheIsntBackedByJCache() {
+        when(cache.getRegionFactory()).thenReturn(mock(RegionFactory.class));
+
+        secondLevelCacheMetrics.bindTo(registry);
+
+        assertNull(registry.find("hibernate.second.level.cache.size").gauge());
+    }
+}
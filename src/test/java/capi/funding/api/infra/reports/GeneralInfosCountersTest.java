@@ -0,0 +1,88 @@
+package capi.funding.api.infra.reports;
+
+import capi.funding.api.dto.GeneralInfosReportDTO;
+import capi.funding.api.repository.ContributionRepository;
+import capi.funding.api.repository.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+class GeneralInfosCountersTest {
+
+    private GeneralInfosCounters counters;
+
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private ContributionRepository contributionRepository;
+
+    @BeforeEach
+    void setUp() {
+        counters = new GeneralInfosCounters(projectRepository, contributionRepository);
+    }
+
+    @Test
+    @DisplayName("reconcile - should seed the counters from the database")
+    void testReconcileShouldSeedTheCountersFromTheDatabase() {
+        when(projectRepository.count()).thenReturn(5L);
+        when(contributionRepository.countTotalRaised()).thenReturn(new BigDecimal("150.50"));
+        when(contributionRepository.count()).thenReturn(7L);
+
+        counters.addProject();
+        counters.reconcile();
+
+        assertTrue(counters.isReady());
+        assertEquals(new GeneralInfosReportDTO(5L, new BigDecimal("150.50"), 7L), counters.snapshot());
+    }
+
+    @Test
+    @DisplayName("reconcile - shouldn't be ready when the database fails")
+    void testReconcileShouldntBeReadyWhenTheDatabaseFails() {
+        when(projectRepository.count()).thenThrow(new QueryTimeoutException("timeout"));
+
+        counters.reconcile();
+
+        assertFalse(counters.isReady());
+    }
+
+    @Test
+    @DisplayName("addContribution - should add to the totals")
+    void testAddContributionShouldAddToTheTotals() {
+        counters.addProject();
+        counters.addContribution(new BigDecimal("10.25"));
+        counters.addContribution(new BigDecimal("4.75"));
+
+        assertEquals(new GeneralInfosReportDTO(1L, new BigDecimal("15.00"), 2L), counters.snapshot());
+    }
+
+    @Test
+    @DisplayName("addContribution - should wait for the transaction to commit")
+    void testAddContributionShouldWaitForTheTransactionToCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            counters.addContribution(BigDecimal.TEN);
+
+            assertEquals(0L, counters.snapshot().totalContributions());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals(new GeneralInfosReportDTO(0L, BigDecimal.TEN, 1L), counters.snapshot());
+    }
+}
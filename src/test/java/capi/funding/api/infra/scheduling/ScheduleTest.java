@@ -1,6 +1,12 @@
 package capi.funding.api.infra.scheduling;
 
-import capi.funding.api.security.SecurityFilter;
+import capi.funding.api.infra.email.EmailOutboxDispatcher;
+import capi.funding.api.infra.reports.GeneralInfosCounters;
+import capi.funding.api.infra.search.ProjectSearchIndex;
+import capi.funding.api.infra.trending.SearchTrendTracker;
+import capi.funding.api.services.ImageVariantService;
+import capi.funding.api.services.ProjectFundingSummaryService;
+import capi.funding.api.services.ProjectSearchLogService;
 import capi.funding.api.services.ProjectService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,17 +25,21 @@ class ScheduleTest {
     @InjectMocks
     Schedule schedule;
     @Mock
-    SecurityFilter securityFilter;
-    @Mock
     ProjectService projectService;
-
-    @Test
-    @DisplayName("clearUsersCache - should clear cache")
-    void testClearUsersCacheShoulClearCache() {
-        schedule.clearUsersCache();
-
-        verify(securityFilter).clearUsersCache();
-    }
+    @Mock
+    ImageVariantService imageVariantService;
+    @Mock
+    ProjectSearchIndex projectSearchIndex;
+    @Mock
+    SearchTrendTracker searchTrendTracker;
+    @Mock
+    ProjectSearchLogService projectSearchLogService;
+    @Mock
+    ProjectFundingSummaryService fundingSummaryService;
+    @Mock
+    GeneralInfosCounters generalInfosCounters;
+    @Mock
+    EmailOutboxDispatcher emailOutboxDispatcher;
 
     @Test
     @DisplayName("concludeAllProjectsEndingYesterdayNotCancelled - should call project service")
@@ -38,4 +48,60 @@ class ScheduleTest {
 
         verify(projectService).concludeAllProjectsEndingYesterdayNotCancelled();
     }
+
+    @Test
+    @DisplayName("generateMissingImageVariants - should generate a batch of missing variants")
+    void testShouldGenerateABatchOfMissingVariants() {
+        schedule.generateMissingImageVariants();
+
+        verify(imageVariantService).generateMissingVariants(20);
+    }
+
+    @Test
+    @DisplayName("refreshProjectSearchIndex - should reload the project search index")
+    void testShouldReloadTheProjectSearchIndex() {
+        schedule.refreshProjectSearchIndex();
+
+        verify(projectSearchIndex).refresh();
+    }
+
+    @Test
+    @DisplayName("checkpointSearchTrends - should checkpoint the search trends")
+    void testShouldCheckpointTheSearchTrends() {
+        schedule.checkpointSearchTrends();
+
+        verify(searchTrendTracker).checkpoint();
+    }
+
+    @Test
+    @DisplayName("deleteExpiredSearchLogs - should delete the expired search logs")
+    void testShouldDeleteTheExpiredSearchLogs() {
+        schedule.deleteExpiredSearchLogs();
+
+        verify(projectSearchLogService).deleteExpiredLogs();
+    }
+
+    @Test
+    @DisplayName("deleteExpiredContributionRollups - should delete the expired hourly contribution buckets")
+    void testShouldDeleteTheExpiredHourlyContributionBuckets() {
+        schedule.deleteExpiredContributionRollups();
+
+        verify(fundingSummaryService).deleteExpiredHourlyRollups();
+    }
+
+    @Test
+    @DisplayName("reconcileGeneralInfosCounters - should reconcile the counters with the database")
+    void testShouldReconcileTheGeneralInfosCounters() {
+        schedule.reconcileGeneralInfosCounters();
+
+        verify(generalInfosCounters).reconcile();
+    }
+
+    @Test
+    @DisplayName("deleteSentEmails - should delete the sent outbox emails")
+    void testShouldDeleteTheSentOutboxEmails() {
+        schedule.deleteSentEmails();
+
+        verify(emailOutboxDispatcher).deleteSentEmails();
+    }
 }
@@ -0,0 +1,262 @@
+package capi.funding.api.infra.search;
+
+import capi.funding.api.dto.ProjectSearchDocument;
+import capi.funding.api.entity.Project;
+import capi.funding.api.enums.ProjectCategoryEnum;
+import capi.funding.api.enums.ProjectStatusEnum;
+import capi.funding.api.repository.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+class ProjectSearchIndexTest {
+
+    private static final int TECHNOLOGY = ProjectCategoryEnum.TECHNOLOGY.getValue();
+    private static final int IN_PROGRESS = ProjectStatusEnum.IN_PROGRESS.getValue();
+    private static final int DONE = ProjectStatusEnum.DONE.getValue();
+
+    private ProjectSearchIndex index;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProjectSearchIndex(projectRepository, true);
+    }
+
+    @Test
+    @DisplayName("isReady - shouldn't be ready before the first load")
+    void testIsReadyShouldntBeReadyBeforeTheFirstLoad() {
+        assertFalse(index.isReady());
+    }
+
+    @Test
+    @DisplayName("refresh - shouldn't load anything when disabled")
+    void testRefreshShouldntLoadAnythingWhenDisabled() {
+        final ProjectSearchIndex disabledIndex = new ProjectSearchIndex(projectRepository, false);
+
+        disabledIndex.refresh();
+
+        assertFalse(disabledIndex.isReady());
+        verifyNoInteractions(projectRepository);
+    }
+
+    @Test
+    @DisplayName("refresh - should stay on the database when the load fails")
+    void testRefreshShouldStayOnTheDatabaseWhenTheLoadFails() {
+        when(projectRepository.findAllSearchDocuments()).thenThrow(new QueryTimeoutException("timeout"));
+
+        index.refresh();
+
+        assertFalse(index.isReady());
+    }
+
+    @Test
+    @DisplayName("search - should match accent folded token prefixes of the title")
+    void testSearchShouldMatchAccentFoldedTokenPrefixesOfTheTitle() {
+        load(
+                document(1, "Horta Comunitária", TECHNOLOGY, IN_PROGRESS, "Ana"),
+                document(2, "Biblioteca comunitaria", TECHNOLOGY, IN_PROGRESS, "Bruno"),
+                document(3, "Horta urbana", TECHNOLOGY, IN_PROGRESS, "Carla")
+        );
+
+        assertArrayEquals(new int[]{1, 2}, index.search("comunitaria", null, null, null));
+        assertArrayEquals(new int[]{1}, index.search("hort COMUN", null, null, null));
+        assertArrayEquals(new int[0], index.search("jardim", null, null, null));
+    }
+
+    @Test
+    @DisplayName("search - should combine the category, status and creator filters")
+    void testSearchShouldCombineTheCategoryStatusAndCreatorFilters() {
+        load(
+                document(1, "Projeto A", TECHNOLOGY, IN_PROGRESS, "João Silva"),
+                document(2, "Projeto B", 2, IN_PROGRESS, "João Souza"),
+                document(3, "Projeto C", TECHNOLOGY, 2, "Maria Silva")
+        );
+
+        assertArrayEquals(new int[]{1, 3}, index.search("", List.of(TECHNOLOGY), List.of(), ""));
+        assertArrayEquals(new int[]{1, 2}, index.search("", null, List.of(IN_PROGRESS), "joao"));
+        assertArrayEquals(new int[]{3}, index.search("projeto", List.of(TECHNOLOGY), List.of(2, 4), "silva"));
+    }
+
+    @Test
+    @DisplayName("search - should hide concluded and cancelled projects unless the status is filtered")
+    void testSearchShouldHideConcludedAndCancelledProjectsUnlessTheStatusIsFiltered() {
+        load(
+                document(1, "Projeto A", TECHNOLOGY, IN_PROGRESS, "Ana"),
+                document(2, "Projeto B", TECHNOLOGY, DONE, "Ana")
+        );
+
+        assertArrayEquals(new int[]{1}, index.search("", null, null, ""));
+        assertArrayEquals(new int[]{2}, index.search("", null, List.of(DONE), ""));
+    }
+
+    @Test
+    @DisplayName("index - should apply project changes to the next search")
+    void testIndexShouldApplyProjectChangesToTheNextSearch() {
+        load(document(1, "Projeto antigo", TECHNOLOGY, IN_PROGRESS, "Ana"));
+
+        final Project project = project(1, "Projeto novo", IN_PROGRESS);
+        index.index(project);
+        index.index(project(2, "Outro projeto", IN_PROGRESS), "Bruno");
+
+        assertArrayEquals(new int[0], index.search("antigo", null, null, null));
+        assertArrayEquals(new int[]{1}, index.search("novo", null, null, "ana"));
+        assertArrayEquals(new int[]{2}, index.search("", null, null, "bruno"));
+
+        project.setStatus_id(DONE);
+        index.index(project);
+
+        assertArrayEquals(new int[0], index.search("novo", null, null, null));
+    }
+
+    @Test
+    @DisplayName("searchPage - should pick the page ranked by the total raised")
+    void testSearchPageShouldPickThePageRankedByTheTotalRaised() {
+        load(
+                document(1, "Projeto A", TECHNOLOGY, IN_PROGRESS, "Ana", BigDecimal.valueOf(50)),
+                document(2, "Projeto B", TECHNOLOGY, IN_PROGRESS, "Ana", BigDecimal.valueOf(300)),
+                document(3, "Projeto C", TECHNOLOGY, IN_PROGRESS, "Ana", BigDecimal.valueOf(50)),
+                document(4, "Projeto D", TECHNOLOGY, IN_PROGRESS, "Ana", BigDecimal.valueOf(120)),
+                document(5, "Outro", TECHNOLOGY, IN_PROGRESS, "Ana", BigDecimal.valueOf(900))
+        );
+
+        final ProjectSearchPage firstPage = index.searchPage("projeto", null, null, null, 0, 2);
+        final ProjectSearchPage secondPage = index.searchPage("projeto", null, null, null, 2, 2);
+        final ProjectSearchPage pastTheEnd = index.searchPage("projeto", null, null, null, 4, 2);
+
+        assertEquals(4, firstPage.totalRegisters());
+        assertArrayEquals(new int[]{2, 4}, firstPage.projectIds());
+        assertArrayEquals(new int[]{3, 1}, secondPage.projectIds());
+        assertEquals(4, pastTheEnd.totalRegisters());
+        assertArrayEquals(new int[0], pastTheEnd.projectIds());
+    }
+
+    @Test
+    @DisplayName("updateTotalRaised - should move the project in the ranking")
+    void testUpdateTotalRaisedShouldMoveTheProjectInTheRanking() {
+        load(
+                document(1, "Projeto A", TECHNOLOGY, IN_PROGRESS, "Ana", BigDecimal.valueOf(50)),
+                document(2, "Projeto B", TECHNOLOGY, IN_PROGRESS, "Ana", BigDecimal.valueOf(300))
+        );
+
+        index.updateTotalRaised(1, BigDecimal.valueOf(500));
+
+        assertArrayEquals(new int[]{1, 2}, index.searchPage("", null, null, null, 0, 10).projectIds());
+    }
+
+    @Test
+    @DisplayName("index - should keep the total raised when the project changes")
+    void testIndexShouldKeepTheTotalRaisedWhenTheProjectChanges() {
+        load(
+                document(1, "Projeto A", TECHNOLOGY, IN_PROGRESS, "Ana", BigDecimal.valueOf(50)),
+                document(2, "Projeto B", TECHNOLOGY, IN_PROGRESS, "Ana", BigDecimal.valueOf(300))
+        );
+
+        index.index(project(2, "Projeto renomeado", IN_PROGRESS));
+
+        assertArrayEquals(new int[]{2, 1}, index.searchPage("projeto", null, null, null, 0, 10).projectIds());
+        assertArrayEquals(new int[]{2}, index.search("renomeado", null, null, null));
+    }
+
+    @Test
+    @DisplayName("refresh - should replay the changes made while loading")
+    void testRefreshShouldReplayTheChangesMadeWhileLoading() {
+        when(projectRepository.findAllSearchDocuments()).thenAnswer(invocation -> {
+            index.index(project(2, "Projeto novo", IN_PROGRESS), "Bruno");
+            index.updateTotalRaised(1, BigDecimal.valueOf(80));
+            return List.of(document(1, "Projeto antigo", TECHNOLOGY, IN_PROGRESS, "Ana", BigDecimal.TEN));
+        });
+
+        index.refresh();
+
+        assertTrue(index.isReady());
+        assertArrayEquals(new int[]{2}, index.search("novo", null, null, "bruno"));
+        assertArrayEquals(new int[]{1, 2}, index.searchPage("projeto", null, null, null, 0, 10).projectIds());
+    }
+
+    @Test
+    @DisplayName("intersect - should keep the ids present in both lists")
+    void testIntersectShouldKeepTheIdsPresentInBothLists() {
+        assertArrayEquals(new int[]{3, 7}, ProjectSearchIndex.intersect(new int[]{1, 3, 5, 7}, new int[]{2, 3, 7, 9}));
+        assertArrayEquals(new int[0], ProjectSearchIndex.intersect(new int[]{1}, new int[0]));
+    }
+
+    private void load(ProjectSearchDocument... documents) {
+        when(projectRepository.findAllSearchDocuments()).thenReturn(List.of(documents));
+        index.refresh();
+        assertTrue(index.isReady());
+    }
+
+    private static ProjectSearchDocument document(long id, String title, int categoryId, int statusId, String creatorName) {
+        return document(id, title, categoryId, statusId, creatorName, BigDecimal.ZERO);
+    }
+
+    private static ProjectSearchDocument document(
+            long id, String title, int categoryId, int statusId, String creatorName, BigDecimal totalRaised
+    ) {
+        return new ProjectSearchDocument() {
+            @Override
+            public long getProjectId() {
+                return id;
+            }
+
+            @Override
+            public String getTitle() {
+                return title;
+            }
+
+            @Override
+            public int getCategoryId() {
+                return categoryId;
+            }
+
+            @Override
+            public int getStatusId() {
+                return statusId;
+            }
+
+            @Override
+            public String getCreatorName() {
+                return creatorName;
+            }
+
+            @Override
+            public BigDecimal getTotalRaised() {
+                return totalRaised;
+            }
+        };
+    }
+
+    private static Project project(long id, String title, int statusId) {
+        return new Project(
+                id,
+                title,
+                "project description",
+                1,
+                TECHNOLOGY,
+                statusId,
+                false,
+                LocalDateTime.now(),
+                LocalDate.now(),
+                LocalDate.now().plusDays(20),
+                null
+        );
+    }
+}
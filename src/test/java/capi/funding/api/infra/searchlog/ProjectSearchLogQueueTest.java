@@ -0,0 +1,100 @@
+package capi.funding.api.infra.searchlog;
+
+import capi.funding.api.entity.ProjectSearchLog;
+import capi.funding.api.enums.ProjectSearchFields;
+import capi.funding.api.repository.ProjectSearchLogBatchRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+class ProjectSearchLogQueueTest {
+
+    private ProjectSearchLog searchLog;
+    private MeterRegistry meterRegistry;
+    private ProjectSearchLogQueue queue;
+
+    @Mock
+    private ProjectSearchLogBatchRepository batchRepository;
+    @Captor
+    private ArgumentCaptor<List<ProjectSearchLog>> batchCaptor;
+
+    @BeforeEach
+    void setUp() {
+        searchLog = new ProjectSearchLog(
+                1L,
+                ProjectSearchFields.PROJECT_TITLE.getValue(),
+                "project title",
+                LocalDateTime.now()
+        );
+        meterRegistry = new SimpleMeterRegistry();
+        queue = new ProjectSearchLogQueue(batchRepository, meterRegistry, 3, 2, 1000);
+    }
+
+    @Test
+    @DisplayName("offer - should drop and count the logs when the queue is full")
+    void testOfferShouldDropAndCountTheLogsWhenTheQueueIsFull() {
+        assertTrue(queue.offer(searchLog));
+        assertTrue(queue.offer(searchLog));
+        assertTrue(queue.offer(searchLog));
+        assertFalse(queue.offer(searchLog));
+
+        assertEquals(3, queue.size());
+        assertEquals(1, meterRegistry.counter("search.log.dropped").count());
+    }
+
+    @Test
+    @DisplayName("flush - should write the pending logs in batches")
+    void testFlushShouldWriteThePendingLogsInBatches() {
+        queue.offer(searchLog);
+        queue.offer(searchLog);
+        queue.offer(searchLog);
+
+        queue.flush();
+
+        verify(batchRepository, times(2)).insertAll(batchCaptor.capture());
+        assertEquals(2, batchCaptor.getAllValues().get(0).size());
+        assertEquals(1, batchCaptor.getAllValues().get(1).size());
+        assertEquals(0, queue.size());
+        assertEquals(3, meterRegistry.counter("search.log.written").count());
+    }
+
+    @Test
+    @DisplayName("flush - should count the failed logs without propagating the error")
+    void testFlushShouldCountTheFailedLogsWithoutPropagatingTheError() {
+        doThrow(new QueryTimeoutException("timeout")).when(batchRepository).insertAll(anyList());
+
+        queue.offer(searchLog);
+
+        assertDoesNotThrow(() -> queue.flush());
+        assertEquals(1, meterRegistry.counter("search.log.failed").count());
+    }
+
+    @Test
+    @DisplayName("shutdown - should drain the pending logs")
+    void testShutdownShouldDrainThePendingLogs() throws InterruptedException {
+        queue.offer(searchLog);
+
+        queue.shutdown();
+
+        verify(batchRepository).insertAll(List.of(searchLog));
+        assertEquals(0, queue.size());
+    }
+}
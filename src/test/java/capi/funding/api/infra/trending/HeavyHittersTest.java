@@ -0,0 +1,100 @@
+package capi.funding.api.infra.trending;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+class HeavyHittersTest {
+
+    @Test
+    @DisplayName("top - should rank the keys from the most added")
+    void testTopShouldRankTheKeysFromTheMostAdded() {
+        final HeavyHitters heavyHitters = new HeavyHitters(4, 1024, 10);
+
+        addTimes(heavyHitters, 7, 3);
+        addTimes(heavyHitters, 2, 9);
+        addTimes(heavyHitters, 5, 1);
+
+        assertEquals(
+                List.of(new SearchTrend(2, 9), new SearchTrend(7, 3), new SearchTrend(5, 1)),
+                heavyHitters.top(0, 10)
+        );
+        assertEquals(List.of(new SearchTrend(7, 3)), heavyHitters.top(1, 1));
+    }
+
+    @Test
+    @DisplayName("add - should replace the lowest candidate by a more frequent key when full")
+    void testAddShouldReplaceTheLowestCandidateByAMoreFrequentKeyWhenFull() {
+        final HeavyHitters heavyHitters = new HeavyHitters(4, 1024, 2);
+
+        addTimes(heavyHitters, 1, 5);
+        addTimes(heavyHitters, 2, 2);
+        addTimes(heavyHitters, 3, 4);
+
+        assertEquals(2, heavyHitters.size());
+        assertEquals(List.of(new SearchTrend(1, 5), new SearchTrend(3, 4)), heavyHitters.top(0, 10));
+    }
+
+    @Test
+    @DisplayName("estimate - should never undercount")
+    void testEstimateShouldNeverUndercount() {
+        final HeavyHitters heavyHitters = new HeavyHitters(2, 16, 4);
+
+        for (long key = 0; key < 500; key++) {
+            addTimes(heavyHitters, key, (int) (key % 5) + 1);
+        }
+
+        for (long key = 0; key < 500; key++) {
+            assertTrue(heavyHitters.estimate(key) >= key % 5 + 1);
+        }
+    }
+
+    @Test
+    @DisplayName("fromBytes - should restore the counts and the candidates")
+    void testFromBytesShouldRestoreTheCountsAndTheCandidates() {
+        final HeavyHitters heavyHitters = new HeavyHitters(4, 1024, 10);
+        addTimes(heavyHitters, 11, 4);
+        addTimes(heavyHitters, 12, 6);
+
+        final HeavyHitters restored = HeavyHitters.fromBytes(heavyHitters.toBytes());
+
+        assertEquals(heavyHitters.top(0, 10), restored.top(0, 10));
+        assertEquals(4, restored.estimate(11));
+    }
+
+    @Test
+    @DisplayName("merge - should add the counts of both sides")
+    void testMergeShouldAddTheCountsOfBothSides() {
+        final HeavyHitters current = new HeavyHitters(4, 1024, 10);
+        final HeavyHitters checkpoint = new HeavyHitters(4, 1024, 10);
+        addTimes(current, 1, 2);
+        addTimes(checkpoint, 1, 3);
+        addTimes(checkpoint, 9, 4);
+
+        assertTrue(current.merge(checkpoint));
+
+        assertEquals(List.of(new SearchTrend(1, 5), new SearchTrend(9, 4)), current.top(0, 10));
+    }
+
+    @Test
+    @DisplayName("merge - shouldn't merge sketches with other dimensions")
+    void testMergeShouldntMergeSketchesWithOtherDimensions() {
+        final HeavyHitters current = new HeavyHitters(4, 1024, 10);
+        final HeavyHitters checkpoint = new HeavyHitters(4, 512, 10);
+        addTimes(checkpoint, 1, 3);
+
+        assertFalse(current.merge(checkpoint));
+        assertEquals(0, current.size());
+    }
+
+    private static void addTimes(HeavyHitters heavyHitters, long key, int times) {
+        for (int i = 0; i < times; i++) {
+            heavyHitters.add(key);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package capi.funding.api.infra.trending;
+
+import capi.funding.api.repository.SearchTrendCheckpointRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+class SearchTrendTrackerTest {
+
+    private SearchTrendTracker tracker;
+
+    @Mock
+    private SearchTrendCheckpointRepository checkpointRepository;
+    @Captor
+    private ArgumentCaptor<byte[]> contentCaptor;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new SearchTrendTracker(checkpointRepository, true, 100);
+    }
+
+    @Test
+    @DisplayName("isReady - shouldn't be ready before the checkpoint is restored")
+    void testIsReadyShouldntBeReadyBeforeTheCheckpointIsRestored() {
+        assertFalse(tracker.isReady());
+    }
+
+    @Test
+    @DisplayName("load - should be ready without a previous checkpoint")
+    void testLoadShouldBeReadyWithoutAPreviousCheckpoint() {
+        when(checkpointRepository.find(anyString())).thenReturn(Optional.empty());
+
+        tracker.load();
+
+        assertTrue(tracker.isReady());
+    }
+
+    @Test
+    @DisplayName("load - should stay on the database when restoring fails")
+    void testLoadShouldStayOnTheDatabaseWhenRestoringFails() {
+        when(checkpointRepository.find(anyString())).thenThrow(new QueryTimeoutException("timeout"));
+
+        tracker.load();
+
+        assertFalse(tracker.isReady());
+    }
+
+    @Test
+    @DisplayName("load - should merge the searches recorded before the restore")
+    void testLoadShouldMergeTheSearchesRecordedBeforeTheRestore() {
+        final SearchTrendTracker previous = new SearchTrendTracker(checkpointRepository, true, 100);
+        when(checkpointRepository.find(anyString())).thenReturn(Optional.empty());
+        previous.load();
+        previous.recordProjectSearch(4);
+        previous.recordProjectSearch(4);
+        previous.recordCategorySearch(2);
+        previous.checkpoint();
+
+        verify(checkpointRepository).save(eq(SearchTrendTracker.PROJECTS_CHECKPOINT), contentCaptor.capture());
+        final byte[] projectsCheckpoint = contentCaptor.getValue();
+        when(checkpointRepository.find(SearchTrendTracker.PROJECTS_CHECKPOINT)).thenReturn(Optional.of(projectsCheckpoint));
+
+        tracker.recordProjectSearch(4);
+        tracker.recordProjectSearch(9);
+        tracker.load();
+
+        assertEquals(List.of(new SearchTrend(4, 3), new SearchTrend(9, 1)), tracker.getTopProjects(0, 10));
+        assertEquals(2, tracker.countTrackedProjects());
+    }
+
+    @Test
+    @DisplayName("load - shouldn't merge the projects twice when reading the categories fails")
+    void testLoadShouldntMergeTheProjectsTwiceWhenReadingTheCategoriesFails() {
+        final SearchTrendTracker previous = new SearchTrendTracker(checkpointRepository, true, 100);
+        when(checkpointRepository.find(anyString())).thenReturn(Optional.empty());
+        previous.load();
+        previous.recordProjectSearch(4);
+        previous.recordProjectSearch(4);
+        previous.checkpoint();
+
+        verify(checkpointRepository).save(eq(SearchTrendTracker.PROJECTS_CHECKPOINT), contentCaptor.capture());
+        when(checkpointRepository.find(SearchTrendTracker.PROJECTS_CHECKPOINT)).thenReturn(Optional.of(contentCaptor.getValue()));
+        when(checkpointRepository.find(SearchTrendTracker.CATEGORIES_CHECKPOINT))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenReturn(Optional.empty());
+
+        tracker.load();
+        assertFalse(tracker.isReady());
+        assertTrue(tracker.getTopProjects(0, 10).isEmpty());
+
+        tracker.checkpoint();
+
+        assertTrue(tracker.isReady());
+        assertEquals(List.of(new SearchTrend(4, 2)), tracker.getTopProjects(0, 10));
+    }
+
+    @Test
+    @DisplayName("checkpoint - should retry restoring instead of overwriting the previous checkpoint")
+    void testCheckpointShouldRetryRestoringInsteadOfOverwritingThePreviousCheckpoint() {
+        when(checkpointRepository.find(anyString())).thenReturn(Optional.empty());
+        tracker.recordProjectSearch(1);
+
+        tracker.checkpoint();
+
+        assertTrue(tracker.isReady());
+        verify(checkpointRepository, never()).save(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("recordProjectSearch - shouldn't count anything when disabled")
+    void testRecordProjectSearchShouldntCountAnythingWhenDisabled() {
+        final SearchTrendTracker disabledTracker = new SearchTrendTracker(checkpointRepository, false, 100);
+
+        disabledTracker.recordProjectSearch(1);
+        disabledTracker.recordCategorySearch(1);
+        disabledTracker.load();
+        disabledTracker.checkpoint();
+
+        assertFalse(disabledTracker.isReady());
+        assertTrue(disabledTracker.getTopProjects(0, 10).isEmpty());
+        assertTrue(disabledTracker.getTopCategories().isEmpty());
+        verifyNoInteractions(checkpointRepository);
+    }
+}
@@ -1,8 +1,7 @@
 package capi.funding.api.security;
 
 import capi.funding.api.entity.User;
-import capi.funding.api.repository.UserRepository;
-import capi.funding.api.utils.Utils;
+import capi.funding.api.infra.exceptions.NotFoundException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,7 +20,6 @@ import org.springframework.test.context.ActiveProfiles;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
-import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -35,11 +33,9 @@ class SecurityFilterTest {
     @InjectMocks
     private SecurityFilter securityFilter;
     @Mock
-    private Utils utils;
-    @Mock
     private TokenService tokenService;
     @Mock
-    private UserRepository userRepository;
+    private UserPrincipalCache usersCache;
     @Mock
     private HttpServletRequest httpServletRequest;
     @Mock
@@ -65,12 +61,11 @@ class SecurityFilterTest {
     @Test
     @DisplayName("doFilterInternal - should recover the token")
     void testShouldRecoverTheToken() throws ServletException, IOException {
-        securityFilter.addUserCache(user);
-
         final String token = "testToken";
         when(httpServletRequest.getHeader("Authorization")).thenReturn("Bearer " + token);
 
         when(tokenService.validateToken(token)).thenReturn(user.getEmail());
+        when(usersCache.get(user.getEmail())).thenReturn(user);
 
         securityFilter.doFilterInternal(httpServletRequest, httpServletResponse, filterChain);
 
@@ -83,7 +78,6 @@ class SecurityFilterTest {
     @DisplayName("doFilterInternal - should do nothing when request doesn't has authorization header")
     void testShouldDoNothinWhenRequestDoesntHasAuthorizationHeader() throws ServletException, IOException {
         SecurityContextHolder.getContext().setAuthentication(null);
-        securityFilter.addUserCache(user);
 
         when(httpServletRequest.getHeader("Authorization")).thenReturn(null);
 
@@ -91,39 +85,33 @@ class SecurityFilterTest {
 
         assertNull(SecurityContextHolder.getContext().getAuthentication());
         verifyNoInteractions(tokenService);
-        verifyNoInteractions(userRepository);
+        verifyNoInteractions(usersCache);
     }
 
     @Test
-    @DisplayName("doFilterInternal - shouldn't fetch user from database when it is in cache")
-    void testShouldntFetchUserFromDatabaseWhenItIsInCache() throws ServletException, IOException {
-        securityFilter.addUserCache(user);
-
+    @DisplayName("doFilterInternal - should authenticate the cached user")
+    void testShouldAuthenticateTheCachedUser() throws ServletException, IOException {
         when(httpServletRequest.getHeader("Authorization")).thenReturn("Bearer token");
 
         when(tokenService.validateToken("token")).thenReturn(user.getEmail());
+        when(usersCache.get(user.getEmail())).thenReturn(user);
 
         securityFilter.doFilterInternal(httpServletRequest, httpServletResponse, filterChain);
 
-        verifyNoInteractions(userRepository);
+        assertEquals(user, SecurityContextHolder.getContext().getAuthentication().getPrincipal());
+        verify(filterChain).doFilter(httpServletRequest, httpServletResponse);
     }
 
     @Test
-    @DisplayName("doFilterInternal - should fetch user from database and cache when it isn't in cache")
-    void testShouldFetchUserFromDatabaseAndCacheWhenItIsntInCache() throws ServletException, IOException {
-        securityFilter.clearUsersCache();
-
+    @DisplayName("doFilterInternal - should throw NotFoundException when the user doesn't exist")
+    void testShouldThrowNotFoundExceptionWhenTheUserDoesntExist() {
         when(httpServletRequest.getHeader("Authorization")).thenReturn("Bearer token");
 
-        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
         when(tokenService.validateToken("token")).thenReturn(user.getEmail());
+        when(usersCache.get(user.getEmail())).thenThrow(new NotFoundException("user not found"));
 
-        securityFilter.doFilterInternal(httpServletRequest, httpServletResponse, filterChain);
-
-        verify(userRepository).findByEmail(user.getEmail());
-
-        assertFalse(securityFilter.getUsersCache().isEmpty());
-        assertEquals(user, securityFilter.getUsersCache().get(user.getEmail()));
+        assertThrows(NotFoundException.class, () ->
+                securityFilter.doFilterInternal(httpServletRequest, httpServletResponse, filterChain));
     }
 
     @Test
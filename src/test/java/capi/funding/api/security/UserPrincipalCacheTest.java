@@ -0,0 +1,95 @@
+package capi.funding.api.security;
+
+import capi.funding.api.entity.User;
+import capi.funding.api.infra.exceptions.NotFoundException;
+import capi.funding.api.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+class UserPrincipalCacheTest {
+
+    private User user;
+    private UserPrincipalCache usersCache;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        user = new User(
+                1L,
+                "gabriel@gmail.com",
+                "$2a$10$WjNOD14Yf.LCe3L6gGT9IemiY.4qtxcpv4AEl8DFjxt3HmyKlPn62",
+                "Gabriel",
+                true,
+                LocalDateTime.now().minusDays(45),
+                "hash"
+        );
+        usersCache = new UserPrincipalCache(
+                userRepository, new SimpleMeterRegistry(), 1024 * 1024, Duration.ofMinutes(30), Duration.ofMinutes(10)
+        );
+    }
+
+    @Test
+    @DisplayName("get - should cache a detached copy of the user")
+    void testGetShouldCacheADetachedCopyOfTheUser() {
+        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+
+        final User principal = usersCache.get(user.getEmail());
+
+        assertNotSame(user, principal);
+        assertEquals(user.getId(), principal.getId());
+        assertEquals(user.getProfileImageUrl(), principal.getProfileImageUrl());
+    }
+
+    @Test
+    @DisplayName("get - shouldn't fetch user from database when it is in cache")
+    void testGetShouldntFetchUserFromDatabaseWhenItIsInCache() {
+        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+
+        usersCache.get(user.getEmail());
+        usersCache.get(user.getEmail());
+
+        verify(userRepository, times(1)).findByEmail(user.getEmail());
+        assertEquals(1, usersCache.stats().hitCount());
+        assertEquals(1, usersCache.stats().missCount());
+    }
+
+    @Test
+    @DisplayName("get - should throw NotFoundException when the user doesn't exist")
+    void testGetShouldThrowNotFoundExceptionWhenTheUserDoesntExist() {
+        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.empty());
+
+        final NotFoundException exception = assertThrows(NotFoundException.class, () ->
+                usersCache.get(user.getEmail()));
+
+        assertEquals("user not found", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("invalidate - should reload the user on the next access")
+    void testInvalidateShouldReloadTheUserOnTheNextAccess() {
+        when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+
+        usersCache.get(user.getEmail());
+        usersCache.invalidate(user.getEmail());
+        usersCache.get(user.getEmail());
+
+        verify(userRepository, times(2)).findByEmail(user.getEmail());
+    }
+}
@@ -7,11 +7,8 @@ import capi.funding.api.dto.LoginResponseDTO;
 import capi.funding.api.entity.User;
 import capi.funding.api.enums.EmailType;
 import capi.funding.api.infra.exceptions.AuthException;
-import capi.funding.api.infra.exceptions.EmailSendException;
 import capi.funding.api.infra.exceptions.WithoutPermissionException;
 import capi.funding.api.security.TokenService;
-import jakarta.mail.AuthenticationFailedException;
-import jakarta.mail.MessagingException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -27,6 +24,8 @@ import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -45,6 +44,8 @@ class AuthServiceTest {
     @Mock
     private BCryptPasswordEncoder bCrypt;
     @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
     private TokenService tokenService;
     @Mock
     private EmailService emailService;
@@ -119,7 +120,9 @@ class AuthServiceTest {
         final User user = createUserDTO.toUser();
         user.setId(1L);
 
+        mockTransaction();
         when(userService.save(any(User.class))).thenReturn(user);
+        when(bCrypt.encode(anyString())).thenReturn("encryptedString");
 
         authService.createNewUser(createUserDTO);
 
@@ -127,18 +130,19 @@ class AuthServiceTest {
     }
 
     @Test
-    @DisplayName("createNewUser - should send the activate account mail")
-    void testShouldSendTheActivateAccountMail() throws MessagingException {
+    @DisplayName("createNewUser - should enqueue the activate account mail")
+    void testShouldEnqueueTheActivateAccountMail() {
         final User user = createUserDTO.toUser();
         user.setId(1L);
 
+        mockTransaction();
         when(userService.save(any(User.class))).thenReturn(user);
         when(bCrypt.encode(anyString())).thenReturn("encryptedString");
 
         authService.createNewUser(createUserDTO);
 
-        verify(emailService).sendMail(any(EmailDTO.class));
-        verify(emailService).buildEmailTemplate(any(EmailType.class), anyLong(), anyString());
+        verify(emailService).enqueueMail(any(EmailDTO.class));
+        verify(emailService).buildEmailTemplate(EmailType.ACTIVATE_ACCOUNT, 1L, "encryptedString");
     }
 
     @Test
@@ -148,42 +152,23 @@ class AuthServiceTest {
         user.setId(1L);
         user.setEmail(null);
 
+        mockTransaction();
         when(userService.save(any(User.class))).thenReturn(user);
+        when(bCrypt.encode(anyString())).thenReturn("encryptedString");
 
         assertThrows(IllegalArgumentException.class, () ->
                 authService.createNewUser(createUserDTO));
     }
 
     @Test
-    @DisplayName("sendActivateAccountEmail - should delete the created user when sendMail throw AuthenticationFailedException")
-    void testShouldDeleteTheCreatedUserWhenSendMailThrowAuthenticationFailedException() throws MessagingException {
-        final User user = createUserDTO.toUser();
-        user.setId(1L);
-
-        when(userService.save(any(User.class))).thenReturn(user);
-        when(bCrypt.encode(anyString())).thenReturn("encryptedString");
-
-        doThrow(new AuthenticationFailedException()).when(emailService).sendMail(any(EmailDTO.class));
-
-        assertThrows(EmailSendException.class, () -> authService.createNewUser(createUserDTO));
-
-        verify(userService).deleteById(anyLong());
-    }
-
-    @Test
-    @DisplayName("sendActivateAccountEmail - should delete the created user when sendMail throw MessagingException")
-    void testShouldDeleteTheCreatedUserWhenSendMailThrowMessagingException() throws MessagingException {
-        final User user = createUserDTO.toUser();
-        user.setId(1L);
-
-        when(userService.save(any(User.class))).thenReturn(user);
+    @DisplayName("createNewUser - should save the user and the mail in the same transaction")
+    void testShouldSaveTheUserAndTheMailInTheSameTransaction() {
         when(bCrypt.encode(anyString())).thenReturn("encryptedString");
 
-        doThrow(new MessagingException()).when(emailService).sendMail(any(EmailDTO.class));
-
-        assertThrows(EmailSendException.class, () -> authService.createNewUser(createUserDTO));
+        authService.createNewUser(createUserDTO);
 
-        verify(userService).deleteById(anyLong());
+        verify(transactionTemplate).execute(any());
+        verifyNoInteractions(userService, emailService);
     }
 
     @Test
@@ -222,4 +207,9 @@ class AuthServiceTest {
         final User user = userCaptor.getValue();
         assertTrue(user.isActive());
     }
+
+    private void mockTransaction() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.getArgument(0, TransactionCallback.class).doInTransaction(null));
+    }
 }
@@ -1,6 +1,9 @@
 package capi.funding.api.services;
 
+import capi.funding.api.dto.ContributionBatchResult;
 import capi.funding.api.dto.CreateContributionDTO;
+import capi.funding.api.dto.InvalidFieldsDTO;
+import capi.funding.api.dto.ProjectAccessInfo;
 import capi.funding.api.entity.Contribution;
 import capi.funding.api.entity.Project;
 import capi.funding.api.entity.User;
@@ -8,6 +11,8 @@ import capi.funding.api.enums.ProjectCategoryEnum;
 import capi.funding.api.enums.ProjectStatusEnum;
 import capi.funding.api.infra.exceptions.InvalidParametersException;
 import capi.funding.api.infra.exceptions.NotFoundException;
+import capi.funding.api.infra.reports.GeneralInfosCounters;
+import capi.funding.api.repository.ContributionBatchRepository;
 import capi.funding.api.repository.ContributionRepository;
 import capi.funding.api.utils.Utils;
 import org.junit.jupiter.api.BeforeEach;
@@ -26,7 +31,11 @@ import org.springframework.test.context.ActiveProfiles;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -48,7 +57,13 @@ class ContributionServiceTest {
     @Mock
     private ProjectService projectService;
     @Mock
+    private ProjectFundingSummaryService fundingSummaryService;
+    @Mock
+    private GeneralInfosCounters generalInfosCounters;
+    @Mock
     private ContributionRepository repository;
+    @Mock
+    private ContributionBatchRepository batchRepository;
     @Captor
     private ArgumentCaptor<Contribution> contributionCaptor;
 
@@ -142,7 +157,7 @@ class ContributionServiceTest {
 
         project.setStatus_id(ProjectStatusEnum.valueOf(projectStatus).getValue());
 
-        when(projectService.findById(projectId)).thenReturn(project);
+        when(projectService.getAccessInfo(projectId)).thenReturn(accessInfo(project));
 
         final InvalidParametersException ex = assertThrows(InvalidParametersException.class, () ->
                 service.createNew(createContributionDTO));
@@ -165,7 +180,7 @@ class ContributionServiceTest {
                 1, contributionValue
         );
 
-        when(projectService.findById(projectId)).thenReturn(project);
+        when(projectService.getAccessInfo(projectId)).thenReturn(accessInfo(project));
 
         final InvalidParametersException ex = assertThrows(InvalidParametersException.class, () ->
                 service.createNew(contributionDTO));
@@ -181,7 +196,7 @@ class ContributionServiceTest {
                 1, contributionValue
         );
 
-        when(projectService.findById(projectId)).thenReturn(project);
+        when(projectService.getAccessInfo(projectId)).thenReturn(accessInfo(project));
         when(utils.getAuthUser()).thenReturn(user);
 
         service.createNew(createContributionDTO);
@@ -201,7 +216,7 @@ class ContributionServiceTest {
         final long userId = 10;
         user.setId(userId);
 
-        when(projectService.findById(projectId)).thenReturn(project);
+        when(projectService.getAccessInfo(projectId)).thenReturn(accessInfo(project));
         when(utils.getAuthUser()).thenReturn(user);
 
         service.createNew(createContributionDTO);
@@ -212,6 +227,23 @@ class ContributionServiceTest {
         assertEquals(userId, contributionCaptor.getValue().getUser_id());
     }
 
+    @Test
+    @DisplayName("createNew - should add the contribution to the project funding summary")
+    void testShouldAddTheContributionToTheProjectFundingSummary() {
+        final BigDecimal contributionValue = BigDecimal.valueOf(80);
+        final CreateContributionDTO createContributionDTO = new CreateContributionDTO(
+                1, contributionValue
+        );
+
+        when(projectService.getAccessInfo(projectId)).thenReturn(accessInfo(project));
+        when(utils.getAuthUser()).thenReturn(user);
+
+        service.createNew(createContributionDTO);
+
+        verify(fundingSummaryService).addContribution(eq(projectId), eq(contributionValue), any(LocalDateTime.class));
+        verify(generalInfosCounters).addContribution(contributionValue);
+    }
+
     @Test
     @DisplayName("getTotalRaised - should fetch the database")
     void testGetTotalRaisedShouldFetchTheDatabase() {
@@ -227,4 +259,83 @@ class ContributionServiceTest {
 
         verify(repository).count();
     }
+
+    @Test
+    @DisplayName("createBatch - should reject the invalid items and insert the others at once")
+    void testCreateBatchShouldRejectTheInvalidItemsAndInsertTheOthersAtOnce() {
+        final long closedProjectId = 2;
+        when(projectService.getProjectsStatus(Set.of(projectId, closedProjectId, 3L))).thenReturn(Map.of(
+                projectId, (long) ProjectStatusEnum.IN_PROGRESS.getValue(),
+                closedProjectId, (long) ProjectStatusEnum.CANCELED.getValue()
+        ));
+        when(utils.getAuthUser()).thenReturn(user);
+        doAnswer(invocation -> {
+            final List<Contribution> contributions = invocation.getArgument(0);
+            for (int i = 0; i < contributions.size(); i++) {
+                contributions.get(i).setId(10L + i);
+            }
+            return null;
+        }).when(batchRepository).insertAll(anyList());
+
+        final List<ContributionBatchResult> results = service.createBatch(List.of(
+                new CreateContributionDTO(projectId, BigDecimal.valueOf(20)),
+                new CreateContributionDTO(closedProjectId, BigDecimal.valueOf(20)),
+                new CreateContributionDTO(3, BigDecimal.valueOf(20)),
+                new CreateContributionDTO(projectId, BigDecimal.valueOf(4)),
+                new CreateContributionDTO(projectId, BigDecimal.valueOf(30))
+        ));
+
+        assertEquals(List.of(
+                ContributionBatchResult.created(0, 10),
+                ContributionBatchResult.rejected(1, "cannot contribute to a project with status 'paused', 'completed' or 'canceled'"),
+                ContributionBatchResult.rejected(2, "project not found"),
+                ContributionBatchResult.rejected(3, "the minimum amount to contribute is $5"),
+                ContributionBatchResult.created(4, 11)
+        ), results);
+        verify(fundingSummaryService).addContributions(anyList());
+        verify(generalInfosCounters).addContributions(2, BigDecimal.valueOf(50));
+        verify(projectService, never()).findById(anyLong());
+    }
+
+    @Test
+    @DisplayName("createBatch - shouldn't insert anything when every item is rejected")
+    void testCreateBatchShouldntInsertAnythingWhenEveryItemIsRejected() {
+        final CreateContributionDTO dto = new CreateContributionDTO(projectId, new BigDecimal("10.001"));
+        when(projectService.getProjectsStatus(Set.of(projectId))).thenReturn(Map.of());
+        when(utils.getAuthUser()).thenReturn(user);
+        when(utils.getInvalidFields(dto)).thenReturn(List.of(
+                new InvalidFieldsDTO("value", "the value must have at most 13 integer digits and 2 decimals")
+        ));
+
+        final List<ContributionBatchResult> results = service.createBatch(List.of(dto));
+
+        assertEquals(
+                List.of(ContributionBatchResult.rejected(0, "the value must have at most 13 integer digits and 2 decimals")),
+                results
+        );
+        verifyNoInteractions(batchRepository, fundingSummaryService, generalInfosCounters);
+    }
+
+    @Test
+    @DisplayName("createBatch - should limit the batch size")
+    void testCreateBatchShouldLimitTheBatchSize() {
+        final List<CreateContributionDTO> dtos = Collections.nCopies(
+                ContributionService.MAX_BATCH_SIZE + 1,
+                new CreateContributionDTO(projectId, BigDecimal.TEN)
+        );
+
+        assertThrows(InvalidParametersException.class, () -> service.createBatch(List.of()));
+        assertThrows(InvalidParametersException.class, () -> service.createBatch(dtos));
+        verifyNoInteractions(projectService, batchRepository);
+    }
+
+    private static ProjectAccessInfo accessInfo(Project project) {
+        return new ProjectAccessInfo(
+                project.getId(),
+                project.getCreator_id(),
+                project.getStatus_id(),
+                project.isNeed_to_follow_order(),
+                project.getFinal_date()
+        );
+    }
 }
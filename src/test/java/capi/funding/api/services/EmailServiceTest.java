@@ -2,6 +2,8 @@ package capi.funding.api.services;
 
 import capi.funding.api.dto.EmailDTO;
 import capi.funding.api.enums.EmailType;
+import capi.funding.api.infra.email.EmailEnqueuedEvent;
+import capi.funding.api.repository.EmailOutboxRepository;
 import capi.funding.api.utils.Utils;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
@@ -12,9 +14,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.List;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -29,6 +37,10 @@ class EmailServiceTest {
     @Mock
     private JavaMailSender javaMailSender;
     @Mock
+    private EmailOutboxRepository emailOutboxRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
     private Utils utils;
 
     @BeforeEach
@@ -41,21 +53,58 @@ class EmailServiceTest {
     }
 
     @Test
-    @DisplayName("sendMail - should validate the DTO")
-    void testShouldValidateTheDTO() throws MessagingException {
-        MimeMessage mimeMessage = mock(MimeMessage.class);
-        when(javaMailSender.createMimeMessage()).thenReturn(mimeMessage);
+    @DisplayName("enqueueMail - shouldn't accept null parameters")
+    void testEnqueueMailShouldntAcceptNullParameters() {
+        assertThrows(IllegalArgumentException.class, () ->
+                emailService.enqueueMail(null));
+    }
 
-        emailService.sendMail(emailDTO);
+    @Test
+    @DisplayName("enqueueMail - should store the mail in the outbox")
+    void testEnqueueMailShouldStoreTheMailInTheOutbox() {
+        emailService.enqueueMail(emailDTO);
 
         verify(utils).validateObject(emailDTO);
+        verify(emailOutboxRepository).insert(emailDTO);
+        verify(eventPublisher).publishEvent(any(EmailEnqueuedEvent.class));
+        verifyNoInteractions(javaMailSender);
     }
 
     @Test
-    @DisplayName("sendMail - shouldn't accept null parameters")
-    void testSendMailShouldntAcceptNullParameters() {
-        assertThrows(IllegalArgumentException.class, () ->
-                emailService.sendMail(null));
+    @DisplayName("sendMails - should send every mail in a single call")
+    void testSendMailsShouldSendEveryMailInASingleCall() {
+        when(javaMailSender.createMimeMessage()).thenAnswer(invocation -> mock(MimeMessage.class));
+
+        final Map<Integer, Exception> failures = emailService.sendMails(List.of(emailDTO, emailDTO));
+
+        assertTrue(failures.isEmpty());
+        verify(javaMailSender).send(any(MimeMessage[].class));
+    }
+
+    @Test
+    @DisplayName("sendMails - should return only the failed mails")
+    void testSendMailsShouldReturnOnlyTheFailedMails() {
+        final MimeMessage first = mock(MimeMessage.class);
+        final MimeMessage second = mock(MimeMessage.class);
+        when(javaMailSender.createMimeMessage()).thenReturn(first, second);
+
+        final Exception failure = new MessagingException("rejected");
+        doThrow(new MailSendException(Map.of(second, failure))).when(javaMailSender).send(any(MimeMessage[].class));
+
+        final Map<Integer, Exception> failures = emailService.sendMails(List.of(emailDTO, emailDTO));
+
+        assertEquals(Map.of(1, failure), failures);
+    }
+
+    @Test
+    @DisplayName("sendMails - should fail every mail when it can't authenticate")
+    void testSendMailsShouldFailEveryMailWhenItCantAuthenticate() {
+        when(javaMailSender.createMimeMessage()).thenAnswer(invocation -> mock(MimeMessage.class));
+        doThrow(new MailAuthenticationException("bad credentials")).when(javaMailSender).send(any(MimeMessage[].class));
+
+        final Map<Integer, Exception> failures = emailService.sendMails(List.of(emailDTO, emailDTO));
+
+        assertEquals(2, failures.size());
     }
 
     @Test
@@ -0,0 +1,169 @@
+package capi.funding.api.services;
+
+import capi.funding.api.dto.ImageJobDTO;
+import capi.funding.api.dto.ProcessedImageDTO;
+import capi.funding.api.entity.User;
+import capi.funding.api.enums.ImageJobStatus;
+import capi.funding.api.enums.ImageVariantType;
+import capi.funding.api.infra.exceptions.InvalidFileException;
+import capi.funding.api.infra.exceptions.TooManyRequestsException;
+import capi.funding.api.infra.exceptions.NotFoundException;
+import capi.funding.api.infra.images.ImageProcessingExecutor;
+import capi.funding.api.utils.Utils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+class ImageProcessingServiceTest {
+
+    private final MockMultipartFile file = new MockMultipartFile(
+            "file", "test-image.jpg", "image/jpeg", new byte[]{1, 2, 3}
+    );
+
+    private User user;
+    private ImageProcessingExecutor executor;
+    private ImageProcessingService service;
+
+    @Mock
+    private Utils utils;
+
+    @BeforeEach
+    void setUp() {
+        user = new User(
+                1L,
+                "gabriel@gmail.com",
+                "$2a$10$WjNOD14Yf.LCe3L6gGT9IemiY.4qtxcpv4AEl8DFjxt3HmyKlPn62",
+                "Gabriel",
+                true,
+                LocalDateTime.now().minusDays(45),
+                null
+        );
+        executor = new ImageProcessingExecutor(new SimpleMeterRegistry(), 1, 4);
+        service = new ImageProcessingService(utils, executor, Duration.ofHours(1), Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("compress - should rethrow the error raised on the image worker")
+    void testCompressShouldRethrowTheErrorRaisedOnTheImageWorker() throws Exception {
+        when(utils.checkImageValidity(file)).thenReturn("jpg");
+        when(utils.compressImage(file.getBytes(), "jpg")).thenThrow(new InvalidFileException("corrupted image"));
+
+        final InvalidFileException exception = assertThrows(InvalidFileException.class, () ->
+                service.compress(file));
+
+        assertEquals("corrupted image", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("compress - should validate the file before submitting it")
+    void testCompressShouldValidateTheFileBeforeSubmittingIt() {
+        when(utils.checkImageValidity(file)).thenThrow(new InvalidFileException("invalid file extension"));
+
+        assertThrows(InvalidFileException.class, () -> service.compress(file));
+
+        verify(utils, never()).compressImage(any(byte[].class), anyString());
+    }
+
+    @Test
+    @DisplayName("compress - should interrupt the image worker after the timeout")
+    void testCompressShouldInterruptTheImageWorkerAfterTheTimeout() throws Exception {
+        final ImageProcessingService impatientService =
+                new ImageProcessingService(utils, executor, Duration.ofHours(1), Duration.ofMillis(50));
+        final CountDownLatch interrupted = new CountDownLatch(1);
+
+        when(utils.checkImageValidity(file)).thenReturn("jpg");
+        when(utils.compressImage(file.getBytes(), "jpg")).thenAnswer(invocation -> {
+            try {
+                new CountDownLatch(1).await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                interrupted.countDown();
+            }
+            return new byte[]{1};
+        });
+
+        assertThrows(TooManyRequestsException.class, () -> impatientService.compress(file));
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    @DisplayName("submit - should hand the compressed image and its variants to the callback and finish the job")
+    void testSubmitShouldHandTheCompressedImageAndItsVariantsToTheCallbackAndFinishTheJob() throws Exception {
+        final byte[] compressedImage = {9};
+        final Map<ImageVariantType, byte[]> variants = Map.of(ImageVariantType.THUMB, new byte[]{1});
+        final CompletableFuture<ProcessedImageDTO> persisted = new CompletableFuture<>();
+
+        when(utils.checkImageValidity(file)).thenReturn("jpg");
+        when(utils.getAuthUser()).thenReturn(user);
+        when(utils.compressImage(file.getBytes(), "jpg")).thenReturn(compressedImage);
+        when(utils.generateImageVariants(compressedImage)).thenReturn(variants);
+
+        final ImageJobDTO job = service.submit(file, persisted::complete);
+
+        final ProcessedImageDTO processedImage = persisted.get(5, TimeUnit.SECONDS);
+        assertArrayEquals(compressedImage, processedImage.image());
+        assertEquals(variants, processedImage.variants());
+        assertEquals(ImageJobStatus.DONE, awaitFinished(job.id()).status());
+    }
+
+    @Test
+    @DisplayName("submit - should mark the job as failed when the compression fails")
+    void testSubmitShouldMarkTheJobAsFailedWhenTheCompressionFails() throws Exception {
+        when(utils.checkImageValidity(file)).thenReturn("jpg");
+        when(utils.getAuthUser()).thenReturn(user);
+        when(utils.compressImage(file.getBytes(), "jpg")).thenThrow(new InvalidFileException("corrupted image"));
+
+        final ImageJobDTO job = service.submit(file, image -> fail("image shouldn't be persisted"));
+
+        final ImageJobDTO finishedJob = awaitFinished(job.id());
+        assertEquals(ImageJobStatus.FAILED, finishedJob.status());
+        assertEquals("corrupted image", finishedJob.error());
+    }
+
+    @Test
+    @DisplayName("findJob - should throw NotFoundException when the job doesn't exist")
+    void testFindJobShouldThrowNotFoundExceptionWhenTheJobDoesntExist() {
+        final UUID jobId = UUID.randomUUID();
+
+        final NotFoundException exception = assertThrows(NotFoundException.class, () ->
+                service.findJob(jobId));
+
+        assertEquals("image job not found", exception.getMessage());
+    }
+
+    private ImageJobDTO awaitFinished(UUID jobId) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+        ImageJobDTO job = service.findJob(jobId);
+        while (job.status() != ImageJobStatus.DONE && job.status() != ImageJobStatus.FAILED && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            job = service.findJob(jobId);
+        }
+
+        return job;
+    }
+}
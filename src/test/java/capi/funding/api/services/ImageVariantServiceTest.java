@@ -0,0 +1,96 @@
+package capi.funding.api.services;
+
+import capi.funding.api.dto.ProcessedImageDTO;
+import capi.funding.api.enums.ImageOwnerType;
+import capi.funding.api.enums.ImageVariantType;
+import capi.funding.api.repository.ImageVariantRepository;
+import capi.funding.api.repository.ProjectRepository;
+import capi.funding.api.repository.UserRepository;
+import capi.funding.api.utils.Utils;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+class ImageVariantServiceTest {
+
+    // sha256 of {1, 2, 3}
+    private static final String SOURCE_HASH = "039058c6f2c0cb492c533b0a4d14ef77cc0f78abccced5287d84a1a2011cfb81";
+
+    @InjectMocks
+    ImageVariantService service;
+    @Mock
+    Utils utils;
+    @Mock
+    ImageVariantRepository variantRepository;
+    @Mock
+    ProjectRepository projectRepository;
+    @Mock
+    UserRepository userRepository;
+
+    @Test
+    @DisplayName("saveVariants - should store every variant tied to the hash of the full image")
+    void testSaveVariantsShouldStoreEveryVariantTiedToTheHashOfTheFullImage() {
+        final byte[] thumb = {1};
+        final byte[] card = {2};
+
+        service.saveVariants(ImageOwnerType.PROJECT, 1, new ProcessedImageDTO(
+                new byte[]{1, 2, 3},
+                Map.of(ImageVariantType.THUMB, thumb, ImageVariantType.CARD, card)
+        ));
+
+        verify(variantRepository).upsert("project", 1, "thumb", thumb, SOURCE_HASH);
+        verify(variantRepository).upsert("project", 1, "card", card, SOURCE_HASH);
+    }
+
+    @Test
+    @DisplayName("findVariant - should look the variant up for the owner type")
+    void testFindVariantShouldLookTheVariantUpForTheOwnerType() {
+        service.findVariant(ImageOwnerType.USER, 1, ImageVariantType.THUMB);
+
+        verify(variantRepository).findUserVariant(1, "thumb");
+        verify(variantRepository, never()).findProjectVariant(anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("generateMissingVariants - should generate the variants of the images without them")
+    void testGenerateMissingVariantsShouldGenerateTheVariantsOfTheImagesWithoutThem() {
+        final byte[] coverImage = {1, 2, 3};
+        final byte[] card = {4};
+
+        when(variantRepository.findProjectsWithoutVariants(20)).thenReturn(List.of(1L));
+        when(variantRepository.findUsersWithoutVariants(20)).thenReturn(List.of());
+        when(projectRepository.findCoverImage(1)).thenReturn(Optional.of(coverImage));
+        when(utils.generateImageVariants(coverImage)).thenReturn(Map.of(ImageVariantType.CARD, card));
+
+        service.generateMissingVariants(20);
+
+        verify(variantRepository).upsert("project", 1, "card", card, SOURCE_HASH);
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("generateMissingVariants - should skip images removed in the meantime")
+    void testGenerateMissingVariantsShouldSkipImagesRemovedInTheMeantime() {
+        when(variantRepository.findProjectsWithoutVariants(20)).thenReturn(List.of());
+        when(variantRepository.findUsersWithoutVariants(20)).thenReturn(List.of(2L));
+        when(userRepository.findProfileImage(2)).thenReturn(Optional.empty());
+
+        service.generateMissingVariants(20);
+
+        verify(variantRepository, never()).upsert(anyString(), anyLong(), anyString(), any(), anyString());
+        verifyNoInteractions(utils);
+    }
+}
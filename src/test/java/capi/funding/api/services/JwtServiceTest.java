@@ -2,7 +2,9 @@ package capi.funding.api.services;
 
 import capi.funding.api.entity.User;
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -53,20 +55,41 @@ class JwtServiceTest {
         assertEquals(user.getEmail(), JWT.decode(token).getSubject());
     }
 
+    @Test
+    @DisplayName("buildVerifier - shouldn't accept null parameters")
+    void testBuildVerifierShouldntAcceptNullParameters() {
+        assertThrows(IllegalArgumentException.class, () ->
+                jwtService.buildVerifier(null));
+    }
+
     @Test
     @DisplayName("validateToken - shouldn't accept null paramaters")
     void testValidateTokenShouldntAcceptNullParameters() {
+        final JWTVerifier verifier = jwtService.buildVerifier(Algorithm.HMAC256(SECRET_KEY));
+
         assertThrows(IllegalArgumentException.class, () ->
                 jwtService.validateToken(null, "token"));
 
         assertThrows(IllegalArgumentException.class, () ->
-                jwtService.validateToken(algorithm, null));
+                jwtService.validateToken(verifier, null));
     }
 
     @Test
     @DisplayName("validateToken - should validate the token")
     void testShouldValidateTheToken() {
         final String token = jwtService.generateToken(user, Algorithm.HMAC256(SECRET_KEY));
-        assertDoesNotThrow(() -> jwtService.validateToken(Algorithm.HMAC256(SECRET_KEY), token));
+        final JWTVerifier verifier = jwtService.buildVerifier(Algorithm.HMAC256(SECRET_KEY));
+
+        assertEquals(user.getEmail(), jwtService.validateToken(verifier, token).getSubject());
+    }
+
+    @Test
+    @DisplayName("validateToken - should reject tokens signed with another secret")
+    void testShouldRejectTokensSignedWithAnotherSecret() {
+        final String token = jwtService.generateToken(user, Algorithm.HMAC256("another_secret"));
+        final JWTVerifier verifier = jwtService.buildVerifier(Algorithm.HMAC256(SECRET_KEY));
+
+        assertThrows(JWTVerificationException.class, () ->
+                jwtService.validateToken(verifier, token));
     }
 }
@@ -0,0 +1,140 @@
+package capi.funding.api.services;
+
+import capi.funding.api.entity.Contribution;
+import capi.funding.api.infra.search.ProjectSearchIndex;
+import capi.funding.api.repository.ProjectFundingSummaryBatchRepository;
+import capi.funding.api.repository.ProjectFundingSummaryBatchRepository.Totals;
+import capi.funding.api.repository.ProjectFundingSummaryRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ActiveProfiles("test")
+@ExtendWith(MockitoExtension.class)
+class ProjectFundingSummaryServiceTest {
+
+    private static final long projectId = 1;
+
+    @InjectMocks
+    private ProjectFundingSummaryService service;
+    @Mock
+    private ProjectFundingSummaryRepository repository;
+    @Mock
+    private ProjectFundingSummaryBatchRepository batchRepository;
+    @Mock
+    private ProjectSearchIndex searchIndex;
+    @Captor
+    private ArgumentCaptor<List<Totals>> hoursCaptor;
+
+    @Test
+    @DisplayName("addContribution - should increment the project totals and the time buckets")
+    void testAddContributionShouldIncrementTheProjectTotalsAndTheTimeBuckets() {
+        final LocalDateTime date = LocalDateTime.now();
+        when(batchRepository.addContributions(List.of(new Totals(projectId, null, BigDecimal.valueOf(50), 1))))
+                .thenReturn(Map.of(projectId, BigDecimal.valueOf(150)));
+
+        service.addContribution(projectId, BigDecimal.valueOf(50), date);
+
+        verify(searchIndex).updateTotalRaised(projectId, BigDecimal.valueOf(150));
+        verify(batchRepository).addHourlyContributions(
+                List.of(new Totals(projectId, date.truncatedTo(ChronoUnit.HOURS), BigDecimal.valueOf(50), 1)));
+        verify(batchRepository).addDailyContributions(
+                List.of(new Totals(projectId, date.truncatedTo(ChronoUnit.DAYS), BigDecimal.valueOf(50), 1)));
+    }
+
+    @Test
+    @DisplayName("addContributions - should upsert each project and bucket once in a single batch")
+    void testAddContributionsShouldUpsertEachProjectAndBucketOnceInASingleBatch() {
+        final LocalDateTime date = LocalDate.now().atTime(10, 15);
+        final LocalDateTime nextHour = date.plusHours(1);
+        final Contribution first = new Contribution(1L, 1, projectId, BigDecimal.valueOf(10), date);
+        final Contribution second = new Contribution(2L, 1, projectId, BigDecimal.valueOf(15), date.plusMinutes(20));
+        final Contribution third = new Contribution(3L, 1, projectId, BigDecimal.valueOf(5), nextHour);
+
+        service.addContributions(List.of(first, second, third));
+
+        verify(batchRepository).addContributions(List.of(new Totals(projectId, null, BigDecimal.valueOf(30), 3)));
+        verify(batchRepository).addHourlyContributions(hoursCaptor.capture());
+        assertEquals(Set.of(
+                new Totals(projectId, date.withMinute(0), BigDecimal.valueOf(25), 2),
+                new Totals(projectId, nextHour.withMinute(0), BigDecimal.valueOf(5), 1)
+        ), Set.copyOf(hoursCaptor.getValue()));
+        verify(batchRepository).addDailyContributions(
+                List.of(new Totals(projectId, date.toLocalDate().atStartOfDay(), BigDecimal.valueOf(30), 3)));
+    }
+
+    @Test
+    @DisplayName("addContributions - should sort the rows by project and bucket")
+    void testAddContributionsShouldSortTheRowsByProjectAndBucket() {
+        final LocalDateTime date = LocalDate.now().atTime(10, 15);
+        final LocalDateTime previousHour = date.minusHours(1);
+        final Contribution first = new Contribution(1L, 1, 3L, BigDecimal.valueOf(10), date);
+        final Contribution second = new Contribution(2L, 1, 1L, BigDecimal.valueOf(15), date);
+        final Contribution third = new Contribution(3L, 1, 1L, BigDecimal.valueOf(5), previousHour);
+
+        service.addContributions(List.of(first, second, third));
+
+        verify(batchRepository).addContributions(List.of(
+                new Totals(1L, null, BigDecimal.valueOf(20), 2),
+                new Totals(3L, null, BigDecimal.valueOf(10), 1)
+        ));
+        verify(batchRepository).addHourlyContributions(List.of(
+                new Totals(1L, previousHour.withMinute(0), BigDecimal.valueOf(5), 1),
+                new Totals(1L, date.withMinute(0), BigDecimal.valueOf(15), 1),
+                new Totals(3L, date.withMinute(0), BigDecimal.valueOf(10), 1)
+        ));
+    }
+
+    @Test
+    @DisplayName("addContribution - shouldn't accept null parameters")
+    void testAddContributionShouldntAcceptNullParameters() {
+        assertThrows(IllegalArgumentException.class, () ->
+                service.addContribution(projectId, null, LocalDateTime.now()));
+        assertThrows(IllegalArgumentException.class, () ->
+                service.addContribution(projectId, BigDecimal.ONE, null));
+    }
+
+    @Test
+    @DisplayName("updateContributionGoal - should apply the difference between the goals")
+    void testUpdateContributionGoalShouldApplyTheDifferenceBetweenTheGoals() {
+        service.updateContributionGoal(projectId, BigDecimal.valueOf(100), BigDecimal.valueOf(40));
+
+        verify(repository).addContributionGoal(projectId, BigDecimal.valueOf(-60));
+    }
+
+    @Test
+    @DisplayName("updateContributionGoal - shouldn't touch the database when the goal didn't change")
+    void testUpdateContributionGoalShouldntTouchTheDatabaseWhenTheGoalDidntChange() {
+        service.updateContributionGoal(projectId, BigDecimal.valueOf(100), new BigDecimal("100.00"));
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    @DisplayName("deleteExpiredHourlyRollups - should keep the hourly buckets the report windows read")
+    void testDeleteExpiredHourlyRollupsShouldKeepTheHourlyBucketsTheReportWindowsRead() {
+        service.deleteExpiredHourlyRollups();
+
+        verify(repository).deleteHourlyContributionsBefore(LocalDate.now().minusDays(31).atStartOfDay());
+    }
+}
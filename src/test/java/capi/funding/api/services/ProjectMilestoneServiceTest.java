@@ -2,6 +2,7 @@ package capi.funding.api.services;
 
 import capi.funding.api.dto.CreateProjectMilestoneDTO;
 import capi.funding.api.dto.EditProjectMilestoneDTO;
+import capi.funding.api.dto.ProjectAccessInfo;
 import capi.funding.api.entity.Project;
 import capi.funding.api.entity.ProjectMilestone;
 import capi.funding.api.enums.ProjectCategoryEnum;
@@ -55,6 +56,8 @@ class ProjectMilestoneServiceTest {
     @Mock
     private ProjectService projectService;
     @Mock
+    private ProjectFundingSummaryService fundingSummaryService;
+    @Mock
     private ProjectMilestoneRepository repository;
     @Captor
     private ArgumentCaptor<ProjectMilestone> milestoneCaptor;
@@ -163,26 +166,22 @@ class ProjectMilestoneServiceTest {
     @Test
     @DisplayName("createNew - should check project editability")
     void testCreateNewShouldCheckProjectEditability() {
-        final Project project = new Project();
-
-        when(projectService.findById(createProjectMilestoneDTO.project_id())).thenReturn(project);
+        when(projectService.getAccessInfo(createProjectMilestoneDTO.project_id())).thenReturn(accessInfo(project));
 
         milestoneService.createNew(createProjectMilestoneDTO);
 
-        verify(projectUtils).checkProjectEditability(project);
+        verify(projectUtils).checkProjectEditability(accessInfo(project));
     }
 
     @Test
     @DisplayName("createNew - should validate need to follow order")
     void testCreateNewShouldValidateNeedToFollowOrder() {
-        final Project project = new Project();
-
-        when(projectService.findById(createProjectMilestoneDTO.project_id())).thenReturn(project);
+        when(projectService.getAccessInfo(createProjectMilestoneDTO.project_id())).thenReturn(accessInfo(project));
 
         milestoneService.createNew(createProjectMilestoneDTO);
 
         verify(projectUtils).validateNeedToFollowOrder(
-                any(Project.class),
+                any(ProjectAccessInfo.class),
                 any(ProjectMilestone.class)
         );
     }
@@ -197,11 +196,23 @@ class ProjectMilestoneServiceTest {
         assertEquals("project milestone title", milestoneCaptor.getValue().getTitle());
     }
 
+    @Test
+    @DisplayName("createNew - should add the milestone goal to the project funding summary")
+    void testCreateNewShouldAddTheMilestoneGoalToTheProjectFundingSummary() {
+        milestoneService.createNew(createProjectMilestoneDTO);
+
+        verify(fundingSummaryService).updateContributionGoal(
+                createProjectMilestoneDTO.project_id(),
+                BigDecimal.ZERO,
+                createProjectMilestoneDTO.contribution_goal()
+        );
+    }
+
     @Test
     @DisplayName("edit - should check user permission")
     void testEditShouldCheckUserPermission() {
         when(repository.findById(milestoneId)).thenReturn(Optional.of(projectMilestone));
-        when(projectService.findById(projectId)).thenReturn(project);
+        when(projectService.getAccessInfo(projectId)).thenReturn(accessInfo(project));
 
         milestoneService.edit(milestoneId, editProjectMilestoneDTO);
 
@@ -212,18 +223,18 @@ class ProjectMilestoneServiceTest {
     @DisplayName("edit - should check project editability")
     void testEditShouldCheckProjectEditability() {
         when(repository.findById(milestoneId)).thenReturn(Optional.of(projectMilestone));
-        when(projectService.findById(projectId)).thenReturn(project);
+        when(projectService.getAccessInfo(projectId)).thenReturn(accessInfo(project));
 
         milestoneService.edit(milestoneId, editProjectMilestoneDTO);
 
-        verify(projectUtils).checkProjectEditability(project);
+        verify(projectUtils).checkProjectEditability(accessInfo(project));
     }
 
     @Test
     @DisplayName("edit - should validate milestone sequence number")
     void testEditShouldValidateMilestoneSequenceNumber() {
         when(repository.findById(milestoneId)).thenReturn(Optional.of(projectMilestone));
-        when(projectService.findById(projectId)).thenReturn(project);
+        when(projectService.getAccessInfo(projectId)).thenReturn(accessInfo(project));
 
         milestoneService.edit(milestoneId, editProjectMilestoneDTO);
 
@@ -237,12 +248,12 @@ class ProjectMilestoneServiceTest {
     @DisplayName("edit - should validate need to follow order")
     void testEditShouldValidateNeedToFollowOrder() {
         when(repository.findById(milestoneId)).thenReturn(Optional.of(projectMilestone));
-        when(projectService.findById(projectId)).thenReturn(project);
+        when(projectService.getAccessInfo(projectId)).thenReturn(accessInfo(project));
 
         milestoneService.edit(milestoneId, editProjectMilestoneDTO);
 
         verify(projectUtils).validateNeedToFollowOrder(
-                project,
+                accessInfo(project),
                 projectMilestone
         );
     }
@@ -253,7 +264,7 @@ class ProjectMilestoneServiceTest {
         project.setTitle("milestone title");
 
         when(repository.findById(milestoneId)).thenReturn(Optional.of(projectMilestone));
-        when(projectService.findById(projectId)).thenReturn(project);
+        when(projectService.getAccessInfo(projectId)).thenReturn(accessInfo(project));
 
         milestoneService.edit(milestoneId, editProjectMilestoneDTO);
 
@@ -263,11 +274,34 @@ class ProjectMilestoneServiceTest {
         assertEquals("new title", milestoneCaptor.getValue().getTitle());
     }
 
+    @Test
+    @DisplayName("edit - should update the project funding summary with the goal difference")
+    void testEditShouldUpdateTheProjectFundingSummaryWithTheGoalDifference() {
+        final EditProjectMilestoneDTO editGoalDTO = new EditProjectMilestoneDTO(
+                null,
+                null,
+                null,
+                null,
+                BigDecimal.valueOf(250)
+        );
+
+        when(repository.findById(milestoneId)).thenReturn(Optional.of(projectMilestone));
+        when(projectService.getAccessInfo(projectId)).thenReturn(accessInfo(project));
+
+        milestoneService.edit(milestoneId, editGoalDTO);
+
+        verify(fundingSummaryService).updateContributionGoal(
+                projectId,
+                BigDecimal.valueOf(100),
+                BigDecimal.valueOf(250)
+        );
+    }
+
     @Test
     @DisplayName("delete - should check user permission")
     void testDeleteShouldCheckUserPermission() {
         when(repository.findById(milestoneId)).thenReturn(Optional.of(projectMilestone));
-        when(projectService.findById(projectId)).thenReturn(project);
+        when(projectService.getAccessInfo(projectId)).thenReturn(accessInfo(project));
 
         milestoneService.delete(milestoneId);
 
@@ -278,18 +312,18 @@ class ProjectMilestoneServiceTest {
     @DisplayName("delete - should check project editability")
     void testDeleteShouldCheckProjectEditability() {
         when(repository.findById(milestoneId)).thenReturn(Optional.of(projectMilestone));
-        when(projectService.findById(projectId)).thenReturn(project);
+        when(projectService.getAccessInfo(projectId)).thenReturn(accessInfo(project));
 
         milestoneService.delete(milestoneId);
 
-        verify(projectUtils).checkProjectEditability(project);
+        verify(projectUtils).checkProjectEditability(accessInfo(project));
     }
 
     @Test
     @DisplayName("delete - should throw exception when has linked registers")
     void testShouldThrowExceptionWhenHasLinkedRegisters() {
         when(repository.findById(milestoneId)).thenReturn(Optional.of(projectMilestone));
-        when(projectService.findById(projectId)).thenReturn(project);
+        when(projectService.getAccessInfo(projectId)).thenReturn(accessInfo(project));
 
         doThrow(DataIntegrityViolationException.class).when(repository).deleteById(milestoneId);
 
@@ -297,13 +331,29 @@ class ProjectMilestoneServiceTest {
                 milestoneService.delete(milestoneId));
 
         assertEquals("this milestone of the project has a linked expense, impossible to exclude", exception.getMessage());
+        verifyNoInteractions(fundingSummaryService);
+    }
+
+    @Test
+    @DisplayName("delete - should remove the milestone goal from the project funding summary")
+    void testDeleteShouldRemoveTheMilestoneGoalFromTheProjectFundingSummary() {
+        when(repository.findById(milestoneId)).thenReturn(Optional.of(projectMilestone));
+        when(projectService.getAccessInfo(projectId)).thenReturn(accessInfo(project));
+
+        milestoneService.delete(milestoneId);
+
+        verify(fundingSummaryService).updateContributionGoal(
+                projectId,
+                BigDecimal.valueOf(100),
+                BigDecimal.ZERO
+        );
     }
 
     @Test
     @DisplayName("conclude - should check user permission")
     void testConcludeShouldCheckUserPermission() {
         when(repository.findById(milestoneId)).thenReturn(Optional.of(projectMilestone));
-        when(projectService.findById(projectId)).thenReturn(project);
+        when(projectService.getAccessInfo(projectId)).thenReturn(accessInfo(project));
 
         milestoneService.conclude(milestoneId);
 
@@ -314,12 +364,12 @@ class ProjectMilestoneServiceTest {
     @DisplayName("conclude - should validate need to follow order")
     void testConcludeShouldValidateNeedToFollowOrder() {
         when(repository.findById(milestoneId)).thenReturn(Optional.of(projectMilestone));
-        when(projectService.findById(projectId)).thenReturn(project);
+        when(projectService.getAccessInfo(projectId)).thenReturn(accessInfo(project));
 
         milestoneService.conclude(milestoneId);
 
         verify(projectUtils).validateNeedToFollowOrder(
-                project,
+                accessInfo(project),
                 projectMilestone
         );
     }
@@ -328,7 +378,7 @@ class ProjectMilestoneServiceTest {
     @DisplayName("conclude - should save completed milestone")
     void testConcludeShouldSaveCompletedMilestone() {
         when(repository.findById(milestoneId)).thenReturn(Optional.of(projectMilestone));
-        when(projectService.findById(projectId)).thenReturn(project);
+        when(projectService.getAccessInfo(projectId)).thenReturn(accessInfo(project));
 
         milestoneService.conclude(milestoneId);
 
@@ -360,4 +410,14 @@ class ProjectMilestoneServiceTest {
 
         verify(repository).findByProjectAndMinorSequence(projectId, projectMilestone.getSequence());
     }
+
+    private static ProjectAccessInfo accessInfo(Project project) {
+        return new ProjectAccessInfo(
+                project.getId(),
+                project.getCreator_id(),
+                project.getStatus_id(),
+                project.isNeed_to_follow_order(),
+                project.getFinal_date()
+        );
+    }
 }
@@ -1,28 +1,60 @@
 package capi.funding.api.services;
 
 import capi.funding.api.dto.GeneralInfosReportDTO;
+import capi.funding.api.dto.ProjectsListDTO;
+import capi.funding.api.dto.ReportPeriod;
+import capi.funding.api.infra.exceptions.InvalidParametersException;
+import capi.funding.api.infra.reports.GeneralInfosCounters;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.context.ActiveProfiles;
 
-import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
-import static org.junit.jupiter.api.Assertions.assertInstanceOf;
-import static org.mockito.Mockito.verify;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
 @ActiveProfiles("test")
 @ExtendWith(MockitoExtension.class)
 public class ProjectReportsServiceTest {
 
-    @InjectMocks
     ProjectReportsService service;
     @Mock
     ProjectService projectService;
     @Mock
     ContributionService contributionService;
+    @Mock
+    GeneralInfosCounters generalInfosCounters;
+    @Captor
+    ArgumentCaptor<ReportPeriod> periodCaptor;
+
+    @BeforeEach
+    void setUp() {
+        service = newService(Duration.ofSeconds(30));
+    }
+
+    private ProjectReportsService newService(Duration ttl) {
+        return new ProjectReportsService(
+                projectService, contributionService, generalInfosCounters, new SimpleMeterRegistry(), ttl, Duration.ofMinutes(5)
+        );
+    }
 
     @Test
     @DisplayName("getGeneralInfosReport - should return correct values")
@@ -33,11 +65,22 @@ public class ProjectReportsServiceTest {
         assertInstanceOf(GeneralInfosReportDTO.class, generalInfos);
     }
 
+    @Test
+    @DisplayName("getGeneralInfosReport - should read the counters once they're ready")
+    void testGetGeneralInfosReportShouldReadTheCountersOnceTheyreReady() {
+        final GeneralInfosReportDTO counted = new GeneralInfosReportDTO(3L, BigDecimal.TEN, 4L);
+        when(generalInfosCounters.isReady()).thenReturn(true);
+        when(generalInfosCounters.snapshot()).thenReturn(counted);
+
+        assertEquals(counted, service.getGeneralInfosReport());
+        verifyNoInteractions(projectService, contributionService);
+    }
+
     @Test
     @DisplayName("getMostSearchedProjects - should fetch the database")
     void testGetMostSearchedProjectsShouldFetchTheDatabase() {
         final int pageNumber = 1;
-        service.getMostSearchedProjects(pageNumber);
+        service.getMostSearchedProjects(pageNumber, null, null, null);
 
         verify(projectService).getMostSearchedProjects(pageNumber);
     }
@@ -46,11 +89,117 @@ public class ProjectReportsServiceTest {
     @DisplayName("getTopDonatedProjects - should fetch the database")
     void testGetTopDonatedProjectsShouldFetchTheDatabase() {
         final int pageNumber = 1;
-        service.getTopDonatedProjects(pageNumber);
+        service.getTopDonatedProjects(pageNumber, null, null, null);
 
         verify(projectService).getTopDonatedProjects(pageNumber);
     }
 
+    @Test
+    @DisplayName("getMostSearchedProjects - should slide the window up to the current hour")
+    void testGetMostSearchedProjectsShouldSlideTheWindowUpToTheCurrentHour() {
+        final LocalDateTime nextHour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).plusHours(1);
+
+        service.getMostSearchedProjects(2, "24h", null, null);
+
+        verify(projectService).getMostSearchedProjects(eq(2), periodCaptor.capture());
+        final ReportPeriod period = periodCaptor.getValue();
+        assertTrue(period.hourly());
+        assertEquals(nextHour, period.end());
+        assertEquals(nextHour.minusHours(24), period.start());
+    }
+
+    @Test
+    @DisplayName("getTopDonatedProjects - should cover whole days of a custom range")
+    void testGetTopDonatedProjectsShouldCoverWholeDaysOfACustomRange() {
+        service.getTopDonatedProjects(1, null, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 7));
+
+        verify(projectService).getTopDonatedProjects(
+                1,
+                new ReportPeriod(LocalDate.of(2024, 3, 1).atStartOfDay(), LocalDate.of(2024, 3, 8).atStartOfDay(), false)
+        );
+    }
+
+    @Test
+    @DisplayName("getTopDonatedProjects - should end an open range today")
+    void testGetTopDonatedProjectsShouldEndAnOpenRangeToday() {
+        service.getTopDonatedProjects(1, null, LocalDate.now().minusDays(3), null);
+
+        verify(projectService).getTopDonatedProjects(
+                1,
+                new ReportPeriod(LocalDate.now().minusDays(3).atStartOfDay(), LocalDate.now().plusDays(1).atStartOfDay(), false)
+        );
+    }
+
+    @DisplayName("getTopDonatedProjects - should reject invalid periods")
+    @ParameterizedTest
+    @CsvSource({
+            "1y, , , invalid report window",
+            "7d, 2024-03-01, , use either a window or a date range",
+            ", , 2024-03-01, the range start is required",
+            ", 2024-03-08, 2024-03-01, the range start must be before its end",
+            ", 2023-01-01, 2024-03-01, the range can't be longer than 366 days"
+    })
+    void testGetTopDonatedProjectsShouldRejectInvalidPeriods(String window, LocalDate from, LocalDate to, String message) {
+        final InvalidParametersException exception = assertThrows(InvalidParametersException.class, () ->
+                service.getTopDonatedProjects(1, window, from, to));
+
+        assertEquals(message, exception.getMessage());
+        verifyNoInteractions(projectService);
+    }
+
+    @Test
+    @DisplayName("getMostSearchedProjects - should cache every page separately")
+    void testGetMostSearchedProjectsShouldCacheEveryPageSeparately() {
+        when(projectService.getMostSearchedProjects(anyInt())).thenReturn(new ProjectsListDTO(20L, List.of()));
+
+        service.getMostSearchedProjects(1, null, null, null);
+        service.getMostSearchedProjects(1, null, null, null);
+        service.getMostSearchedProjects(2, null, null, null);
+
+        verify(projectService, times(1)).getMostSearchedProjects(1);
+        verify(projectService, times(1)).getMostSearchedProjects(2);
+    }
+
+    @Test
+    @DisplayName("getGeneralInfosReport - should compute concurrent misses only once")
+    void testGetGeneralInfosReportShouldComputeConcurrentMissesOnlyOnce() throws Exception {
+        final CountDownLatch computing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        when(projectService.countTotalProjects()).thenAnswer(invocation -> {
+            computing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return 10L;
+        });
+
+        final CompletableFuture<GeneralInfosReportDTO> first = CompletableFuture.supplyAsync(service::getGeneralInfosReport);
+        assertTrue(computing.await(5, TimeUnit.SECONDS));
+        final CompletableFuture<GeneralInfosReportDTO> second = CompletableFuture.supplyAsync(service::getGeneralInfosReport);
+        release.countDown();
+
+        assertEquals(first.get(5, TimeUnit.SECONDS), second.get(5, TimeUnit.SECONDS));
+        verify(projectService, times(1)).countTotalProjects();
+    }
+
+    @Test
+    @DisplayName("getGeneralInfosReport - should serve the stale report while recomputing it")
+    void testGetGeneralInfosReportShouldServeTheStaleReportWhileRecomputingIt() throws InterruptedException {
+        final ProjectReportsService shortLivedService = newService(Duration.ofMillis(1));
+        final CountDownLatch release = new CountDownLatch(1);
+        when(projectService.countTotalProjects()).thenReturn(10L).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return 11L;
+        });
+
+        final GeneralInfosReportDTO first = shortLivedService.getGeneralInfosReport();
+        Thread.sleep(10);
+        final GeneralInfosReportDTO stale = shortLivedService.getGeneralInfosReport();
+        release.countDown();
+
+        assertEquals(10L, first.totalProjects());
+        assertEquals(first, stale);
+        verify(projectService, timeout(1000).times(2)).countTotalProjects();
+    }
+
     @Test
     @DisplayName("getMostSearchedCategories - should fetch the database")
     void testGetMostSearchedCategoriesShouldFetchTheDatabase() {
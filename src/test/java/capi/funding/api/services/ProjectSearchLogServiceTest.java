@@ -2,20 +2,24 @@ package capi.funding.api.services;
 
 import capi.funding.api.entity.ProjectSearchLog;
 import capi.funding.api.enums.ProjectSearchFields;
-import capi.funding.api.repository.ProjectSearchLogRepository;
+import capi.funding.api.infra.searchlog.ProjectSearchLogQueue;
+import capi.funding.api.repository.ProjectSearchLogBatchRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
-import static org.mockito.Mockito.verify;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
 
 @ActiveProfiles("test")
 @ExtendWith(MockitoExtension.class)
@@ -23,13 +27,17 @@ public class ProjectSearchLogServiceTest {
 
     private ProjectSearchLog searchLog;
 
-    @InjectMocks
     private ProjectSearchLogService service;
+
+    @Mock
+    private ProjectSearchLogQueue queue;
     @Mock
-    private ProjectSearchLogRepository repository;
+    private ProjectSearchLogBatchRepository batchRepository;
 
     @BeforeEach
     void setUp() {
+        service = new ProjectSearchLogService(queue, batchRepository, 30);
+
         searchLog = new ProjectSearchLog(
                 null,
                 1L,
@@ -40,20 +48,42 @@ public class ProjectSearchLogServiceTest {
     }
 
     @Test
-    @DisplayName("save - should call jpa save")
-    void testSaveShouldCallJpaSave() {
+    @DisplayName("save - should enqueue the log instead of writing it")
+    void testSaveShouldEnqueueTheLogInsteadOfWritingIt() {
         service.save(searchLog);
 
-        verify(repository).save(searchLog);
+        verify(queue).offer(searchLog);
     }
 
     @Test
-    @DisplayName("saveAll - should call jpa save all")
-    void testSaveAllShouldCallJpaSaveAll() {
-        final List<ProjectSearchLog> searchLogs = List.of(searchLog);
+    @DisplayName("saveAll - should enqueue every log")
+    void testSaveAllShouldEnqueueEveryLog() {
+        final List<ProjectSearchLog> searchLogs = List.of(searchLog, searchLog);
 
         service.saveAll(searchLogs);
 
-        verify(repository).saveAll(searchLogs);
+        verify(queue, times(2)).offer(searchLog);
+    }
+
+    @Test
+    @DisplayName("deleteExpiredLogs - should delete in batches until the expired logs run out")
+    void testDeleteExpiredLogsShouldDeleteInBatchesUntilTheExpiredLogsRunOut() {
+        final LocalDateTime before = LocalDate.now().minusDays(30).atStartOfDay();
+        when(batchRepository.deleteLogsBefore(before, 5000)).thenReturn(5000, 5000, 120);
+
+        final long deleted = service.deleteExpiredLogs();
+
+        assertEquals(10120, deleted);
+        verify(batchRepository, times(3)).deleteLogsBefore(before, 5000);
+        verify(batchRepository).deleteHourlyRollupsBefore(LocalDate.now().minusDays(31).atStartOfDay());
+    }
+
+    @Test
+    @DisplayName("deleteExpiredLogs - should stop after a partial batch")
+    void testDeleteExpiredLogsShouldStopAfterAPartialBatch() {
+        when(batchRepository.deleteLogsBefore(any(), anyInt())).thenReturn(0);
+
+        assertEquals(0, service.deleteExpiredLogs());
+        verify(batchRepository).deleteLogsBefore(any(), anyInt());
     }
 }
@@ -1,17 +1,25 @@
 package capi.funding.api.services;
 
-import capi.funding.api.dto.CreateProjectDTO;
-import capi.funding.api.dto.EditProjectDTO;
-import capi.funding.api.dto.ProjectsListDTO;
-import capi.funding.api.dto.ProjectsListFiltersDTO;
+import capi.funding.api.dto.*;
 import capi.funding.api.entity.Project;
 import capi.funding.api.entity.ProjectMilestone;
 import capi.funding.api.entity.User;
 import capi.funding.api.enums.ProjectCategoryEnum;
+import capi.funding.api.enums.ImageJobStatus;
+import capi.funding.api.enums.ImageOwnerType;
+import capi.funding.api.enums.ImageVariantType;
 import capi.funding.api.enums.ProjectStatusEnum;
+import capi.funding.api.enums.ProjectsListCountMode;
+import capi.funding.api.infra.access.ProjectAccessCache;
 import capi.funding.api.infra.exceptions.InvalidParametersException;
 import capi.funding.api.infra.exceptions.MilestoneSequenceException;
 import capi.funding.api.infra.exceptions.NotFoundException;
+import capi.funding.api.infra.exceptions.ProjectEditabilityException;
+import capi.funding.api.infra.reports.GeneralInfosCounters;
+import capi.funding.api.infra.search.ProjectSearchIndex;
+import capi.funding.api.infra.search.ProjectSearchPage;
+import capi.funding.api.infra.trending.SearchTrend;
+import capi.funding.api.infra.trending.SearchTrendTracker;
 import capi.funding.api.repository.ProjectRepository;
 import capi.funding.api.utils.ProjectUtils;
 import capi.funding.api.utils.Utils;
@@ -34,7 +42,10 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -61,6 +72,18 @@ class ProjectServiceTest {
     private ProjectRepository projectRepository;
     @Mock
     private ProjectSearchLogService searchLogService;
+    @Mock
+    private ImageProcessingService imageProcessingService;
+    @Mock
+    private ImageVariantService imageVariantService;
+    @Mock
+    private ProjectSearchIndex searchIndex;
+    @Mock
+    private SearchTrendTracker searchTrends;
+    @Mock
+    private GeneralInfosCounters generalInfosCounters;
+    @Mock
+    private ProjectAccessCache accessCache;
     @Captor
     private ArgumentCaptor<Project> projectCaptor;
     @Captor
@@ -138,16 +161,59 @@ class ProjectServiceTest {
     }
 
     @Test
-    @DisplayName("getProjectsList - should fetch projects list from database")
+    @DisplayName("getProjectsList - should fetch the page and the total in a single query")
     void testShouldFetchProjectsListFromDatabase() {
-        projectService.getProjectsList(filtersDTO);
+        final ProjectsList project = mock(ProjectsList.class);
+        when(project.getTotalRegisters()).thenReturn(25L);
+        when(projectRepository.getProjectsListWithTotal(anyString(), anyList(), anyList(), anyString(), anyLong(), anyLong()))
+                .thenReturn(List.of(project));
+
+        final ProjectsListDTO projectsList = projectService.getProjectsList(filtersDTO);
 
-        verify(projectRepository).getTotalRegistersProjectsList(
+        verify(projectRepository).getProjectsListWithTotal(
                 filtersDTO.getProjectTitle(),
                 filtersDTO.getProjectCategory(),
                 filtersDTO.getProjectStatus(),
-                filtersDTO.getCreatorName()
+                filtersDTO.getCreatorName(),
+                filtersDTO.getPageNumber(),
+                filtersDTO.getLimit()
         );
+        verify(projectRepository, never()).getTotalRegistersProjectsList(anyString(), anyList(), anyList(), anyString());
+        assertEquals(25L, projectsList.totalRegisters());
+        assertNull(projectsList.hasMore());
+    }
+
+    @Test
+    @DisplayName("getProjectsList - should count separately when the page is past the last one")
+    void testGetProjectsListShouldCountSeparatelyWhenThePageIsPastTheLastOne() {
+        filtersDTO.setPageNumber(40L);
+        when(projectRepository.getTotalRegistersProjectsList(anyString(), anyList(), anyList(), anyString())).thenReturn(12L);
+
+        final ProjectsListDTO projectsList = projectService.getProjectsList(filtersDTO);
+
+        assertEquals(12L, projectsList.totalRegisters());
+        assertTrue(projectsList.projectsLists().isEmpty());
+    }
+
+    @Test
+    @DisplayName("getProjectsList - shouldn't count an empty first page")
+    void testGetProjectsListShouldntCountAnEmptyFirstPage() {
+        filtersDTO.setPageNumber(0L);
+
+        final ProjectsListDTO projectsList = projectService.getProjectsList(filtersDTO);
+
+        assertEquals(0L, projectsList.totalRegisters());
+        verify(projectRepository, never()).getTotalRegistersProjectsList(anyString(), anyList(), anyList(), anyString());
+    }
+
+    @Test
+    @DisplayName("getProjectsList - should fetch one extra row instead of counting in has more mode")
+    void testGetProjectsListShouldFetchOneExtraRowInsteadOfCountingInHasMoreMode() {
+        filtersDTO.setLimit(2L);
+        when(projectRepository.getProjectsList(anyString(), anyList(), anyList(), anyString(), anyLong(), anyLong()))
+                .thenReturn(List.of(mock(ProjectsList.class), mock(ProjectsList.class), mock(ProjectsList.class)));
+
+        final ProjectsListDTO projectsList = projectService.getProjectsList(filtersDTO, ProjectsListCountMode.HAS_MORE);
 
         verify(projectRepository).getProjectsList(
                 filtersDTO.getProjectTitle(),
@@ -155,10 +221,147 @@ class ProjectServiceTest {
                 filtersDTO.getProjectStatus(),
                 filtersDTO.getCreatorName(),
                 filtersDTO.getPageNumber(),
+                3L
+        );
+        verify(projectRepository, never()).getTotalRegistersProjectsList(anyString(), anyList(), anyList(), anyString());
+        assertNull(projectsList.totalRegisters());
+        assertEquals(2, projectsList.projectsLists().size());
+        assertTrue(projectsList.hasMore());
+    }
+
+    @Test
+    @DisplayName("getProjectsList - should tell there's no more pages in has more mode")
+    void testGetProjectsListShouldTellTheresNoMorePagesInHasMoreMode() {
+        when(projectRepository.getProjectsList(anyString(), anyList(), anyList(), anyString(), anyLong(), anyLong()))
+                .thenReturn(List.of(mock(ProjectsList.class)));
+
+        final ProjectsListDTO projectsList = projectService.getProjectsList(filtersDTO, ProjectsListCountMode.HAS_MORE);
+
+        assertEquals(1, projectsList.projectsLists().size());
+        assertFalse(projectsList.hasMore());
+    }
+
+    @Test
+    @DisplayName("getProjectsList - should hydrate only the page picked by the search index")
+    void testGetProjectsListShouldHydrateOnlyThePagePickedByTheSearchIndex() {
+        when(searchIndex.isReady()).thenReturn(true);
+        when(projectUtils.getSearchTerm(anyString())).thenReturn("");
+        when(searchIndex.searchPage("", filtersDTO.getProjectCategory(), filtersDTO.getProjectStatus(), "",
+                filtersDTO.getPageNumber(), filtersDTO.getLimit()))
+                .thenReturn(new ProjectSearchPage(40, new int[]{15, 3, 8}));
+
+        final ProjectsListDTO projectsList = projectService.getProjectsList(filtersDTO);
+
+        assertEquals(40L, projectsList.totalRegisters());
+        verify(projectRepository).getProjectsListInOrder("15,3,8");
+        verify(projectRepository, never()).getTotalRegistersProjectsList(anyString(), anyList(), anyList(), anyString());
+    }
+
+    @Test
+    @DisplayName("getProjectsList - shouldn't query the database when the search index finds nothing")
+    void testGetProjectsListShouldntQueryTheDatabaseWhenTheSearchIndexFindsNothing() {
+        when(searchIndex.isReady()).thenReturn(true);
+        when(projectUtils.getSearchTerm(anyString())).thenReturn("");
+        when(searchIndex.searchPage(anyString(), anyList(), anyList(), anyString(), anyLong(), anyLong()))
+                .thenReturn(new ProjectSearchPage(0, new int[0]));
+
+        final ProjectsListDTO projectsList = projectService.getProjectsList(filtersDTO);
+
+        assertEquals(0L, projectsList.totalRegisters());
+        assertTrue(projectsList.projectsLists().isEmpty());
+        verifyNoInteractions(projectRepository);
+    }
+
+    @Test
+    @DisplayName("getProjectsListByRelevance - should rank the projects by the search terms")
+    void testGetProjectsListByRelevanceShouldRankTheProjectsByTheSearchTerms() {
+        filtersDTO.setProjectTitle("%title%");
+
+        when(projectUtils.getSearchTerm(filtersDTO.getProjectTitle())).thenReturn("title");
+        when(projectUtils.getSearchTerm(filtersDTO.getCreatorName())).thenReturn("");
+
+        projectService.getProjectsListByRelevance(filtersDTO, null);
+
+        verify(projectRepository).getProjectsListByRelevance(
+                filtersDTO.getProjectTitle(),
+                filtersDTO.getProjectCategory(),
+                filtersDTO.getProjectStatus(),
+                filtersDTO.getCreatorName(),
+                "title",
+                "",
+                filtersDTO.getPageNumber(),
                 filtersDTO.getLimit()
         );
     }
 
+    @Test
+    @DisplayName("getProjectsListByRelevance - shouldn't accept a cursor")
+    void testGetProjectsListByRelevanceShouldntAcceptACursor() {
+        final InvalidParametersException exception = assertThrows(InvalidParametersException.class, () ->
+                projectService.getProjectsListByRelevance(filtersDTO, "cursor"));
+
+        assertEquals("cursor pagination isn't available when ordering by relevance", exception.getMessage());
+        verifyNoInteractions(projectRepository);
+    }
+
+    @Test
+    @DisplayName("getProjectsListByCursor - should count the registers and start from the top on the first page")
+    void testGetProjectsListByCursorShouldCountTheRegistersAndStartFromTheTopOnTheFirstPage() {
+        final ProjectsList project = mock(ProjectsList.class);
+        when(project.getTotalRegisters()).thenReturn(3L);
+        when(projectRepository.getProjectsListWithTotal(anyString(), anyList(), anyList(), anyString(), anyLong(), anyLong()))
+                .thenReturn(List.of(project));
+
+        final ProjectsListDTO projectsList = projectService.getProjectsListByCursor(filtersDTO, "");
+
+        verify(projectRepository).getProjectsListWithTotal(
+                filtersDTO.getProjectTitle(),
+                filtersDTO.getProjectCategory(),
+                filtersDTO.getProjectStatus(),
+                filtersDTO.getCreatorName(),
+                0,
+                filtersDTO.getLimit()
+        );
+        assertEquals(3L, projectsList.totalRegisters());
+        assertNull(projectsList.nextCursor());
+    }
+
+    @Test
+    @DisplayName("getProjectsListByCursor - should continue after the cursor position without counting")
+    void testGetProjectsListByCursorShouldContinueAfterTheCursorPositionWithoutCounting() {
+        final ProjectsListCursor cursor = new ProjectsListCursor(BigDecimal.valueOf(500), 7L);
+        when(projectUtils.decodeCursor("cursor")).thenReturn(cursor);
+
+        final ProjectsListDTO projectsList = projectService.getProjectsListByCursor(filtersDTO, "cursor");
+
+        verify(projectRepository).getProjectsListAfter(
+                filtersDTO.getProjectTitle(),
+                filtersDTO.getProjectCategory(),
+                filtersDTO.getProjectStatus(),
+                filtersDTO.getCreatorName(),
+                cursor.totalRaised(),
+                cursor.projectId(),
+                filtersDTO.getLimit()
+        );
+        verify(projectRepository, never()).getTotalRegistersProjectsList(anyString(), anyList(), anyList(), anyString());
+        assertNull(projectsList.totalRegisters());
+    }
+
+    @Test
+    @DisplayName("getProjectsListByCursor - should return the next cursor when the page is full")
+    void testGetProjectsListByCursorShouldReturnTheNextCursorWhenThePageIsFull() {
+        filtersDTO.setLimit(1L);
+        final ProjectsList lastProject = mock(ProjectsList.class);
+
+        when(projectRepository.getProjectsListWithTotal(anyString(), anyList(), anyList(), anyString(), anyLong(), anyLong()))
+                .thenReturn(List.of(lastProject));
+        when(projectUtils.encodeCursor(lastProject)).thenReturn("next");
+
+        final ProjectsListDTO projectsList = projectService.getProjectsListByCursor(filtersDTO, "");
+
+        assertEquals("next", projectsList.nextCursor());
+    }
+
     @DisplayName("findById - should accept just positive numbers")
     @ParameterizedTest
     @CsvSource({
@@ -186,6 +389,75 @@ class ProjectServiceTest {
         assertEquals("project not found", exception.getMessage());
     }
 
+    @Test
+    @DisplayName("findById - should count the search of the project found")
+    void testFindByIdShouldCountTheSearchOfTheProjectFound() {
+        when(projectRepository.findById(project.getId())).thenReturn(Optional.of(project));
+        when(utils.getAuthUser()).thenReturn(user);
+
+        projectService.findById(project.getId());
+
+        verify(searchTrends).recordProjectSearch(project.getId());
+    }
+
+    @Test
+    @DisplayName("getCoverImageMetadata - should throw NotFoundException when the project has no cover image")
+    void testShouldThrowNotFoundExceptionWhenTheProjectHasNoCoverImage() {
+        when(projectRepository.findCoverImageMetadata(1)).thenReturn(Optional.empty());
+
+        final NotFoundException exception = assertThrows(NotFoundException.class, () ->
+                projectService.getCoverImageMetadata(1, null));
+
+        assertEquals("cover image not found", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("getCoverImageMetadata - should return the variant metadata when the variant exists")
+    void testGetCoverImageMetadataShouldReturnTheVariantMetadataWhenTheVariantExists() {
+        final ImageMetadata variantMetadata = mock(ImageMetadata.class);
+
+        when(imageVariantService.findVariantMetadata(ImageOwnerType.PROJECT, 1, ImageVariantType.CARD))
+                .thenReturn(Optional.of(variantMetadata));
+
+        assertEquals(variantMetadata, projectService.getCoverImageMetadata(1, ImageVariantType.CARD));
+        verify(projectRepository, never()).findCoverImageMetadata(anyLong());
+    }
+
+    @Test
+    @DisplayName("getCoverImageMetadata - should fall back to the full image when the variant doesn't exist")
+    void testGetCoverImageMetadataShouldFallBackToTheFullImageWhenTheVariantDoesntExist() {
+        final ImageMetadata metadata = mock(ImageMetadata.class);
+
+        when(imageVariantService.findVariantMetadata(ImageOwnerType.PROJECT, 1, ImageVariantType.CARD))
+                .thenReturn(Optional.empty());
+        when(projectRepository.findCoverImageMetadata(1)).thenReturn(Optional.of(metadata));
+
+        assertEquals(metadata, projectService.getCoverImageMetadata(1, ImageVariantType.CARD));
+    }
+
+    @Test
+    @DisplayName("getCoverImage - shouldn't register a search log")
+    void testGetCoverImageShouldntRegisterASearchLog() {
+        final byte[] image = {1, 2, 3};
+
+        when(projectRepository.findCoverImage(1)).thenReturn(Optional.of(image));
+
+        assertArrayEquals(image, projectService.getCoverImage(1, null));
+        verifyNoInteractions(searchLogService);
+    }
+
+    @Test
+    @DisplayName("getCoverImage - should return the variant when it exists")
+    void testGetCoverImageShouldReturnTheVariantWhenItExists() {
+        final byte[] variant = {1, 2, 3};
+
+        when(imageVariantService.findVariant(ImageOwnerType.PROJECT, 1, ImageVariantType.THUMB))
+                .thenReturn(Optional.of(variant));
+
+        assertArrayEquals(variant, projectService.getCoverImage(1, ImageVariantType.THUMB));
+        verify(projectRepository, never()).findCoverImage(anyLong());
+    }
+
     @Test
     @DisplayName("createNew - if initial date is null should set to current date")
     void testIfInitialDateIsNullShouldSetToCurrentDate() {
@@ -277,6 +549,7 @@ class ProjectServiceTest {
         projectService.edit(projectId, editProjectDTO);
 
         verify(projectRepository).save(project);
+        verify(accessCache).invalidate(projectId);
     }
 
     @Test
@@ -400,6 +673,7 @@ class ProjectServiceTest {
         final long projectId = 1;
         when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
         when(utils.getAuthUser()).thenReturn(user);
+        when(imageProcessingService.compress(any())).thenReturn(new ProcessedImageDTO(new byte[100], Map.of()));
 
         projectService.addCoverImage(projectId, mock(MockMultipartFile.class));
 
@@ -412,6 +686,7 @@ class ProjectServiceTest {
         final long projectId = 1;
         when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
         when(utils.getAuthUser()).thenReturn(user);
+        when(imageProcessingService.compress(any())).thenReturn(new ProcessedImageDTO(new byte[100], Map.of()));
 
         projectService.addCoverImage(projectId, mock(MockMultipartFile.class));
 
@@ -419,33 +694,121 @@ class ProjectServiceTest {
     }
 
     @Test
-    @DisplayName("addCoverImage - should compress the image")
-    void testAddCoverImageShouldCompressTheImage() {
+    @DisplayName("addCoverImage - should compress the image on the image workers")
+    void testAddCoverImageShouldCompressTheImageOnTheImageWorkers() {
         final long projectId = 1;
         when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
         when(utils.getAuthUser()).thenReturn(user);
 
         final var mockFile = mock(MockMultipartFile.class);
 
+        when(imageProcessingService.compress(mockFile)).thenReturn(new ProcessedImageDTO(new byte[100], Map.of()));
+
         projectService.addCoverImage(projectId, mockFile);
 
-        verify(utils).checkImageValidityAndCompress(mockFile);
+        verify(imageProcessingService).compress(mockFile);
+    }
+
+    @Test
+    @DisplayName("addCoverImage - should update the image column without saving the project")
+    void testAddCoverImageShouldUpdateTheImageColumnWithoutSavingTheProject() {
+        final long projectId = 1;
+
+        final var mockFile = mock(MockMultipartFile.class);
+        final byte[] image = new byte[100000];
+
+        when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
+        when(imageProcessingService.compress(mockFile)).thenReturn(new ProcessedImageDTO(image, Map.of()));
+        when(utils.getAuthUser()).thenReturn(user);
+
+        final Project updatedProject = projectService.addCoverImage(projectId, mockFile);
+
+        verify(projectRepository).updateCoverImage(projectId, image);
+        verify(projectRepository, never()).save(any());
+        assertEquals("/project/" + projectId + "/cover-image", updatedProject.getCoverImageUrl());
     }
 
     @Test
-    @DisplayName("addCoverImage - should save the project")
-    void testAddCoverImageShouldSaveTheProject() {
+    @DisplayName("addCoverImage - should save the image variants")
+    void testAddCoverImageShouldSaveTheImageVariants() {
         final long projectId = 1;
 
         final var mockFile = mock(MockMultipartFile.class);
+        final ProcessedImageDTO coverImage = new ProcessedImageDTO(
+                new byte[100000],
+                Map.of(ImageVariantType.THUMB, new byte[10], ImageVariantType.CARD, new byte[100])
+        );
 
         when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
-        when(utils.checkImageValidityAndCompress(mockFile)).thenReturn(new byte[100000]);
+        when(imageProcessingService.compress(mockFile)).thenReturn(coverImage);
         when(utils.getAuthUser()).thenReturn(user);
 
         projectService.addCoverImage(projectId, mockFile);
 
-        verify(projectRepository).save(project);
+        verify(imageVariantService).saveVariants(ImageOwnerType.PROJECT, projectId, coverImage);
+    }
+
+    @Test
+    @DisplayName("addCoverImageAsync - should check the project before submitting the image")
+    void testAddCoverImageAsyncShouldCheckTheProjectBeforeSubmittingTheImage() {
+        final long projectId = 1;
+        final var mockFile = mock(MockMultipartFile.class);
+
+        when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
+        when(utils.getAuthUser()).thenReturn(user);
+        doThrow(ProjectEditabilityException.class).when(projectUtils).checkProjectEditability(project);
+
+        assertThrows(ProjectEditabilityException.class, () ->
+                projectService.addCoverImageAsync(projectId, mockFile));
+
+        verify(utils).checkPermission(project.getCreator_id());
+        verifyNoInteractions(imageProcessingService);
+    }
+
+    @Test
+    @DisplayName("addCoverImageAsync - should update the cover image when the job completes")
+    void testAddCoverImageAsyncShouldUpdateTheCoverImageWhenTheJobCompletes() {
+        final long projectId = 1;
+        final var mockFile = mock(MockMultipartFile.class);
+        final ProcessedImageDTO coverImage = new ProcessedImageDTO(new byte[]{1, 2, 3}, Map.of());
+
+        when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
+        when(utils.getAuthUser()).thenReturn(user);
+        when(projectRepository.findAccessInfo(projectId)).thenReturn(Optional.of(accessInfo(project)));
+        when(imageProcessingService.submit(eq(mockFile), any())).thenAnswer(invocation -> {
+            invocation.<Consumer<ProcessedImageDTO>>getArgument(1).accept(coverImage);
+            return new ImageJobDTO(UUID.randomUUID(), ImageJobStatus.DONE, null);
+        });
+
+        projectService.addCoverImageAsync(projectId, mockFile);
+
+        verify(projectRepository).updateCoverImage(projectId, coverImage.image());
+        verify(imageVariantService).saveVariants(ImageOwnerType.PROJECT, projectId, coverImage);
+        verify(projectRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("addCoverImageAsync - shouldn't update the cover image when the project stopped being editable")
+    void testAddCoverImageAsyncShouldntUpdateTheCoverImageWhenTheProjectStoppedBeingEditable() {
+        final long projectId = 1;
+        final var mockFile = mock(MockMultipartFile.class);
+        final ProcessedImageDTO coverImage = new ProcessedImageDTO(new byte[]{1, 2, 3}, Map.of());
+        final ProjectAccessInfo concluded = accessInfo(project);
+
+        when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
+        when(utils.getAuthUser()).thenReturn(user);
+        when(projectRepository.findAccessInfo(projectId)).thenReturn(Optional.of(concluded));
+        lenient().doThrow(ProjectEditabilityException.class).when(projectUtils).checkProjectEditability(concluded);
+        when(imageProcessingService.submit(eq(mockFile), any())).thenAnswer(invocation -> {
+            invocation.<Consumer<ProcessedImageDTO>>getArgument(1).accept(coverImage);
+            return new ImageJobDTO(UUID.randomUUID(), ImageJobStatus.DONE, null);
+        });
+
+        assertThrows(ProjectEditabilityException.class, () ->
+                projectService.addCoverImageAsync(projectId, mockFile));
+
+        verify(projectRepository, never()).updateCoverImage(anyLong(), any());
+        verifyNoInteractions(imageVariantService);
     }
 
     @Test
@@ -473,17 +836,30 @@ class ProjectServiceTest {
     }
 
     @Test
-    @DisplayName("removeCoverImage - should set project cover_image to null and save")
-    void testShouldSetProjectCoverImageToNullAndSave() {
+    @DisplayName("removeCoverImage - should set the image column to null")
+    void testShouldSetProjectCoverImageToNull() {
         final long projectId = 1;
+        project.setCover_image_hash("hash");
         when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
         when(utils.getAuthUser()).thenReturn(user);
 
-        projectService.removeCoverImage(projectId);
+        final Project updatedProject = projectService.removeCoverImage(projectId);
 
-        verify(projectRepository).save(projectCaptor.capture());
+        verify(projectRepository).updateCoverImage(projectId, null);
+        verify(projectRepository, never()).save(any());
+        assertNull(updatedProject.getCoverImageUrl());
+    }
+
+    @Test
+    @DisplayName("removeCoverImage - should delete the image variants")
+    void testRemoveCoverImageShouldDeleteTheImageVariants() {
+        final long projectId = 1;
+        when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
+        when(utils.getAuthUser()).thenReturn(user);
+
+        projectService.removeCoverImage(projectId);
 
-        assertNull(projectCaptor.getValue().getCover_image());
+        verify(imageVariantService).deleteVariants(ImageOwnerType.PROJECT, projectId);
     }
 
     @Test
@@ -520,6 +896,7 @@ class ProjectServiceTest {
         projectService.conclude(projectId);
 
         verify(projectRepository).save(projectCaptor.capture());
+        verify(accessCache).invalidate(projectId);
 
         assertEquals(
                 (long) ProjectStatusEnum.DONE.getValue(),
@@ -561,6 +938,7 @@ class ProjectServiceTest {
         projectService.cancel(projectId);
 
         verify(projectRepository).save(projectCaptor.capture());
+        verify(accessCache).invalidate(projectId);
 
         assertEquals(
                 (long) ProjectStatusEnum.CANCELED.getValue(),
@@ -568,6 +946,39 @@ class ProjectServiceTest {
         );
     }
 
+    @Test
+    @DisplayName("cancel - should update the search index")
+    void testCancelShouldUpdateTheSearchIndex() {
+        final long projectId = 1;
+        when(projectRepository.findById(projectId)).thenReturn(Optional.of(project));
+        when(projectRepository.save(project)).thenReturn(project);
+        when(utils.getAuthUser()).thenReturn(user);
+
+        projectService.cancel(projectId);
+
+        verify(searchIndex).index(project);
+    }
+
+    @Test
+    @DisplayName("createNew - should index the project with the creator name")
+    void testCreateNewShouldIndexTheProjectWithTheCreatorName() {
+        when(utils.getAuthUser()).thenReturn(user);
+        when(projectRepository.save(any(Project.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        final Project savedProject = projectService.createNew(new CreateProjectDTO(
+                "project title",
+                "project description",
+                ProjectCategoryEnum.SPORTS.getValue(),
+                ProjectStatusEnum.AWAITING_FUNDING.getValue(),
+                null,
+                LocalDate.now(),
+                LocalDate.now().plusDays(15)
+        ));
+
+        verify(searchIndex).index(savedProject, user.getName());
+        verify(generalInfosCounters).addProject();
+    }
+
     @DisplayName("checkIfExistsById - should accept just positive numbers")
     @ParameterizedTest
     @CsvSource({
@@ -591,6 +1002,40 @@ class ProjectServiceTest {
         verify(projectRepository).existsById(id);
     }
 
+    @Test
+    @DisplayName("getAccessInfo - should read the cache without logging a search")
+    void testGetAccessInfoShouldReadTheCacheWithoutLoggingASearch() {
+        final ProjectAccessInfo accessInfo = new ProjectAccessInfo(
+                1, 2, ProjectStatusEnum.IN_PROGRESS.getValue(), false, LocalDate.now()
+        );
+        when(accessCache.get(1)).thenReturn(accessInfo);
+
+        assertEquals(accessInfo, projectService.getAccessInfo(1));
+        verifyNoInteractions(searchLogService, searchTrends, projectRepository);
+    }
+
+    @Test
+    @DisplayName("getAccessInfo - should accept just positive numbers")
+    void testGetAccessInfoShouldAcceptJustPositiveNumbers() {
+        assertThrows(InvalidParametersException.class, () -> projectService.getAccessInfo(0));
+        verifyNoInteractions(accessCache);
+    }
+
+    @Test
+    @DisplayName("getProjectsStatus - should map the status of every project found")
+    void testGetProjectsStatusShouldMapTheStatusOfEveryProjectFound() {
+        final ProjectStatusDTO status = mock(ProjectStatusDTO.class);
+        when(status.getId()).thenReturn(4L);
+        when(status.getStatusId()).thenReturn((long) ProjectStatusEnum.IN_PROGRESS.getValue());
+        when(projectRepository.getProjectsStatus("4")).thenReturn(List.of(status));
+
+        assertEquals(
+                Map.of(4L, (long) ProjectStatusEnum.IN_PROGRESS.getValue()),
+                projectService.getProjectsStatus(List.of(4L))
+        );
+        assertEquals(Map.of(), projectService.getProjectsStatus(List.of()));
+    }
+
     @Test
     @DisplayName("concludeAllProjectsEndingYesterdayNotCancelled - should conclude the projects")
     void testConcludeAllProjectsEndingYesterdayNotCancelledShouldConcludeTheProjects() {
@@ -602,6 +1047,7 @@ class ProjectServiceTest {
         projectService.concludeAllProjectsEndingYesterdayNotCancelled();
 
         verify(projectRepository).saveAll(projectListCaptor.capture());
+        verify(accessCache).invalidate(project.getId());
 
         for (Project project1 : projectListCaptor.getValue()) {
             assertEquals(
@@ -620,21 +1066,114 @@ class ProjectServiceTest {
     }
 
     @Test
-    @DisplayName("getMostSearchedProjects - should fetch the database")
-    void testGetMostSearchedProjectsShouldFetchTheDatabase() {
-        final var mostSearchedProjects = assertDoesNotThrow(() ->
-                projectService.getMostSearchedProjects(1));
+    @DisplayName("getMostSearchedProjects - should take the total from the page")
+    void testGetMostSearchedProjectsShouldTakeTheTotalFromThePage() {
+        final ProjectsList project = mock(ProjectsList.class);
+        when(project.getTotalRegisters()).thenReturn(14L);
+        when(projectRepository.getMostSearchedProjects(1)).thenReturn(List.of(project));
 
-        assertInstanceOf(ProjectsListDTO.class, mostSearchedProjects);
+        final ProjectsListDTO mostSearchedProjects = projectService.getMostSearchedProjects(1);
+
+        assertEquals(14L, mostSearchedProjects.totalRegisters());
+        verify(projectRepository, never()).countTotalSearchedProjects();
     }
 
     @Test
-    @DisplayName("getTopDonatedProjects - should fetch the database")
-    void testGetTopDonatedProjectsShouldFetchTheDatabase() {
-        final var topDonatedProjects = assertDoesNotThrow(() ->
-                projectService.getTopDonatedProjects(1));
+    @DisplayName("getMostSearchedProjects - should count separately when the page is past the last one")
+    void testGetMostSearchedProjectsShouldCountSeparatelyWhenThePageIsPastTheLastOne() {
+        when(projectRepository.countTotalSearchedProjects()).thenReturn(14L);
+
+        final ProjectsListDTO mostSearchedProjects = projectService.getMostSearchedProjects(5);
 
-        assertInstanceOf(ProjectsListDTO.class, topDonatedProjects);
+        assertEquals(14L, mostSearchedProjects.totalRegisters());
+    }
+
+    @Test
+    @DisplayName("getMostSearchedProjects - should hydrate the page ranked by the search trends")
+    void testGetMostSearchedProjectsShouldHydrateThePageRankedByTheSearchTrends() {
+        when(searchTrends.isReady()).thenReturn(true);
+        when(searchTrends.countTrackedProjects()).thenReturn(12);
+        when(searchTrends.getTopProjects(10, 10)).thenReturn(List.of(new SearchTrend(8, 40), new SearchTrend(3, 25)));
+
+        final ProjectsListDTO mostSearchedProjects = projectService.getMostSearchedProjects(2);
+
+        assertEquals(12L, mostSearchedProjects.totalRegisters());
+        verify(projectRepository).getProjectsListInOrder("8,3");
+        verify(projectRepository, never()).getMostSearchedProjects(anyInt());
+    }
+
+    @Test
+    @DisplayName("getMostSearchedProjects - shouldn't query the database past the tracked projects")
+    void testGetMostSearchedProjectsShouldntQueryTheDatabasePastTheTrackedProjects() {
+        when(searchTrends.isReady()).thenReturn(true);
+        when(searchTrends.getTopProjects(anyInt(), anyInt())).thenReturn(List.of());
+
+        final ProjectsListDTO mostSearchedProjects = projectService.getMostSearchedProjects(20);
+
+        assertTrue(mostSearchedProjects.projectsLists().isEmpty());
+        verifyNoInteractions(projectRepository);
+    }
+
+    @Test
+    @DisplayName("getTopDonatedProjects - should take the total from a partial first page")
+    void testGetTopDonatedProjectsShouldTakeTheTotalFromAPartialFirstPage() {
+        when(projectRepository.getTopDonatedProjects(1)).thenReturn(List.of(mock(ProjectsList.class), mock(ProjectsList.class)));
+
+        final ProjectsListDTO topDonatedProjects = projectService.getTopDonatedProjects(1);
+
+        assertEquals(2L, topDonatedProjects.totalRegisters());
+        verify(projectRepository, never()).countTotalDonatedProjects();
+    }
+
+    @Test
+    @DisplayName("getTopDonatedProjects - should count the projects when the page is full")
+    void testGetTopDonatedProjectsShouldCountTheProjectsWhenThePageIsFull() {
+        final List<ProjectsList> page = Collections.nCopies(10, mock(ProjectsList.class));
+        when(projectRepository.getTopDonatedProjects(2)).thenReturn(page);
+        when(projectRepository.countTotalDonatedProjects()).thenReturn(37L);
+
+        final ProjectsListDTO topDonatedProjects = projectService.getTopDonatedProjects(2);
+
+        assertEquals(37L, topDonatedProjects.totalRegisters());
+        assertEquals(page, topDonatedProjects.projectsLists());
+    }
+
+    @Test
+    @DisplayName("getTopDonatedProjects - shouldn't count an empty first page")
+    void testGetTopDonatedProjectsShouldntCountAnEmptyFirstPage() {
+        final ProjectsListDTO topDonatedProjects = projectService.getTopDonatedProjects(1);
+
+        assertEquals(0L, topDonatedProjects.totalRegisters());
+        verify(projectRepository, never()).countTotalDonatedProjects();
+    }
+
+    @Test
+    @DisplayName("getMostSearchedProjects - should read the period buckets")
+    void testGetMostSearchedProjectsShouldReadThePeriodBuckets() {
+        final ReportPeriod period = new ReportPeriod(LocalDateTime.now().minusDays(7), LocalDateTime.now(), true);
+        final ProjectsList project = mock(ProjectsList.class);
+        when(project.getTotalRegisters()).thenReturn(4L);
+        when(projectRepository.getMostSearchedProjectsBetween(period.start(), period.end(), true, 1)).thenReturn(List.of(project));
+
+        final ProjectsListDTO mostSearchedProjects = projectService.getMostSearchedProjects(1, period);
+
+        assertEquals(4L, mostSearchedProjects.totalRegisters());
+        verifyNoInteractions(searchTrends);
+    }
+
+    @Test
+    @DisplayName("getTopDonatedProjects - should take the total from the first page when the page is past the last one")
+    void testGetTopDonatedProjectsShouldTakeTheTotalFromTheFirstPageWhenThePageIsPastTheLastOne() {
+        final ReportPeriod period = new ReportPeriod(LocalDateTime.now().minusDays(30), LocalDateTime.now(), false);
+        final ProjectsList project = mock(ProjectsList.class);
+        when(project.getTotalRegisters()).thenReturn(6L);
+        when(projectRepository.getTopDonatedProjectsBetween(period.start(), period.end(), false, 3)).thenReturn(List.of());
+        when(projectRepository.getTopDonatedProjectsBetween(period.start(), period.end(), false, 1)).thenReturn(List.of(project));
+
+        final ProjectsListDTO topDonatedProjects = projectService.getTopDonatedProjects(3, period);
+
+        assertEquals(6L, topDonatedProjects.totalRegisters());
+        assertTrue(topDonatedProjects.projectsLists().isEmpty());
     }
 
     @Test
@@ -644,4 +1183,26 @@ class ProjectServiceTest {
 
         verify(projectRepository).getMostSearchedCategories();
     }
+
+    @Test
+    @DisplayName("getMostSearchedCategories - should name the categories ranked by the search trends")
+    void testGetMostSearchedCategoriesShouldNameTheCategoriesRankedByTheSearchTrends() {
+        when(searchTrends.isReady()).thenReturn(true);
+        when(searchTrends.getTopCategories()).thenReturn(List.of(new SearchTrend(2, 30), new SearchTrend(5, 7)));
+
+        projectService.getMostSearchedCategories();
+
+        verify(projectRepository).getCategoriesSearchTotals("2,5", "30,7");
+        verify(projectRepository, never()).getMostSearchedCategories();
+    }
+
+    private static ProjectAccessInfo accessInfo(Project project) {
+        return new ProjectAccessInfo(
+                project.getId(),
+                project.getCreator_id(),
+                project.getStatus_id(),
+                project.isNeed_to_follow_order(),
+                project.getFinal_date()
+        );
+    }
 }
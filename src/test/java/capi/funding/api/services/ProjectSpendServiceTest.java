@@ -2,6 +2,7 @@ package capi.funding.api.services;
 
 import capi.funding.api.dto.CreateProjectSpendDTO;
 import capi.funding.api.dto.EditProjectSpendDTO;
+import capi.funding.api.dto.ProjectAccessInfo;
 import capi.funding.api.entity.Project;
 import capi.funding.api.entity.ProjectSpend;
 import capi.funding.api.enums.ProjectCategoryEnum;
@@ -148,11 +149,11 @@ class ProjectSpendServiceTest {
     @Test
     @DisplayName("createNew - should check project editability")
     void testCreateNewShouldCheckProjectEditability() {
-        when(projectService.findById(projectId)).thenReturn(project);
+        when(projectService.getAccessInfo(projectId)).thenReturn(accessInfo(project));
 
         service.createNew(createProjectMilestoneDTO);
 
-        verify(projectUtils).checkProjectEditability(project);
+        verify(projectUtils).checkProjectEditability(accessInfo(project));
     }
 
     @Test
@@ -167,7 +168,7 @@ class ProjectSpendServiceTest {
     @DisplayName("edit - should check user permission")
     void testEditShouldCheckUserPermission() {
         when(repository.findById(spendId)).thenReturn(Optional.of(projectSpend));
-        when(projectService.findById(projectSpend.getProject_id())).thenReturn(project);
+        when(projectService.getAccessInfo(projectSpend.getProject_id())).thenReturn(accessInfo(project));
 
         service.edit(spendId, editProjectSpendDTO);
 
@@ -178,18 +179,18 @@ class ProjectSpendServiceTest {
     @DisplayName("edit - should check project editability")
     void testEditShouldCheckProjectEditability() {
         when(repository.findById(spendId)).thenReturn(Optional.of(projectSpend));
-        when(projectService.findById(projectSpend.getProject_id())).thenReturn(project);
+        when(projectService.getAccessInfo(projectSpend.getProject_id())).thenReturn(accessInfo(project));
 
         service.edit(spendId, editProjectSpendDTO);
 
-        verify(projectUtils).checkProjectEditability(project);
+        verify(projectUtils).checkProjectEditability(accessInfo(project));
     }
 
     @Test
     @DisplayName("edit - should save the updated spend")
     void testEditShouldSaveTheUpdatedSpend() {
         when(repository.findById(spendId)).thenReturn(Optional.of(projectSpend));
-        when(projectService.findById(projectSpend.getProject_id())).thenReturn(project);
+        when(projectService.getAccessInfo(projectSpend.getProject_id())).thenReturn(accessInfo(project));
 
         service.edit(spendId, editProjectSpendDTO);
 
@@ -203,7 +204,7 @@ class ProjectSpendServiceTest {
     @DisplayName("delete - should check user permission")
     void testDeleteShouldCheckUserPermission() {
         when(repository.findById(spendId)).thenReturn(Optional.of(projectSpend));
-        when(projectService.findById(projectSpend.getProject_id())).thenReturn(project);
+        when(projectService.getAccessInfo(projectSpend.getProject_id())).thenReturn(accessInfo(project));
 
         service.delete(spendId);
 
@@ -214,21 +215,31 @@ class ProjectSpendServiceTest {
     @DisplayName("delete - should check project editability")
     void testDeleteShouldCheckProjectEditability() {
         when(repository.findById(spendId)).thenReturn(Optional.of(projectSpend));
-        when(projectService.findById(projectSpend.getProject_id())).thenReturn(project);
+        when(projectService.getAccessInfo(projectSpend.getProject_id())).thenReturn(accessInfo(project));
 
         service.delete(spendId);
 
-        verify(projectUtils).checkProjectEditability(project);
+        verify(projectUtils).checkProjectEditability(accessInfo(project));
     }
 
     @Test
     @DisplayName("delete - should delete from database")
     void testShouldDeleteFromDatabase() {
         when(repository.findById(spendId)).thenReturn(Optional.of(projectSpend));
-        when(projectService.findById(projectSpend.getProject_id())).thenReturn(project);
+        when(projectService.getAccessInfo(projectSpend.getProject_id())).thenReturn(accessInfo(project));
 
         service.delete(spendId);
 
         verify(repository).deleteById(spendId);
     }
+
+    private static ProjectAccessInfo accessInfo(Project project) {
+        return new ProjectAccessInfo(
+                project.getId(),
+                project.getCreator_id(),
+                project.getStatus_id(),
+                project.isNeed_to_follow_order(),
+                project.getFinal_date()
+        );
+    }
 }
@@ -1,12 +1,18 @@
 package capi.funding.api.services;
 
 import capi.funding.api.dto.EditUserDTO;
+import capi.funding.api.dto.ImageJobDTO;
 import capi.funding.api.dto.NewPasswordDTO;
+import capi.funding.api.dto.ProcessedImageDTO;
 import capi.funding.api.entity.User;
+import capi.funding.api.enums.ImageJobStatus;
+import capi.funding.api.enums.ImageOwnerType;
+import capi.funding.api.enums.ImageVariantType;
 import capi.funding.api.infra.exceptions.DataIntegrityException;
 import capi.funding.api.infra.exceptions.InvalidParametersException;
 import capi.funding.api.infra.exceptions.NotFoundException;
 import capi.funding.api.repository.UserRepository;
+import capi.funding.api.security.UserPrincipalCache;
 import capi.funding.api.utils.Utils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -23,7 +29,10 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -43,6 +52,12 @@ class UserServiceTest {
     @Mock
     private BCryptPasswordEncoder bCryptPasswordEncoder;
     @Mock
+    private ImageProcessingService imageProcessingService;
+    @Mock
+    private ImageVariantService imageVariantService;
+    @Mock
+    private UserPrincipalCache usersCache;
+    @Mock
     private UserRepository userRepository;
 
     @BeforeEach
@@ -61,28 +76,31 @@ class UserServiceTest {
     }
 
     @Test
-    @DisplayName("getAuthUser - should fetch the user from the authentication context")
-    void testGetAuthUserShouldFetchTheUserFromTheAuthenticationContext() {
-        userService.getAuthUser();
+    @DisplayName("getAuthUser - should load the full authenticated user from the database")
+    void testGetAuthUserShouldLoadTheFullAuthenticatedUserFromTheDatabase() {
+        when(utils.getAuthUser()).thenReturn(user);
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
 
-        verify(utils).getAuthUser();
+        assertEquals(user, userService.getAuthUser());
     }
 
     @Test
-    @DisplayName("changePassword - should fetch the user from the authentication context")
-    void testChangePasswordShouldFetchTheUserFromTheAuthenticationContext() {
+    @DisplayName("changePassword - should load the authenticated user from the database")
+    void testChangePasswordShouldLoadTheAuthenticatedUserFromTheDatabase() {
         when(utils.getAuthUser()).thenReturn(user);
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
 
         userService.changePassword(newPasswordDTO);
 
         verify(utils).getAuthUser();
-        verify(userRepository, never()).findById(any());
+        verify(userRepository).findById(user.getId());
     }
 
     @Test
     @DisplayName("changePassword - should encrypt the password")
     void testShouldEncryptThePassword() {
         when(utils.getAuthUser()).thenReturn(user);
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
         when(userRepository.save(user)).thenReturn(user);
 
         final User user = userService.changePassword(newPasswordDTO);
@@ -92,88 +110,189 @@ class UserServiceTest {
     }
 
     @Test
-    @DisplayName("changePassword - should save the user")
-    void testChangePasswordShouldSaveTheUser() {
+    @DisplayName("changePassword - should save the user and invalidate the cached principal")
+    void testChangePasswordShouldSaveTheUserAndInvalidateTheCachedPrincipal() {
         when(utils.getAuthUser()).thenReturn(user);
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
 
         userService.changePassword(newPasswordDTO);
 
         verify(userRepository).save(any(User.class));
+        verify(usersCache).invalidate(user.getEmail());
     }
 
     @Test
-    @DisplayName("editUser - should get the editing user from the authentication context")
-    void testShouldEditTheUserFromTheAuthenticationContext() {
+    @DisplayName("editUser - should load the authenticated user from the database")
+    void testEditUserShouldLoadTheAuthenticatedUserFromTheDatabase() {
         when(utils.getAuthUser()).thenReturn(user);
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
 
         userService.editUser(editUserDTO);
 
         verify(utils).getAuthUser();
-        verify(userRepository, never()).findById(any());
+        verify(userRepository).findById(user.getId());
     }
 
     @Test
     @DisplayName("editUser - should update the user attributes")
     void testShouldUpdateTheUserAttributes() {
         when(utils.getAuthUser()).thenReturn(user);
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
         when(userRepository.save(user)).thenReturn(user);
 
         final User user = userService.editUser(editUserDTO);
 
         verify(userRepository).save(user);
+        verify(usersCache).invalidate(user.getEmail());
         assertEquals(user.getName(), editUserDTO.name());
     }
 
     @Test
-    @DisplayName("changeProfileImage - should fetch the user from the authentication context")
-    void testChangeProfileImageShouldFetchTheUserFromTheAuthenticationContext() {
+    @DisplayName("changeProfileImage - should load the authenticated user from the database")
+    void testChangeProfileImageShouldLoadTheAuthenticatedUserFromTheDatabase() {
         MockMultipartFile multipartFile = new MockMultipartFile(
                 "file", "test-image.jpg", "image/jpeg", (byte[]) null
         );
 
         when(utils.getAuthUser()).thenReturn(user);
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(imageProcessingService.compress(multipartFile)).thenReturn(new ProcessedImageDTO(new byte[100], Map.of()));
 
         userService.changeProfileImage(multipartFile);
 
         verify(utils).getAuthUser();
-        verify(userRepository, never()).findById(any());
+        verify(userRepository).findById(user.getId());
     }
 
     @Test
-    @DisplayName("changeProfileImage - should save the user")
-    void testChangeProfileImageShouldSaveTheUser() {
+    @DisplayName("changeProfileImage - should update the image column and invalidate the cached principal")
+    void testChangeProfileImageShouldUpdateTheImageColumnAndInvalidateTheCachedPrincipal() {
         MockMultipartFile multipartFile = new MockMultipartFile(
                 "file", "test-image.jpg", "image/jpeg", (byte[]) null
         );
+        final byte[] image = new byte[100];
 
         when(utils.getAuthUser()).thenReturn(user);
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(imageProcessingService.compress(multipartFile)).thenReturn(new ProcessedImageDTO(image, Map.of()));
+
+        final User updatedUser = userService.changeProfileImage(multipartFile);
+
+        verify(userRepository).updateProfileImage(user.getId(), image);
+        verify(userRepository, never()).save(any());
+        verify(usersCache).invalidate(user.getEmail());
+        assertEquals("/user/" + user.getId() + "/profile-image", updatedUser.getProfileImageUrl());
+    }
+
+    @Test
+    @DisplayName("changeProfileImage - should save the image variants")
+    void testChangeProfileImageShouldSaveTheImageVariants() {
+        final MockMultipartFile multipartFile = new MockMultipartFile(
+                "file", "test-image.jpg", "image/jpeg", new byte[]{1}
+        );
+        final ProcessedImageDTO profileImage = new ProcessedImageDTO(
+                new byte[100], Map.of(ImageVariantType.THUMB, new byte[10])
+        );
+
+        when(utils.getAuthUser()).thenReturn(user);
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(imageProcessingService.compress(multipartFile)).thenReturn(profileImage);
 
         userService.changeProfileImage(multipartFile);
 
-        verify(userRepository).save(user);
+        verify(imageVariantService).saveVariants(ImageOwnerType.USER, user.getId(), profileImage);
     }
 
     @Test
-    @DisplayName("removeProfileImage - should fetch the user from the authentication context")
-    void testRemoveProfileImageShouldFetchTheUserFromTheAuthenticationContext() {
+    @DisplayName("changeProfileImageAsync - should update the profile image of the authenticated user")
+    void testChangeProfileImageAsyncShouldUpdateTheProfileImageOfTheAuthenticatedUser() {
+        final MockMultipartFile multipartFile = new MockMultipartFile(
+                "file", "test-image.jpg", "image/jpeg", new byte[]{1}
+        );
+        final ProcessedImageDTO profileImage = new ProcessedImageDTO(new byte[]{1, 2, 3}, Map.of());
+
         when(utils.getAuthUser()).thenReturn(user);
-        when(userRepository.save(user)).thenReturn(user);
+        when(imageProcessingService.submit(eq(multipartFile), any())).thenAnswer(invocation -> {
+            invocation.<Consumer<ProcessedImageDTO>>getArgument(1).accept(profileImage);
+            return new ImageJobDTO(UUID.randomUUID(), ImageJobStatus.DONE, null);
+        });
+
+        userService.changeProfileImageAsync(multipartFile);
+
+        verify(userRepository).updateProfileImage(user.getId(), profileImage.image());
+        verify(usersCache).invalidate(user.getEmail());
+        verify(imageVariantService).saveVariants(ImageOwnerType.USER, user.getId(), profileImage);
+        verify(userRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("removeProfileImage - should load the authenticated user from the database")
+    void testRemoveProfileImageShouldLoadTheAuthenticatedUserFromTheDatabase() {
+        when(utils.getAuthUser()).thenReturn(user);
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
 
         userService.removeProfileImage();
 
         verify(utils).getAuthUser();
-        verify(userRepository, never()).findById(any());
+        verify(userRepository).findById(user.getId());
     }
 
     @Test
     @DisplayName("removeProfileImage - should set user profile image to null")
     void testRemoveProfileImageShouldSetUserProfileImageToNull() {
+        user.setProfile_image_hash("hash");
+
         when(utils.getAuthUser()).thenReturn(user);
-        when(userRepository.save(user)).thenReturn(user);
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+
+        final User updatedUser = userService.removeProfileImage();
+
+        verify(userRepository).updateProfileImage(user.getId(), null);
+        verify(usersCache).invalidate(user.getEmail());
+        assertNull(updatedUser.getProfileImageUrl());
+    }
+
+    @Test
+    @DisplayName("removeProfileImage - should delete the image variants")
+    void testRemoveProfileImageShouldDeleteTheImageVariants() {
+        when(utils.getAuthUser()).thenReturn(user);
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+
+        userService.removeProfileImage();
+
+        verify(imageVariantService).deleteVariants(ImageOwnerType.USER, user.getId());
+    }
+
+    @Test
+    @DisplayName("getProfileImageMetadata - should throw NotFoundException when the user has no image")
+    void testShouldThrowNotFoundExceptionWhenTheUserHasNoImage() {
+        when(userRepository.findProfileImageMetadata(1)).thenReturn(Optional.empty());
+
+        final NotFoundException exception = assertThrows(NotFoundException.class, () ->
+                userService.getProfileImageMetadata(1, null));
+
+        assertEquals("profile image not found", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("getProfileImage - should return the stored image")
+    void testGetProfileImageShouldReturnTheStoredImage() {
+        final byte[] image = {1, 2, 3};
+
+        when(userRepository.findProfileImage(1)).thenReturn(Optional.of(image));
+
+        assertArrayEquals(image, userService.getProfileImage(1, null));
+    }
+
+    @Test
+    @DisplayName("getProfileImage - should fall back to the stored image when the variant doesn't exist")
+    void testGetProfileImageShouldFallBackToTheStoredImageWhenTheVariantDoesntExist() {
+        final byte[] image = {1, 2, 3};
 
-        final User user = userService.removeProfileImage();
+        when(imageVariantService.findVariant(ImageOwnerType.USER, 1, ImageVariantType.THUMB)).thenReturn(Optional.empty());
+        when(userRepository.findProfileImage(1)).thenReturn(Optional.of(image));
 
-        assertNull(user.getProfile_image());
+        assertArrayEquals(image, userService.getProfileImage(1, ImageVariantType.THUMB));
     }
 
     @DisplayName("findById - should accept just positive numbers")
@@ -1,5 +1,8 @@
 package capi.funding.api.utils;
 
+import capi.funding.api.dto.ProjectAccessInfo;
+import capi.funding.api.dto.ProjectsList;
+import capi.funding.api.dto.ProjectsListCursor;
 import capi.funding.api.dto.ProjectsListFiltersDTO;
 import capi.funding.api.entity.Project;
 import capi.funding.api.entity.ProjectMilestone;
@@ -8,6 +11,7 @@ import capi.funding.api.enums.ProjectStatusEnum;
 import capi.funding.api.infra.exceptions.InvalidParametersException;
 import capi.funding.api.infra.exceptions.MilestoneSequenceException;
 import capi.funding.api.infra.exceptions.ProjectEditabilityException;
+import capi.funding.api.infra.trending.SearchTrendTracker;
 import capi.funding.api.services.ProjectMilestoneService;
 import capi.funding.api.services.ProjectSearchLogService;
 import org.junit.jupiter.api.BeforeEach;
@@ -22,6 +26,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
@@ -53,6 +58,8 @@ class ProjectUtilsTest {
     private ProjectMilestoneService milestoneService;
     @Mock
     private ProjectSearchLogService searchLogService;
+    @Mock
+    private SearchTrendTracker searchTrends;
 
     @BeforeEach
     void setUp() {
@@ -99,7 +106,7 @@ class ProjectUtilsTest {
     @DisplayName("checkProjectEditability - shouldn't accept null parameters")
     void testShouldntAcceptNullParameters() {
         assertThrows(IllegalArgumentException.class, () ->
-                projectUtils.checkProjectEditability(null));
+                projectUtils.checkProjectEditability((Project) null));
     }
 
     @DisplayName("checkProjectEditability - should throw exception with a non-editable project status")
@@ -118,6 +125,23 @@ class ProjectUtilsTest {
         assertEquals(NON_EDITABLE_STATUS_MESSAGE.get(projectStatus), exception.getMessage());
     }
 
+    @DisplayName("checkProjectEditability - should check the status of the access info")
+    @ParameterizedTest
+    @CsvSource({
+            "DONE",
+            "CANCELED"
+    })
+    void testShouldCheckTheStatusOfTheAccessInfo(String projectStatus) {
+        final ProjectAccessInfo project = new ProjectAccessInfo(
+                1, 1, ProjectStatusEnum.valueOf(projectStatus).getValue(), false, LocalDate.now()
+        );
+
+        ProjectEditabilityException exception = assertThrows(ProjectEditabilityException.class, () ->
+                projectUtils.checkProjectEditability(project));
+
+        assertEquals(NON_EDITABLE_STATUS_MESSAGE.get(projectStatus), exception.getMessage());
+    }
+
     @DisplayName("checkProjectEditability - should pass with a editable project status")
     @ParameterizedTest
     @CsvSource({
@@ -189,7 +213,7 @@ class ProjectUtilsTest {
         final Project project = new Project();
 
         assertThrows(IllegalArgumentException.class, () ->
-                projectUtils.validateNeedToFollowOrder(null, projectMilestone));
+                projectUtils.validateNeedToFollowOrder((Project) null, projectMilestone));
 
         assertThrows(IllegalArgumentException.class, () ->
                 projectUtils.validateNeedToFollowOrder(project, null));
@@ -284,6 +308,18 @@ class ProjectUtilsTest {
         verify(searchLogService).saveAll(anyList());
     }
 
+    @Test
+    @DisplayName("logProjectSearch - should count the searched categories")
+    void testLogProjectSearchShouldCountTheSearchedCategories() {
+        when(utils.getAuthUser()).thenReturn(user);
+        filtersDTO.setProjectCategory(List.of(1, 3));
+
+        projectUtils.logProjectSearch(filtersDTO);
+
+        verify(searchTrends).recordCategorySearch(1);
+        verify(searchTrends).recordCategorySearch(3);
+    }
+
     @Test
     @DisplayName("logProjectSearch - shouldn't save when no filter is passed")
     void testLogProjectSearchShouldntSaveWhenNoFilterIsPassed() {
@@ -309,4 +345,43 @@ class ProjectUtilsTest {
 
         verifyNoInteractions(searchLogService);
     }
+
+    @DisplayName("getSearchTerm - should strip the LIKE wildcards added by buildFilters")
+    @ParameterizedTest
+    @CsvSource({
+            "'%my project%', 'my project'",
+            "'', ''"
+    })
+    void testGetSearchTermShouldStripTheLikeWildcardsAddedByBuildFilters(String likePattern, String searchTerm) {
+        assertEquals(searchTerm, projectUtils.getSearchTerm(likePattern));
+    }
+
+    @Test
+    @DisplayName("encodeCursor - should be decoded back to the last project position")
+    void testEncodeCursorShouldBeDecodedBackToTheLastProjectPosition() {
+        final ProjectsList lastProject = mock(ProjectsList.class);
+        when(lastProject.getProjectId()).thenReturn(42L);
+        when(lastProject.getTotalRaised()).thenReturn(new BigDecimal("1250.50"));
+
+        final String cursor = projectUtils.encodeCursor(lastProject);
+
+        assertEquals(
+                new ProjectsListCursor(new BigDecimal("1250.50"), 42L),
+                projectUtils.decodeCursor(cursor)
+        );
+    }
+
+    @DisplayName("decodeCursor - should throw exception when the cursor is invalid")
+    @ParameterizedTest
+    @CsvSource({
+            "not a cursor",
+            "MTAw",
+            "YWJjOjE"
+    })
+    void testDecodeCursorShouldThrowExceptionWhenTheCursorIsInvalid(String cursor) {
+        final InvalidParametersException exception = assertThrows(InvalidParametersException.class, () ->
+                projectUtils.decodeCursor(cursor));
+
+        assertEquals("invalid cursor", exception.getMessage());
+    }
 }
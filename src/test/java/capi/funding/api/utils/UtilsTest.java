@@ -1,6 +1,9 @@
 package capi.funding.api.utils;
 
+import capi.funding.api.dto.ImageMetadata;
+import capi.funding.api.dto.InvalidFieldsDTO;
 import capi.funding.api.entity.User;
+import capi.funding.api.enums.ImageVariantType;
 import capi.funding.api.infra.exceptions.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -12,20 +15,32 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.validation.Errors;
+import org.springframework.validation.FieldError;
 import org.springframework.validation.Validator;
-
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.IOException;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.*;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @ActiveProfiles("test")
 @ExtendWith(MockitoExtension.class)
@@ -198,6 +213,85 @@ class UtilsTest {
         assertTrue(compressedFile.length < mockFile.getBytes().length);
     }
 
+    @DisplayName("getCompressedSize - should use the smallest threshold above the file size")
+    @ParameterizedTest
+    @CsvSource({
+            "10000, 500",
+            "300000, 1000",
+            "2000000, 2600",
+            "2900000, 3000"
+    })
+    void testShouldUseTheSmallestThresholdAboveTheFileSize(long fileSize, int compressedSize) {
+        assertEquals(compressedSize, utils.getCompressedSize(fileSize));
+    }
+
+    @DisplayName("checkImageValidityAndCompress - should compress from the file stream")
+    @ParameterizedTest
+    @CsvSource({
+            "test-file.jpeg",
+            "test-file.jpg",
+            "test-file.jfif"
+    })
+    void testShouldCompressFromTheFileStream(String fileName) throws IOException {
+        final MockMultipartFile mockFile = spy(new MockMultipartFile(
+                "file",
+                fileName,
+                "image/jpeg",
+                Objects.requireNonNull(getClass().getClassLoader().getResourceAsStream("test-normal-image.jpeg"))
+        ));
+
+        final byte[] compressedFile = utils.checkImageValidityAndCompress(mockFile);
+
+        assertEquals(MediaType.IMAGE_JPEG, utils.getImageMediaType(compressedFile));
+        assertTrue(compressedFile.length < mockFile.getSize());
+        verify(mockFile, never()).getBytes();
+    }
+
+    @Test
+    @DisplayName("compressImage - should scale the subsampled image to the compressed size")
+    void testShouldScaleTheSubsampledImageToTheCompressedSize() throws IOException {
+        final byte[] image = Objects.requireNonNull(getClass().getClassLoader().getResourceAsStream("test-normal-image.jpeg"))
+                .readAllBytes();
+
+        final byte[] compressedImage = utils.compressImage(new ByteArrayInputStream(image), "jpeg", utils.getCompressedSize(image));
+
+        final BufferedImage decodedImage = ImageIO.read(new ByteArrayInputStream(compressedImage));
+        assertEquals(utils.getCompressedSize(image), Math.max(decodedImage.getWidth(), decodedImage.getHeight()));
+    }
+
+    @Test
+    @DisplayName("generateImageVariants - should scale the image down to every variant size")
+    void testShouldScaleTheImageDownToEveryVariantSize() throws IOException {
+        final byte[] image = Objects.requireNonNull(getClass().getClassLoader().getResourceAsStream("test-normal-image.jpeg"))
+                .readAllBytes();
+
+        final Map<ImageVariantType, byte[]> variants = utils.generateImageVariants(image);
+
+        assertEquals(Set.of(ImageVariantType.values()), variants.keySet());
+        for (ImageVariantType variant : ImageVariantType.values()) {
+            final BufferedImage scaledImage = ImageIO.read(new ByteArrayInputStream(variants.get(variant)));
+
+            assertEquals(variant.getSize(), Math.max(scaledImage.getWidth(), scaledImage.getHeight()));
+            assertEquals(MediaType.IMAGE_JPEG, utils.getImageMediaType(variants.get(variant)));
+        }
+    }
+
+    @Test
+    @DisplayName("generateImageVariants - should reuse images that can't be scaled down")
+    void testShouldReuseImagesThatCantBeScaledDown() throws IOException {
+        final ByteArrayOutputStream smallPng = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(50, 40, BufferedImage.TYPE_INT_ARGB), "png", smallPng);
+        final byte[] webp = {'R', 'I', 'F', 'F', 0, 0, 0, 0, 'W', 'E', 'B', 'P'};
+
+        final Map<ImageVariantType, byte[]> pngVariants = utils.generateImageVariants(smallPng.toByteArray());
+        final Map<ImageVariantType, byte[]> webpVariants = utils.generateImageVariants(webp);
+
+        for (ImageVariantType variant : ImageVariantType.values()) {
+            assertArrayEquals(smallPng.toByteArray(), pngVariants.get(variant));
+            assertArrayEquals(webp, webpVariants.get(variant));
+        }
+    }
+
     @Test
     @DisplayName("validateObject - invalid object should throws exception")
     void testInvalidObjectShouldThrowsException() {
@@ -217,6 +311,17 @@ class UtilsTest {
                 utils.validateObject(null));
     }
 
+    @Test
+    @DisplayName("getInvalidFields - should list the field errors without throwing")
+    void testGetInvalidFieldsShouldListTheFieldErrorsWithoutThrowing() {
+        final TestDTO testDTO = new TestDTO(null);
+
+        when(errors.getFieldErrors()).thenReturn(List.of(new FieldError("testDTO", "name", "must not be blank")));
+        when(validator.validateObject(testDTO)).thenReturn(errors);
+
+        assertEquals(List.of(new InvalidFieldsDTO("name", "must not be blank")), utils.getInvalidFields(testDTO));
+    }
+
     @Test
     @DisplayName("validateObject - should pass when object is valid")
     void testShouldPassWhenObjectIsValid() {
@@ -228,6 +333,89 @@ class UtilsTest {
         assertDoesNotThrow(() -> utils.validateObject(testDTO));
     }
 
+    @Test
+    @DisplayName("getImageMediaType - should detect the media type from the image signature")
+    void testShouldDetectTheMediaTypeFromTheImageSignature() {
+        final byte[] jpeg = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0};
+        final byte[] png = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A};
+        final byte[] webp = {'R', 'I', 'F', 'F', 0, 0, 0, 0, 'W', 'E', 'B', 'P'};
+
+        assertEquals(MediaType.IMAGE_JPEG, utils.getImageMediaType(jpeg));
+        assertEquals(MediaType.IMAGE_PNG, utils.getImageMediaType(png));
+        assertEquals(MediaType.parseMediaType("image/webp"), utils.getImageMediaType(webp));
+        assertEquals(MediaType.APPLICATION_OCTET_STREAM, utils.getImageMediaType(new byte[]{1, 2}));
+    }
+
+    @Test
+    @DisplayName("buildImageResponse - should return the image with the validators and cache headers")
+    void testShouldReturnTheImageWithTheValidatorsAndCacheHeaders() {
+        final byte[] image = {(byte) 0x89, 'P', 'N', 'G'};
+        final ServletWebRequest request = new ServletWebRequest(
+                new MockHttpServletRequest("GET", "/project/1/cover-image"), new MockHttpServletResponse()
+        );
+
+        final ResponseEntity<byte[]> response = utils.buildImageResponse(request, imageMetadata(), () -> image);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"abc123\"", response.getHeaders().getETag());
+        assertEquals("no-cache, private", response.getHeaders().getCacheControl());
+        assertEquals(MediaType.IMAGE_PNG, response.getHeaders().getContentType());
+        assertArrayEquals(image, response.getBody());
+    }
+
+    @Test
+    @DisplayName("buildImageResponse - should let versioned urls be cached for long")
+    void testShouldLetVersionedUrlsBeCachedForLong() {
+        final MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/project/1/cover-image");
+        servletRequest.setParameter("v", "abc123");
+        final ServletWebRequest request = new ServletWebRequest(servletRequest, new MockHttpServletResponse());
+
+        final ResponseEntity<byte[]> response = utils.buildImageResponse(request, imageMetadata(), () -> new byte[]{1});
+
+        assertEquals("max-age=31536000, private, immutable", response.getHeaders().getCacheControl());
+    }
+
+    @Test
+    @DisplayName("buildImageResponse - should revalidate urls versioned with another hash")
+    void testShouldRevalidateUrlsVersionedWithAnotherHash() {
+        final MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/project/1/cover-image");
+        servletRequest.setParameter("v", "old-hash");
+        final ServletWebRequest request = new ServletWebRequest(servletRequest, new MockHttpServletResponse());
+
+        final ResponseEntity<byte[]> response = utils.buildImageResponse(request, imageMetadata(), () -> new byte[]{1});
+
+        assertEquals("no-cache, private", response.getHeaders().getCacheControl());
+    }
+
+    @Test
+    @DisplayName("buildImageResponse - shouldn't load the image when the client copy is still valid")
+    void testShouldntLoadTheImageWhenTheClientCopyIsStillValid() {
+        final MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET", "/project/1/cover-image");
+        servletRequest.addHeader(HttpHeaders.IF_NONE_MATCH, "\"abc123\"");
+        final ServletWebRequest request = new ServletWebRequest(servletRequest, new MockHttpServletResponse());
+
+        final ResponseEntity<byte[]> response = utils.buildImageResponse(request, imageMetadata(), () -> {
+            throw new AssertionError("image shouldn't be loaded");
+        });
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+    }
+
+    private static ImageMetadata imageMetadata() {
+        return new ImageMetadata() {
+            @Override
+            public String getHash() {
+                return "abc123";
+            }
+
+            @Override
+            public LocalDateTime getUpdatedAt() {
+                return LocalDateTime.of(2024, 5, 1, 10, 0);
+            }
+        };
+    }
+
     public record TestDTO(
             @NotNull
             @NotBlank